@@ -0,0 +1,39 @@
+package com.moodiary.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 백그라운드 작업 실행기 설정
+ *
+ * 일기 감정 분석처럼 오래 걸리는 외부 API 호출을 요청 스레드와 분리하기 위한
+ * 크기가 제한된 스레드 풀과 대기열을 제공합니다.
+ * 대기열이 가득 차면 작업이 거부(TaskRejectedException)되며, 호출자가 이를 처리합니다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${diary.analysis.executor.core-size:2}")
+    private int coreSize;
+
+    @Value("${diary.analysis.executor.max-size:4}")
+    private int maxSize;
+
+    @Value("${diary.analysis.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor diaryAnalysisExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("diary-analysis-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,14 @@
+package com.moodiary.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 배치 작업 스케줄링 설정
+ *
+ * 각 작업의 cron 설정이 "-"(기본값)이면 해당 작업은 스케줄되지 않습니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,6 +2,7 @@ package com.moodiary.config;
 
 import com.moodiary.jwt.JwtTokenFilter;
 import com.moodiary.service.GoogleService;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -41,6 +42,9 @@ public class SecurityConfig {
         return http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(authz -> authz
+                        // Mono/SseEmitter 응답의 ASYNC 디스패치와 오류 디스패치는 최초 요청에서 이미 인가됨
+                        // (JWT 필터는 최초 요청에서만 실행되므로 다시 검사하면 익명 요청으로 거부됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         // 인증 없이 접근 허용할 경로들
                         .requestMatchers(
                                 "/users/**",
@@ -1,15 +1,135 @@
 package com.moodiary.config;
 
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+
+/**
+ * 외부 API(OpenAI, Gemini, 네이버) 호출용 WebClient 설정
+ *
+ * 제공자마다 이름이 붙은 Reactor Netty 커넥션 풀을 따로 두어 한 제공자의 지연이
+ * 다른 제공자 호출의 커넥션을 잡아먹지 않도록 하고, 풀 메트릭은 Micrometer로 노출합니다.
+ * (reactor.netty.connection.provider.* 메트릭, name 태그 = 제공자 이름)
+ */
 @Configuration
+@Slf4j
 public class WebClientConfig {
 
+    public static final String OPENAI = "openai";
+    public static final String GEMINI = "gemini";
+    public static final String NAVER = "naver";
+
+    @Value("${http.client.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${http.client.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${http.client.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${http.client.pending-acquire-timeout:10s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${http.client.evict-interval:30s}")
+    private Duration evictInterval;
+
+    @Value("${http.client.max-in-memory-size:2MB}")
+    private DataSize maxInMemorySize;
+
+    @Value("${http.client.http2-enabled:true}")
+    private boolean http2Enabled;
+
+    @Value("${http.client.openai.max-connections:50}")
+    private int openAiMaxConnections;
+
+    @Value("${http.client.openai.response-timeout:60s}")
+    private Duration openAiResponseTimeout;
+
+    @Value("${http.client.gemini.max-connections:20}")
+    private int geminiMaxConnections;
+
+    @Value("${http.client.gemini.response-timeout:30s}")
+    private Duration geminiResponseTimeout;
+
+    @Value("${http.client.naver.max-connections:20}")
+    private int naverMaxConnections;
+
+    @Value("${http.client.naver.response-timeout:5s}")
+    private Duration naverResponseTimeout;
+
+    /**
+     * OpenAI 호출용 WebClient (기본 WebClient)
+     */
     @Bean
+    @Primary
     public WebClient webClient() {
+        return buildWebClient(OPENAI, openAiMaxConnections, openAiResponseTimeout);
+    }
+
+    /**
+     * Gemini 호출용 WebClient
+     */
+    @Bean
+    public WebClient geminiWebClient() {
+        return buildWebClient(GEMINI, geminiMaxConnections, geminiResponseTimeout);
+    }
+
+    /**
+     * 네이버 오픈 API 호출용 WebClient
+     */
+    @Bean
+    public WebClient naverWebClient() {
+        return buildWebClient(NAVER, naverMaxConnections, naverResponseTimeout);
+    }
+
+    private WebClient buildWebClient(String name, int maxConnections, Duration responseTimeout) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(responseTimeout)
+                .compress(true);
+
+        if (http2Enabled) {
+            // TLS ALPN으로 HTTP/2를 협상하고, 지원하지 않는 서버와는 HTTP/1.1로 통신
+            httpClient = httpClient
+                    .secure()
+                    .protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs()
+                        .maxInMemorySize((int) maxInMemorySize.toBytes()))
+                .build();
+
+        log.info("WebClient 생성 - 제공자: {}, 최대 커넥션: {}, 응답 타임아웃: {}, HTTP/2: {}",
+                name, maxConnections, responseTimeout, http2Enabled);
+
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(strategies)
                 .build();
     }
 }
@@ -4,7 +4,10 @@ import com.moodiary.dto.BookmarkDto;
 import com.moodiary.service.BookmarkService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,9 +29,14 @@ public class BookmarkController {
     }
 
     @GetMapping("/registered")
-    @Operation(summary = "등록된 북마크 조회", description = "등록된 북마크를 조회합니다")
-    public ResponseEntity<BookmarkDto> getBookmarks() {
-        BookmarkDto bookmarkDto = bookmarkService.getBookmarksByUser();
+    @Operation(summary = "등록된 북마크 조회", description = "등록된 북마크를 조회합니다 (size를 지정하면 최근 북마크순으로 페이징)")
+    public ResponseEntity<BookmarkDto> getBookmarks(
+            @Parameter(description = "페이지 번호 (0부터)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (생략하면 전체)") @RequestParam(required = false) Integer size) {
+        Pageable pageable = size == null
+                ? Pageable.unpaged()
+                : PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, 100)));
+        BookmarkDto bookmarkDto = bookmarkService.getBookmarksByUser(pageable);
         return new ResponseEntity<>(bookmarkDto, HttpStatus.OK);
     }
     @GetMapping("/{diaryId}")
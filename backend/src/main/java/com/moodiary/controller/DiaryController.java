@@ -8,8 +8,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -19,6 +19,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -108,6 +109,10 @@ public class DiaryController {
      * 5. 일기 데이터베이스 저장
      * 6. 감정 분석 결과와 함께 응답 반환
      *
+     * 비동기 분석 모드(diary.analysis.async=true)에서는 일기를 먼저 저장하고
+     * analysisStatus=PENDING으로 응답하며, 감정 분석 결과는 /{diaryId}/analysis 또는
+     * /{diaryId}/analysis/stream 으로 확인합니다.
+     *
      * @param userId 사용자 ID (쿼리 파라미터)
      * @param request 일기 작성 요청 데이터 (내용, 이미지 URL)
      * @return 생성된 일기 정보와 감정 분석 결과
@@ -308,6 +313,7 @@ public class DiaryController {
      *
      * @param userId 조회할 사용자 ID (쿼리 파라미터)
      * @param pageable 페이징 및 정렬 정보
+     * @param withTotal false이면 전체 개수(COUNT 쿼리) 없이 다음 페이지 존재 여부만 제공
      * @return 일기 목록 (페이징 정보 포함)
      *
      * HTTP 상태 코드:
@@ -318,8 +324,9 @@ public class DiaryController {
      */
     @GetMapping
     @Operation(summary = "사용자별 일기 목록 (쿼리 파라미터)", description = "특정 사용자의 일기 목록을 페이징하여 조회합니다.")
-    public ResponseEntity<Page<DiaryDto.DiaryResponse>> getUserDiariesByQuery(
-            @PageableDefault(size = 10, sort = "createdAt") Pageable pageable) {
+    public ResponseEntity<Slice<DiaryDto.DiaryResponse>> getUserDiariesByQuery(
+            @PageableDefault(size = 10, sort = "createdAt") Pageable pageable,
+            @Parameter(description = "전체 개수 포함 여부") @RequestParam(defaultValue = "true") boolean withTotal) {
 
         Long userId = getCurrentUserId();
         if (userId == null) {
@@ -327,7 +334,9 @@ public class DiaryController {
         }
 
         log.info("사용자별 일기 목록 조회 요청 (쿼리 파라미터) - 사용자: {}, 페이지: {}", userId, pageable.getPageNumber());
-        Page<DiaryDto.DiaryResponse> response = diaryService.getUserDiaries(userId, pageable);
+        Slice<DiaryDto.DiaryResponse> response = withTotal
+                ? diaryService.getUserDiaries(userId, pageable)
+                : diaryService.getUserDiarySlice(userId, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -343,6 +352,7 @@ public class DiaryController {
      *
      * @param userId 조회할 사용자 ID (경로 변수)
      * @param pageable 페이징 및 정렬 정보
+     * @param withTotal false이면 전체 개수(COUNT 쿼리) 없이 다음 페이지 존재 여부만 제공
      * @return 일기 목록 (페이징 정보 포함)
      *
      * HTTP 상태 코드:
@@ -354,7 +364,8 @@ public class DiaryController {
     @GetMapping("/user")
     @Operation(summary = "사용자별 일기 목록", description = "현재 사용자의 일기 목록을 페이징하여 조회합니다.")
     public ResponseEntity<?> getUserDiaries(
-            @PageableDefault(size = 10, sort = "createdAt") Pageable pageable) {
+            @PageableDefault(size = 10, sort = "createdAt") Pageable pageable,
+            @Parameter(description = "전체 개수 포함 여부") @RequestParam(defaultValue = "true") boolean withTotal) {
 
         // JWT 토큰에서 현재 사용자 ID 가져오기
         Long userId = getCurrentUserId();
@@ -363,10 +374,48 @@ public class DiaryController {
         }
 
         log.info("사용자별 일기 목록 조회 요청 - 사용자: {}, 페이지: {}", userId, pageable.getPageNumber());
-        Page<DiaryDto.DiaryResponse> response = diaryService.getUserDiaries(userId, pageable);
+        Slice<DiaryDto.DiaryResponse> response = withTotal
+                ? diaryService.getUserDiaries(userId, pageable)
+                : diaryService.getUserDiarySlice(userId, pageable);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 사용자별 일기 목록 조회 API (커서 기반)
+     *
+     * 현재 사용자의 일기를 최신순으로 조회합니다.
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어지는 일기를 조회하며,
+     * 페이지 번호 방식과 달리 오래된 일기로 내려가도 응답 속도가 일정합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지이면 생략)
+     * @param size 페이지 크기 (1~50, 기본값 10)
+     * @return 일기 목록과 다음 페이지 커서
+     *
+     * HTTP 상태 코드:
+     * - 200: 조회 성공
+     * - 400: 잘못된 커서
+     */
+    @GetMapping("/user/cursor")
+    @Operation(summary = "사용자별 일기 목록 (커서)", description = "현재 사용자의 일기 목록을 커서 기반으로 최신순 조회합니다.")
+    public ResponseEntity<?> getUserDiariesByCursor(
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+
+        Long userId = getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            DiaryDto.DiaryCursorResponse response =
+                    diaryService.getUserDiariesByCursor(userId, cursor, Math.max(1, Math.min(size, 50)));
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("일기 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     /**
      * 특정 날짜 일기 조회 API
      *
@@ -409,6 +458,8 @@ public class DiaryController {
      * - 행복, 슬픔, 분노, 평온, 우울, 기쁨, 불안, 화남, 만족, 실망
      * - 통합 감정 분석 결과를 기준으로 필터링
      *
+     * 목록용 응답이므로 본문은 앞부분 미리보기만 포함합니다. (전체 본문과 키워드는 일기 상세 조회)
+     *
      * @param userId 사용자 ID (경로 변수)
      * @param emotion 조회할 감정 타입 (경로 변수)
      * @return 해당 감정의 일기 목록
@@ -556,6 +607,41 @@ public class DiaryController {
         }
     }
 
+    /**
+     * 일기 감정 분석 완료 구독 API (SSE)
+     *
+     * 비동기 분석 모드에서 분석이 끝나면 "analysis" 이벤트로 감정 분석 결과를 한 번 전송합니다.
+     * 이미 분석이 끝난 일기는 현재 결과를 즉시 전송합니다.
+     * 폴링 방식은 GET /diaries/{diaryId}/analysis 의 analysisStatus를 확인합니다.
+     *
+     * @param diaryId 구독할 일기 ID (경로 변수)
+     * @return 감정 분석 결과 이벤트 스트림
+     *
+     * HTTP 상태 코드:
+     * - 200: 구독 성공
+     * - 400: 일기 없음 또는 권한 없음
+     */
+    @GetMapping(value = "/{diaryId}/analysis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "일기 감정 분석 완료 구독", description = "감정 분석이 끝나면 SSE로 결과를 전송합니다.")
+    public ResponseEntity<SseEmitter> streamDiaryAnalysis(
+            @Parameter(description = "일기 ID") @PathVariable Long diaryId) {
+
+        // JWT 토큰에서 현재 사용자 ID 가져오기
+        Long userId = getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        log.info("일기 감정 분석 구독 요청 - 사용자: {}, 일기: {}", userId, diaryId);
+        try {
+            SseEmitter emitter = diaryService.subscribeDiaryAnalysis(userId, diaryId);
+            return ResponseEntity.ok(emitter);
+        } catch (RuntimeException e) {
+            log.error("일기 감정 분석 구독 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
     /**
      * 일기 분석 요약 조회 API
      *
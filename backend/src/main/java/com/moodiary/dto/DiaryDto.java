@@ -1,5 +1,6 @@
 package com.moodiary.dto;
 
+import com.moodiary.entity.AnalysisStatus;
 import com.moodiary.entity.EmotionType;
 import lombok.*;
 
@@ -39,17 +40,30 @@ public class DiaryDto {
         private Long userId;
         private String content;
         private String imageUrl;
+        private AnalysisStatus analysisStatus;
         private EmotionAnalysisResponse emotionAnalysis;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
     
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DiaryCursorResponse {
+        private List<DiaryResponse> content;
+        private String nextCursor; // 다음 페이지 요청에 그대로 전달 (마지막 페이지이면 null)
+        private boolean hasNext;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
     public static class EmotionAnalysisResponse {
+        private AnalysisStatus analysisStatus;
         private EmotionScoreResponse textEmotion;
         private EmotionScoreResponse facialEmotion;
         private EmotionScoreResponse integratedEmotion;
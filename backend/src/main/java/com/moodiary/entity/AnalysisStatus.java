@@ -0,0 +1,17 @@
+package com.moodiary.entity;
+
+public enum AnalysisStatus {
+    PENDING("분석 중"),
+    DONE("분석 완료"),
+    FAILED("분석 실패");
+
+    private final String description;
+
+    AnalysisStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
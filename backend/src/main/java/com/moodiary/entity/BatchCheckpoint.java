@@ -0,0 +1,36 @@
+package com.moodiary.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 진행 위치(체크포인트)
+ *
+ * 작업이 중간에 중단되더라도 다음 실행 시 마지막으로 기록한 위치부터 이어서 처리합니다.
+ * cursor 형식은 작업마다 다릅니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "batch_checkpoint")
+public class BatchCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "cursor_value", length = 255)
+    private String cursor;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public void updateCursor(String cursor) {
+        this.cursor = cursor;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -2,6 +2,9 @@ package com.moodiary.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,6 +21,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
 public class DiaryEntry {
     
     @Id
@@ -27,6 +31,11 @@ public class DiaryEntry {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
+
+    // 작성자 ID (user와 같은 외래 키 컬럼을 읽기 전용으로 매핑하여 작성자를 조회하지 않고 사용)
+    @Column(name = "user_id", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private Long userId;
     
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
@@ -41,6 +50,7 @@ public class DiaryEntry {
 
     // 감정 분석 결과
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(name = "text_emotion")
     private EmotionType textEmotion;
     
@@ -51,6 +61,7 @@ public class DiaryEntry {
     private Double textEmotionConfidence;
     
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(name = "facial_emotion")
     private EmotionType facialEmotion;
     
@@ -61,6 +72,7 @@ public class DiaryEntry {
     private Double facialEmotionConfidence;
     
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(name = "integrated_emotion")
     private EmotionType integratedEmotion;
     
@@ -73,6 +85,12 @@ public class DiaryEntry {
     @Column(name = "keywords", columnDefinition = "TEXT")
     private String keywords; // JSON 형태로 저장
     
+    // 감정 분석 진행 상태 (null은 상태 컬럼 도입 이전에 동기 분석된 일기)
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "analysis_status", length = 20)
+    private AnalysisStatus analysisStatus;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     @CreatedDate
     private LocalDateTime createdAt;
@@ -81,6 +99,18 @@ public class DiaryEntry {
     @LastModifiedDate
     private LocalDateTime updatedAt;
     
+    /**
+     * 작성자 ID
+     * 
+     * 저장 전이거나 저장 직후 다시 조회하지 않은 엔티티는 user 연관관계의 ID를 사용합니다.
+     */
+    public Long getUserId() {
+        if (userId != null) {
+            return userId;
+        }
+        return user != null ? user.getId() : null;
+    }
+
     // Update methods
     public void updateContent(String content) {
         this.content = content;
@@ -129,4 +159,8 @@ public class DiaryEntry {
     public void updateKeywords(String keywords) {
         this.keywords = keywords;
     }
+    
+    public void updateAnalysisStatus(AnalysisStatus analysisStatus) {
+        this.analysisStatus = analysisStatus;
+    }
 }
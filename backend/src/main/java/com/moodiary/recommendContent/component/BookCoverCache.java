@@ -0,0 +1,134 @@
+package com.moodiary.recommendContent.component;
+
+import com.moodiary.recommendContent.entity.BookCover;
+import com.moodiary.recommendContent.repository.BookCoverRepository;
+import com.moodiary.service.EmotionAnalysisCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 책 표지 이미지 URL 캐시
+ *
+ * 추천하는 책은 카탈로그의 고정 목록이므로 네이버 도서 검색 결과를 book_cover 테이블과
+ * 메모리에 저장해 두고, 요청 처리 중에는 네이버를 호출하지 않고 저장된 값만 사용합니다.
+ *
+ * - 검색 결과가 없던 제목도 저장하여(negative-ttl 동안) 다시 검색하지 않습니다.
+ * - 저장된 값이 없거나 만료된 제목은 기본 이미지(또는 만료된 값)를 바로 반환하고, 백그라운드에서 다시 검색합니다.
+ * - 카탈로그 전체 제목은 BookCoverPrefetchJob이 미리 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookCoverCache {
+
+    private final NaverBookClient naverBookClient;
+    private final BookCoverRepository bookCoverRepository;
+
+    @Value("${recommend.book-cover.positive-ttl:30d}")
+    private Duration positiveTtl;
+
+    @Value("${recommend.book-cover.negative-ttl:7d}")
+    private Duration negativeTtl;
+
+    /**
+     * 저장된 검색 결과 (imageUrl이 null이면 검색 결과 없음)
+     */
+    private record Entry(String imageUrl, LocalDateTime fetchedAt) {
+    }
+
+    private final Map<String, Entry> covers = new ConcurrentHashMap<>();
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        // 테이블을 읽지 못해도 기동은 계속하고, 필요한 제목은 다시 검색
+        try {
+            for (BookCover cover : bookCoverRepository.findAll()) {
+                covers.put(cover.getTitle(), new Entry(cover.getImageUrl(), cover.getFetchedAt()));
+            }
+            log.info("책 표지 이미지 캐시 로드 완료 - 항목 수: {}", covers.size());
+        } catch (Exception e) {
+            log.warn("책 표지 이미지 캐시 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 표지 이미지 URL 조회 (네이버를 기다리지 않음)
+     *
+     * @param title 책 제목
+     * @return 표지 이미지 URL, 없으면 기본 이미지
+     */
+    public String imageUrl(String title) {
+        if (title == null || title.isBlank()) {
+            return NaverBookClient.DEFAULT_IMAGE_URL;
+        }
+
+        Entry entry = covers.get(title);
+        if (entry == null || isExpired(entry)) {
+            fetch(title).subscribe(null, e -> log.warn("책 표지 이미지 검색 실패 - {}: {}", title, e.getMessage()));
+        }
+        return entry != null && entry.imageUrl() != null ? entry.imageUrl() : NaverBookClient.DEFAULT_IMAGE_URL;
+    }
+
+    /**
+     * 저장된 값이 없거나 만료되어 다시 검색해야 하는지 여부
+     */
+    public boolean needsFetch(String title) {
+        Entry entry = covers.get(title);
+        return entry == null || isExpired(entry);
+    }
+
+    /**
+     * 네이버 도서 검색 후 결과 저장
+     *
+     * 같은 제목을 이미 검색 중이면 아무 것도 하지 않습니다.
+     * 호출이 실패하면 저장하지 않고 에러를 방출합니다.
+     *
+     * @param title 책 제목
+     * @return 검색과 저장이 끝나면 완료되는 Mono
+     */
+    public Mono<Void> fetch(String title) {
+        return Mono.defer(() -> {
+            if (!inFlight.add(title)) {
+                return Mono.empty();
+            }
+            return naverBookClient.searchImageUrl(title)
+                    .publishOn(Schedulers.boundedElastic())
+                    .doOnNext(found -> store(title, found.orElse(null)))
+                    .doFinally(signal -> inFlight.remove(title))
+                    .then();
+        });
+    }
+
+    private boolean isExpired(Entry entry) {
+        Duration ttl = entry.imageUrl() != null ? positiveTtl : negativeTtl;
+        return entry.fetchedAt() == null || entry.fetchedAt().plus(ttl).isBefore(LocalDateTime.now());
+    }
+
+    private void store(String title, String imageUrl) {
+        LocalDateTime now = LocalDateTime.now();
+        covers.put(title, new Entry(imageUrl, now));
+        try {
+            bookCoverRepository.save(BookCover.builder()
+                    .titleKey(EmotionAnalysisCache.sha256(title.getBytes(StandardCharsets.UTF_8)))
+                    .title(title)
+                    .imageUrl(imageUrl)
+                    .fetchedAt(now)
+                    .build());
+        } catch (Exception e) {
+            log.warn("책 표지 이미지 저장 실패 - {}: {}", title, e.getMessage());
+        }
+    }
+}
@@ -1,427 +1,114 @@
 package com.moodiary.recommendContent.component;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moodiary.config.WebClientConfig;
+import com.moodiary.service.ExternalApiGuard;
+import com.moodiary.service.LlmRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 @Component
+@Slf4j
 public class GeminiApiResponse {
 
-    // 하드코딩: API Key + 엔드포인트
     @Value("${gemini.api-key}")
     private String GEMINI_API_KEY;
 //    private static final String GEMINI_ENDPOINT = "https://generativelanguage.googleapis.com/v1beta/models/gemini-1.5-flash:generateContent";
 private static final String GEMINI_ENDPOINT = "https://generativelanguage.googleapis.com/v1/models/gemini-2.5-flash:generateContent";
 
-
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    public String getBookGeminiResponse(String bookTitle, String diaryEmotion) {
-        String prompt = "사용자가 작성한 일기의 감정은 " + diaryEmotion + "이야 그래서 " + bookTitle + "책을 소개해주려 하는데 간단하게 줄거리를 알려주고 사용자의 감정에 맞춰 간단한 메세지를 줘";
-
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-
-            // 요청 헤더
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            // URL 파라미터로 API 키 추가하는 방식으로 변경
-            String urlWithKey = GEMINI_ENDPOINT + "?key=" + GEMINI_API_KEY;
-
-            // Gemini API의 올바른 요청 형식
-            Map<String, Object> bodyMap = new HashMap<>();
-
-            // contents 배열 구조
-            List<Map<String, Object>> contents = new ArrayList<>();
-            Map<String, Object> content = new HashMap<>();
-
-            List<Map<String, String>> parts = new ArrayList<>();
-            Map<String, String> part = new HashMap<>();
-            part.put("text", prompt);
-            parts.add(part);
-
-            content.put("parts", parts);
-            contents.add(content);
-
-            bodyMap.put("contents", contents);
-
-            String bodyJson = objectMapper.writeValueAsString(bodyMap);
-
-            System.out.println("Request URL: " + urlWithKey);
-            System.out.println("Request Body: " + bodyJson);
-
-            HttpEntity<String> entity = new HttpEntity<>(bodyJson, headers);
-
-            // POST 요청
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    urlWithKey,
-                    HttpMethod.POST,
-                    entity,
-                    JsonNode.class
-            );
-
-            System.out.println("Response Status: " + response.getStatusCode());
-            System.out.println("Response Body: " + response.getBody());
-
-            JsonNode bodyNode = response.getBody();
-
-            // Gemini API의 실제 응답 구조에 맞게 수정
-            if (bodyNode != null && bodyNode.has("candidates") && bodyNode.get("candidates").isArray()
-                    && bodyNode.get("candidates").size() > 0) {
-                JsonNode candidate = bodyNode.get("candidates").get(0);
-                if (candidate.has("content") && candidate.get("content").has("parts")
-                        && candidate.get("content").get("parts").isArray()
-                        && candidate.get("content").get("parts").size() > 0) {
-                    return candidate.get("content").get("parts").get(0).path("text").asText();
-                }
-            }
-
-            // 응답이 예상과 다른 경우를 위한 fallback
-            return "응답 구조를 파싱할 수 없습니다: " + bodyNode.toString();
-
-        } catch (HttpClientErrorException e) {
-            System.err.println("HTTP 클라이언트 에러: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
-            return "HTTP 에러 (" + e.getStatusCode() + "): " + e.getResponseBodyAsString();
-        } catch (HttpServerErrorException e) {
-            System.err.println("HTTP 서버 에러: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
-            return "서버 에러 (" + e.getStatusCode() + "): " + e.getResponseBodyAsString();
-        } catch (ResourceAccessException e) {
-            System.err.println("네트워크 연결 에러: " + e.getMessage());
-            return "네트워크 연결 실패: " + e.getMessage();
-        } catch (Exception e) {
-            System.err.println("Gemini API 호출 실패: " + e.getMessage());
-            e.printStackTrace();
-            return "API 호출 실패: " + e.getMessage();
-        }
+    // 요청량 제한 시 예상 토큰 수에 더할 응답 토큰 수 (소개 문구 길이 기준)
+    @Value("${llm.rate-limit.gemini.expected-output-tokens:1000}")
+    private int expectedOutputTokens;
+
+    // 커넥션 풀과 타임아웃이 설정된 Gemini 전용 WebClient (WebClientConfig)
+    private final WebClient geminiWebClient;
+    private final ExternalApiGuard externalApiGuard;
+    private final LlmRateLimiter llmRateLimiter;
+
+    public GeminiApiResponse(@Qualifier("geminiWebClient") WebClient geminiWebClient,
+                             ExternalApiGuard externalApiGuard,
+                             LlmRateLimiter llmRateLimiter) {
+        this.geminiWebClient = geminiWebClient;
+        this.externalApiGuard = externalApiGuard;
+        this.llmRateLimiter = llmRateLimiter;
     }
 
-    public String getPomeGeminiResponse(String poemTitle, String diaryEmotion, String author) {
-//        String prompt = "사용자가 작성한 일기의 감정은 " + diaryEmotion + "이야 그래서 " + poemTitle + "책을 소개해주려 하는데 간단하게 줄거리를 알려주고 사용자의 감정에 맞춰 간단한 메세지를 줘";
-        String prompt = "사용자의 감정은 " + diaryEmotion + "이야 " + author + "의 " + poemTitle + "를 추천해주려 하는데 시를 읽어주고 메세지를 전달해줘 그런데 너는 어떠한 질문도 되물으면 안돼 절대 정확하게 어떤 감정이신가요? 이딴거 되 묻지마 그리고 마지막에는 시를 읽어주고 감정에 맞는 메세지를 던져줘";
-
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-
-            // 요청 헤더
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            // URL 파라미터로 API 키 추가하는 방식으로 변경
-            String urlWithKey = GEMINI_ENDPOINT + "?key=" + GEMINI_API_KEY;
-
-            // Gemini API의 올바른 요청 형식
-            Map<String, Object> bodyMap = new HashMap<>();
-
-            // contents 배열 구조
-            List<Map<String, Object>> contents = new ArrayList<>();
-            Map<String, Object> content = new HashMap<>();
-
-            List<Map<String, String>> parts = new ArrayList<>();
-            Map<String, String> part = new HashMap<>();
-            part.put("text", prompt);
-            parts.add(part);
-
-            content.put("parts", parts);
-            contents.add(content);
-
-            bodyMap.put("contents", contents);
-
-            String bodyJson = objectMapper.writeValueAsString(bodyMap);
-
-            System.out.println("Request URL: " + urlWithKey);
-            System.out.println("Request Body: " + bodyJson);
-
-            HttpEntity<String> entity = new HttpEntity<>(bodyJson, headers);
-
-            // POST 요청
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    urlWithKey,
-                    HttpMethod.POST,
-                    entity,
-                    JsonNode.class
-            );
-
-            System.out.println("Response Status: " + response.getStatusCode());
-            System.out.println("Response Body: " + response.getBody());
-
-            JsonNode bodyNode = response.getBody();
-
-            // Gemini API의 실제 응답 구조에 맞게 수정
-            if (bodyNode != null && bodyNode.has("candidates") && bodyNode.get("candidates").isArray()
-                    && bodyNode.get("candidates").size() > 0) {
-                JsonNode candidate = bodyNode.get("candidates").get(0);
-                if (candidate.has("content") && candidate.get("content").has("parts")
-                        && candidate.get("content").get("parts").isArray()
-                        && candidate.get("content").get("parts").size() > 0) {
-                    return candidate.get("content").get("parts").get(0).path("text").asText();
-                }
-            }
-
-            // 응답이 예상과 다른 경우를 위한 fallback
-            return "응답 구조를 파싱할 수 없습니다: " + bodyNode.toString();
-
-        } catch (HttpClientErrorException e) {
-            System.err.println("HTTP 클라이언트 에러: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
-            return "HTTP 에러 (" + e.getStatusCode() + "): " + e.getResponseBodyAsString();
-        } catch (HttpServerErrorException e) {
-            System.err.println("HTTP 서버 에러: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
-            return "서버 에러 (" + e.getStatusCode() + "): " + e.getResponseBodyAsString();
-        } catch (ResourceAccessException e) {
-            System.err.println("네트워크 연결 에러: " + e.getMessage());
-            return "네트워크 연결 실패: " + e.getMessage();
-        } catch (Exception e) {
-            System.err.println("Gemini API 호출 실패: " + e.getMessage());
-            e.printStackTrace();
-            return "API 호출 실패: " + e.getMessage();
-        }
+    /**
+     * 프롬프트 템플릿으로 추천 컨텐츠 소개 문구 생성
+     *
+     * 호출 스레드를 막지 않습니다. API 오류나 응답 파싱 실패는 에러로 전달되며,
+     * 사용자에게 보여줄 안내 문구는 fallbackMessage로 만듭니다.
+     *
+     * @param prompt 프롬프트 템플릿
+     * @param title 컨텐츠 제목
+     * @param emotion 일기 감정 설명
+     * @param creator 작가/감독/아티스트 (없으면 null)
+     */
+    public Mono<String> generate(GeminiPrompt prompt, String title, String emotion, String creator) {
+        String text = prompt.render(title, emotion, creator);
+        log.debug("Gemini 요청 - 템플릿: {}, 제목: {}", prompt, title);
+
+        // Gemini API의 요청 형식: {"contents":[{"parts":[{"text": ...}]}]}
+        Map<String, Object> body = Map.of(
+                "contents", List.of(Map.of("parts", List.of(Map.of("text", text))))
+        );
+
+        return geminiWebClient.post()
+                .uri(GEMINI_ENDPOINT + "?key={key}", GEMINI_API_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .transformDeferred(externalApiGuard.protect(WebClientConfig.GEMINI))
+                .transformDeferred(llmRateLimiter.limit(WebClientConfig.GEMINI, LlmRateLimiter.estimateTokens(text, expectedOutputTokens)))
+                .<String>handle((bodyNode, sink) -> {
+                    JsonNode parts = bodyNode.path("candidates").path(0).path("content").path("parts");
+                    if (parts.isArray() && parts.size() > 0) {
+                        sink.next(parts.get(0).path("text").asText());
+                    } else {
+                        sink.error(new IllegalStateException("응답 구조를 파싱할 수 없습니다: " + bodyNode));
+                    }
+                })
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("응답 구조를 파싱할 수 없습니다: 빈 응답")));
     }
 
-
-    public String getMovieGeminiResponse(String movieTitle, String diaryEmotion, String director) {
-        String prompt = "사용자가 작성한 일기의 감정은 " + diaryEmotion + "이야 그래서 " + director + "작가의 " + movieTitle + "영화를 소개해주려 하는데 간단하게 줄거리를 알려주고 사용자의 감정에 맞춰 간단한 메세지를 줘";
-
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-
-            // 요청 헤더
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            // URL 파라미터로 API 키 추가하는 방식으로 변경
-            String urlWithKey = GEMINI_ENDPOINT + "?key=" + GEMINI_API_KEY;
-
-            // Gemini API의 올바른 요청 형식
-            Map<String, Object> bodyMap = new HashMap<>();
-
-            // contents 배열 구조
-            List<Map<String, Object>> contents = new ArrayList<>();
-            Map<String, Object> content = new HashMap<>();
-
-            List<Map<String, String>> parts = new ArrayList<>();
-            Map<String, String> part = new HashMap<>();
-            part.put("text", prompt);
-            parts.add(part);
-
-            content.put("parts", parts);
-            contents.add(content);
-
-            bodyMap.put("contents", contents);
-
-            String bodyJson = objectMapper.writeValueAsString(bodyMap);
-
-            System.out.println("Request URL: " + urlWithKey);
-            System.out.println("Request Body: " + bodyJson);
-
-            HttpEntity<String> entity = new HttpEntity<>(bodyJson, headers);
-
-            // POST 요청
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    urlWithKey,
-                    HttpMethod.POST,
-                    entity,
-                    JsonNode.class
-            );
-
-            System.out.println("Response Status: " + response.getStatusCode());
-            System.out.println("Response Body: " + response.getBody());
-
-            JsonNode bodyNode = response.getBody();
-
-            // Gemini API의 실제 응답 구조에 맞게 수정
-            if (bodyNode != null && bodyNode.has("candidates") && bodyNode.get("candidates").isArray()
-                    && bodyNode.get("candidates").size() > 0) {
-                JsonNode candidate = bodyNode.get("candidates").get(0);
-                if (candidate.has("content") && candidate.get("content").has("parts")
-                        && candidate.get("content").get("parts").isArray()
-                        && candidate.get("content").get("parts").size() > 0) {
-                    return candidate.get("content").get("parts").get(0).path("text").asText();
-                }
-            }
-
-            // 응답이 예상과 다른 경우를 위한 fallback
-            return "응답 구조를 파싱할 수 없습니다: " + bodyNode.toString();
-
-        } catch (HttpClientErrorException e) {
-            System.err.println("HTTP 클라이언트 에러: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
-            return "HTTP 에러 (" + e.getStatusCode() + "): " + e.getResponseBodyAsString();
-        } catch (HttpServerErrorException e) {
-            System.err.println("HTTP 서버 에러: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
-            return "서버 에러 (" + e.getStatusCode() + "): " + e.getResponseBodyAsString();
-        } catch (ResourceAccessException e) {
-            System.err.println("네트워크 연결 에러: " + e.getMessage());
-            return "네트워크 연결 실패: " + e.getMessage();
-        } catch (Exception e) {
-            System.err.println("Gemini API 호출 실패: " + e.getMessage());
-            e.printStackTrace();
-            return "API 호출 실패: " + e.getMessage();
+    /**
+     * Gemini 호출 실패 시 소개 문구 대신 보여줄 안내 문구
+     *
+     * @param prompt 프롬프트 템플릿
+     * @param e 발생한 예외
+     * @return 안내 문구
+     */
+    public String fallbackMessage(GeminiPrompt prompt, Throwable e) {
+        if (ExternalApiGuard.isRejected(e)) {
+            log.warn("Gemini API 호출 생략 - 템플릿: {}, 원인: {}", prompt, e.getMessage());
+            return "지금은 추천 소개 문구를 만들 수 없어요. 잠시 후 다시 시도해주세요.";
         }
-    }
-
-    public String getMusicGeminiResponse(String musicTitle, String description, String musicArtist) {
-        String prompt = "사용자가 작성한 일기의 감정은 " + description + "이야 그래서 " + musicArtist + "의 " + musicTitle + "노래를 소개해주려 하는데 간단하게 노래의 내용을 알려주고 사용자의 감정에 맞춰 간단한 메세지를 줘";
-
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-
-            // 요청 헤더
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            // URL 파라미터로 API 키 추가하는 방식으로 변경
-            String urlWithKey = GEMINI_ENDPOINT + "?key=" + GEMINI_API_KEY;
-
-            // Gemini API의 올바른 요청 형식
-            Map<String, Object> bodyMap = new HashMap<>();
-
-            // contents 배열 구조
-            List<Map<String, Object>> contents = new ArrayList<>();
-            Map<String, Object> content = new HashMap<>();
-
-            List<Map<String, String>> parts = new ArrayList<>();
-            Map<String, String> part = new HashMap<>();
-            part.put("text", prompt);
-            parts.add(part);
-
-            content.put("parts", parts);
-            contents.add(content);
-
-            bodyMap.put("contents", contents);
-
-            String bodyJson = objectMapper.writeValueAsString(bodyMap);
-
-            System.out.println("Request URL: " + urlWithKey);
-            System.out.println("Request Body: " + bodyJson);
-
-            HttpEntity<String> entity = new HttpEntity<>(bodyJson, headers);
-
-            // POST 요청
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    urlWithKey,
-                    HttpMethod.POST,
-                    entity,
-                    JsonNode.class
-            );
-
-            System.out.println("Response Status: " + response.getStatusCode());
-            System.out.println("Response Body: " + response.getBody());
-
-            JsonNode bodyNode = response.getBody();
-
-            // Gemini API의 실제 응답 구조에 맞게 수정
-            if (bodyNode != null && bodyNode.has("candidates") && bodyNode.get("candidates").isArray()
-                    && bodyNode.get("candidates").size() > 0) {
-                JsonNode candidate = bodyNode.get("candidates").get(0);
-                if (candidate.has("content") && candidate.get("content").has("parts")
-                        && candidate.get("content").get("parts").isArray()
-                        && candidate.get("content").get("parts").size() > 0) {
-                    return candidate.get("content").get("parts").get(0).path("text").asText();
-                }
-            }
-
-            // 응답이 예상과 다른 경우를 위한 fallback
-            return "응답 구조를 파싱할 수 없습니다: " + bodyNode.toString();
-
-        } catch (HttpClientErrorException e) {
-            System.err.println("HTTP 클라이언트 에러: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
-            return "HTTP 에러 (" + e.getStatusCode() + "): " + e.getResponseBodyAsString();
-        } catch (HttpServerErrorException e) {
-            System.err.println("HTTP 서버 에러: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
-            return "서버 에러 (" + e.getStatusCode() + "): " + e.getResponseBodyAsString();
-        } catch (ResourceAccessException e) {
-            System.err.println("네트워크 연결 에러: " + e.getMessage());
-            return "네트워크 연결 실패: " + e.getMessage();
-        } catch (Exception e) {
-            System.err.println("Gemini API 호출 실패: " + e.getMessage());
-            e.printStackTrace();
-            return "API 호출 실패: " + e.getMessage();
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("Gemini API 에러 - 템플릿: {}, 상태: {}, 응답: {}",
+                    prompt, responseException.getStatusCode(), responseException.getResponseBodyAsString());
+            String label = responseException.getStatusCode().is4xxClientError() ? "HTTP 에러" : "서버 에러";
+            return label + " (" + responseException.getStatusCode() + "): " + responseException.getResponseBodyAsString();
         }
-    }
-
-
-    public String getWiseSayingGeminiResponse(String wiseSayingTitle, String description) {
-        String prompt = "사용자가 작성한 일기의 감정은 " + description + "이야 그래서 " + wiseSayingTitle + "이라는 명언을 소개해주려 하는데 간단하게 명언의 속 뜻을 알려주고 사용자의 감정에 맞춰 간단한 메세지를 줘";
-
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-
-            // 요청 헤더
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            // URL 파라미터로 API 키 추가하는 방식으로 변경
-            String urlWithKey = GEMINI_ENDPOINT + "?key=" + GEMINI_API_KEY;
-
-            // Gemini API의 올바른 요청 형식
-            Map<String, Object> bodyMap = new HashMap<>();
-
-            // contents 배열 구조
-            List<Map<String, Object>> contents = new ArrayList<>();
-            Map<String, Object> content = new HashMap<>();
-
-            List<Map<String, String>> parts = new ArrayList<>();
-            Map<String, String> part = new HashMap<>();
-            part.put("text", prompt);
-            parts.add(part);
-
-            content.put("parts", parts);
-            contents.add(content);
-
-            bodyMap.put("contents", contents);
-
-            String bodyJson = objectMapper.writeValueAsString(bodyMap);
-
-            System.out.println("Request URL: " + urlWithKey);
-            System.out.println("Request Body: " + bodyJson);
-
-            HttpEntity<String> entity = new HttpEntity<>(bodyJson, headers);
-
-            // POST 요청
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    urlWithKey,
-                    HttpMethod.POST,
-                    entity,
-                    JsonNode.class
-            );
-
-            System.out.println("Response Status: " + response.getStatusCode());
-            System.out.println("Response Body: " + response.getBody());
-
-            JsonNode bodyNode = response.getBody();
-
-            // Gemini API의 실제 응답 구조에 맞게 수정
-            if (bodyNode != null && bodyNode.has("candidates") && bodyNode.get("candidates").isArray()
-                    && bodyNode.get("candidates").size() > 0) {
-                JsonNode candidate = bodyNode.get("candidates").get(0);
-                if (candidate.has("content") && candidate.get("content").has("parts")
-                        && candidate.get("content").get("parts").isArray()
-                        && candidate.get("content").get("parts").size() > 0) {
-                    return candidate.get("content").get("parts").get(0).path("text").asText();
-                }
-            }
-
-            // 응답이 예상과 다른 경우를 위한 fallback
-            return "응답 구조를 파싱할 수 없습니다: " + bodyNode.toString();
-
-        } catch (HttpClientErrorException e) {
-            System.err.println("HTTP 클라이언트 에러: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
-            return "HTTP 에러 (" + e.getStatusCode() + "): " + e.getResponseBodyAsString();
-        } catch (HttpServerErrorException e) {
-            System.err.println("HTTP 서버 에러: " + e.getStatusCode() + " - " + e.getResponseBodyAsString());
-            return "서버 에러 (" + e.getStatusCode() + "): " + e.getResponseBodyAsString();
-        } catch (ResourceAccessException e) {
-            System.err.println("네트워크 연결 에러: " + e.getMessage());
+        if (e instanceof WebClientRequestException) {
+            log.error("Gemini API 네트워크 연결 에러 - 템플릿: {}, 원인: {}", prompt, e.getMessage());
             return "네트워크 연결 실패: " + e.getMessage();
-        } catch (Exception e) {
-            System.err.println("Gemini API 호출 실패: " + e.getMessage());
-            e.printStackTrace();
-            return "API 호출 실패: " + e.getMessage();
         }
+        if (e instanceof IllegalStateException) {
+            log.warn("Gemini 응답 구조 파싱 실패 - 템플릿: {}, 원인: {}", prompt, e.getMessage());
+            return e.getMessage();
+        }
+        log.error("Gemini API 호출 실패 - 템플릿: {}", prompt, e);
+        return "API 호출 실패: " + e.getMessage();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.moodiary.recommendContent.component;
+
+import com.moodiary.recommendContent.entity.ContentType;
+
+/**
+ * 추천 컨텐츠 소개 문구 생성용 Gemini 프롬프트 템플릿
+ *
+ * 템플릿 인자는 순서대로 (1: 제목, 2: 감정 설명, 3: 작가/감독/아티스트)입니다.
+ */
+public enum GeminiPrompt {
+
+    BOOK("사용자가 작성한 일기의 감정은 %2$s이야 그래서 %1$s책을 소개해주려 하는데 간단하게 줄거리를 알려주고 사용자의 감정에 맞춰 간단한 메세지를 줘"),
+
+    POEM("사용자의 감정은 %2$s이야 %3$s의 %1$s를 추천해주려 하는데 시를 읽어주고 메세지를 전달해줘 그런데 너는 어떠한 질문도 되물으면 안돼 절대 정확하게 어떤 감정이신가요? 이딴거 되 묻지마 그리고 마지막에는 시를 읽어주고 감정에 맞는 메세지를 던져줘"),
+
+    MOVIE("사용자가 작성한 일기의 감정은 %2$s이야 그래서 %3$s작가의 %1$s영화를 소개해주려 하는데 간단하게 줄거리를 알려주고 사용자의 감정에 맞춰 간단한 메세지를 줘"),
+
+    MUSIC("사용자가 작성한 일기의 감정은 %2$s이야 그래서 %3$s의 %1$s노래를 소개해주려 하는데 간단하게 노래의 내용을 알려주고 사용자의 감정에 맞춰 간단한 메세지를 줘"),
+
+    WISESAYING("사용자가 작성한 일기의 감정은 %2$s이야 그래서 %1$s이라는 명언을 소개해주려 하는데 간단하게 명언의 속 뜻을 알려주고 사용자의 감정에 맞춰 간단한 메세지를 줘");
+
+    /**
+     * 프롬프트 버전
+     *
+     * 템플릿 문구를 변경하면 올려서 이전에 생성된 소개 문구 캐시를 무효화합니다.
+     */
+    public static final String VERSION = "v1";
+
+    private final String template;
+
+    GeminiPrompt(String template) {
+        this.template = template;
+    }
+
+    public String render(String title, String emotion, String creator) {
+        return String.format(template, title, emotion, creator);
+    }
+
+    public static GeminiPrompt of(ContentType contentType) {
+        return switch (contentType) {
+            case BOOK -> BOOK;
+            case POEM -> POEM;
+            case MOVIE -> MOVIE;
+            case MUSIC -> MUSIC;
+            case WISESAYING -> WISESAYING;
+        };
+    }
+}
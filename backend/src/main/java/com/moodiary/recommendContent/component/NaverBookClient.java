@@ -1,28 +1,25 @@
 package com.moodiary.recommendContent.component;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-
 import com.fasterxml.jackson.databind.JsonNode;
+import com.moodiary.config.WebClientConfig;
+import com.moodiary.service.ExternalApiGuard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
-import java.util.function.Supplier;
+import java.util.Optional;
 
 
 // 모든 메서드를 빈으로 등록하는 Component
+@Slf4j
 @Component
 public class NaverBookClient {
 
+    public static final String DEFAULT_IMAGE_URL = "/images/default-book.jpg";
+
     @Value("${naver.client-id}")
     private String clientId;
 
@@ -33,50 +30,68 @@ public class NaverBookClient {
 //    private String clientId = "XVuorZhB1AQFMjaVvvj1";
 //    private String clientSecret = "deJ3mebRP3";
 
-    public String getBookImageUrl(String bookTitle) {
-        if (bookTitle == null || bookTitle.isEmpty()) {
-            return "/images/default-book.jpg";
-        }
-
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-            // 항상 결과가 나오도록 테스트용 검색어 사용
-            // URI 안전하게 생성 (한글 포함)
-            String apiUrl = "https://openapi.naver.com/v1/search/book.json?query="
-                    + bookTitle
-                    + "&display=1";
-
-            System.out.println(apiUrl);
+    // 검색어는 URI 템플릿 변수로 전달되어 한글과 예약 문자(&, + 등)까지 인코딩됨
+    private static final String BOOK_SEARCH_URL = "https://openapi.naver.com/v1/search/book.json?query={query}&display=1";
 
+    // 커넥션 풀과 타임아웃이 설정된 네이버 전용 WebClient (WebClientConfig)
+    private final WebClient naverWebClient;
+    private final ExternalApiGuard externalApiGuard;
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-Naver-Client-Id", clientId);
-            headers.set("X-Naver-Client-Secret", clientSecret);
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<JsonNode> response = restTemplate.exchange(apiUrl, HttpMethod.GET, entity, JsonNode.class);
+    public NaverBookClient(@Qualifier("naverWebClient") WebClient naverWebClient,
+                           ExternalApiGuard externalApiGuard) {
+        this.naverWebClient = naverWebClient;
+        this.externalApiGuard = externalApiGuard;
+    }
 
-            // 디버깅 로그
-            System.out.println("Response Status: " + response.getStatusCode());
-            System.out.println("Response Body: " + response.getBody());
+    /**
+     * 책 제목으로 표지 이미지 URL 검색
+     *
+     * 검색 결과가 없으면 빈 Optional을, 호출이 실패하면 에러를 방출합니다.
+     * (결과 없음은 캐시해도 되지만 호출 실패는 다시 시도해야 하므로 구분)
+     *
+     * @param bookTitle 책 제목
+     * @return 표지 이미지 URL을 방출하는 Mono
+     */
+    public Mono<Optional<String>> searchImageUrl(String bookTitle) {
+        if (bookTitle == null || bookTitle.isEmpty()) {
+            return Mono.just(Optional.empty());
+        }
 
-            JsonNode body = response.getBody();
-            if (body != null) {
-                JsonNode itemsNode = body.path("items"); // null-safe 접근
-                if (itemsNode.isArray() && itemsNode.size() > 0) {
-                    JsonNode firstItem = itemsNode.get(0);
-                    JsonNode imageNode = firstItem.path("image");
-                    if (!imageNode.isMissingNode()) {
-                        return imageNode.asText();
+        return naverWebClient.get()
+                .uri(BOOK_SEARCH_URL, bookTitle)
+                .header("X-Naver-Client-Id", clientId)
+                .header("X-Naver-Client-Secret", clientSecret)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .transformDeferred(externalApiGuard.protect(WebClientConfig.NAVER))
+                .map(body -> {
+                    JsonNode itemsNode = body.path("items"); // null-safe 접근
+                    if (itemsNode.isArray() && itemsNode.size() > 0) {
+                        String image = itemsNode.get(0).path("image").asText("");
+                        if (!image.isBlank()) {
+                            return Optional.of(image);
+                        }
                     }
-                }
-            }
+                    return Optional.<String>empty();
+                })
+                .defaultIfEmpty(Optional.empty());
+    }
 
+    /**
+     * 책 제목으로 표지 이미지 URL 검색 (블로킹)
+     *
+     * 요청 처리 중에는 BookCoverCache를 사용하세요.
+     *
+     * @param bookTitle 책 제목
+     * @return 표지 이미지 URL, 검색 결과가 없거나 실패하면 기본 이미지
+     */
+    public String getBookImageUrl(String bookTitle) {
+        try {
+            return searchImageUrl(bookTitle).block().orElse(DEFAULT_IMAGE_URL);
         } catch (Exception e) {
-            System.err.println("네이버 도서 API 호출 실패: " + e.getMessage());
+            log.warn("네이버 도서 API 호출 실패: {}", e.getMessage());
+            // 검색 결과 없거나 예외 발생 시 기본 이미지
+            return DEFAULT_IMAGE_URL;
         }
-
-        // 검색 결과 없거나 예외 발생 시 기본 이미지
-        return "/images/default-book.jpg";
     }
-}
\ No newline at end of file
+}
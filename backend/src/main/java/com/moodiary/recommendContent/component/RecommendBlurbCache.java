@@ -0,0 +1,240 @@
+package com.moodiary.recommendContent.component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moodiary.entity.EmotionType;
+import com.moodiary.recommendContent.entity.ContentType;
+import com.moodiary.recommendContent.entity.RecommendBlurb;
+import com.moodiary.recommendContent.repository.RecommendBlurbRepository;
+import com.moodiary.service.EmotionAnalysisCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 추천 컨텐츠 소개 문구(blurb) 캐시
+ *
+ * 추천 대상은 감정별 고정 목록에서 고르므로 같은 (컨텐츠, 감정) 조합의 Gemini 프롬프트가
+ * 반복해서 호출됩니다. 생성된 소개 문구를 저장해 두고 이후 요청은 조회만으로 응답합니다.
+ *
+ * 캐시 키: (컨텐츠 종류, 제목, 작가/감독/아티스트, 감정, 프롬프트 버전)
+ *
+ * 저장 계층:
+ * - L1: 프로세스 내 Caffeine 캐시 (같은 키의 동시 미스는 Gemini 호출 하나를 공유)
+ * - L2: Redis (장애 시 캐시 미스로 처리하고 Gemini 호출을 계속 진행)
+ * - recommend_blurb 테이블: 워밍업 배치(RecommendBlurbWarmupJob)로 미리 채워 두는 원본 저장소
+ *
+ * 세 계층 모두 없을 때만 Gemini를 호출하며, 생성된 문구는 테이블과 캐시에 함께 저장합니다.
+ * Gemini 호출이 실패하면 안내 문구를 반환하고 저장하지 않습니다.
+ *
+ * 메트릭: moodiary.recommend.blurb.cache{level=l1|l2, result=hit|miss}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendBlurbCache {
+
+    private static final String KEY_PREFIX = "moodiary:recommend-blurb:";
+    private static final String METRIC_NAME = "moodiary.recommend.blurb.cache";
+
+    private final GeminiApiResponse geminiApiResponse;
+    private final RecommendBlurbRepository recommendBlurbRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${recommend.blurb.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recommend.blurb.cache.redis-enabled:true}")
+    private boolean redisEnabled;
+
+    @Value("${recommend.blurb.cache.l1-max-size:2000}")
+    private long l1MaxSize;
+
+    @Value("${recommend.blurb.cache.l1-ttl:1d}")
+    private Duration l1Ttl;
+
+    @Value("${recommend.blurb.cache.l2-ttl:30d}")
+    private Duration l2Ttl;
+
+    private AsyncCache<String, String> localCache;
+
+    private Counter l1Hit;
+    private Counter l1Miss;
+    private Counter l2Hit;
+    private Counter l2Miss;
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(l1Ttl)
+                .buildAsync();
+
+        l1Hit = counter("l1", "hit");
+        l1Miss = counter("l1", "miss");
+        l2Hit = counter("l2", "hit");
+        l2Miss = counter("l2", "miss");
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * @param contentType 컨텐츠 종류
+     * @param title 컨텐츠 제목
+     * @param creator 작가/감독/아티스트 (없으면 null)
+     * @param emotion 일기 감정
+     * @return 캐시 키
+     */
+    public String key(ContentType contentType, String title, String creator, EmotionType emotion) {
+        String item = String.join("\u0000", title, creator != null ? creator : "");
+        return KEY_PREFIX + GeminiPrompt.VERSION + ":" + contentType + ":" + emotion + ":"
+                + EmotionAnalysisCache.sha256(item.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 캐시된 소개 문구를 반환하고, 없으면 Gemini로 생성 후 저장
+     *
+     * @param contentType 컨텐츠 종류
+     * @param title 컨텐츠 제목
+     * @param creator 작가/감독/아티스트 (없으면 null)
+     * @param emotion 일기 감정
+     * @return 소개 문구 (실패 시 안내 문구)를 방출하는 Mono
+     */
+    public Mono<String> getOrGenerate(ContentType contentType, String title, String creator, EmotionType emotion) {
+        GeminiPrompt prompt = GeminiPrompt.of(contentType);
+        if (!enabled) {
+            return geminiApiResponse.generate(prompt, title, emotion.getDescription(), creator)
+                    .onErrorResume(e -> Mono.just(geminiApiResponse.fallbackMessage(prompt, e)));
+        }
+
+        String key = key(contentType, title, creator, emotion);
+        CompletableFuture<String> cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            l1Hit.increment();
+        } else {
+            l1Miss.increment();
+        }
+
+        CompletableFuture<String> future = cached != null
+                ? cached
+                : localCache.get(key, (k, executor) -> load(k, contentType, title, creator, emotion).toFuture());
+
+        // 공유 중인 로딩을 한 구독자의 취소로 중단하지 않도록 취소를 전파하지 않음
+        return Mono.fromFuture(future, true)
+                .onErrorResume(e -> Mono.just(geminiApiResponse.fallbackMessage(prompt, e)));
+    }
+
+    /**
+     * 생성된 소개 문구 저장 (테이블, L1, L2)
+     *
+     * 워밍업 배치에서 호출하며, 테이블 저장이 끝날 때까지 블로킹합니다.
+     */
+    public void save(ContentType contentType, String title, String creator, EmotionType emotion, String blurb) {
+        String key = key(contentType, title, creator, emotion);
+        persist(key, contentType, title, creator, emotion, blurb);
+        localCache.put(key, CompletableFuture.completedFuture(blurb));
+        writeRemote(key, blurb);
+    }
+
+    private Mono<String> load(String key, ContentType contentType, String title, String creator, EmotionType emotion) {
+        Mono<String> generate = Mono.defer(() -> geminiApiResponse.generate(GeminiPrompt.of(contentType), title, emotion.getDescription(), creator))
+                .doOnNext(blurb -> {
+                    writeRemote(key, blurb);
+                    Mono.fromRunnable(() -> persist(key, contentType, title, creator, emotion, blurb))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .subscribe();
+                });
+        Mono<String> stored = Mono.fromCallable(() -> readStored(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(blurb -> writeRemote(key, blurb));
+        if (!redisEnabled) {
+            return stored.switchIfEmpty(generate);
+        }
+        return Mono.fromCallable(() -> readRemote(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(stored)
+                .switchIfEmpty(generate);
+    }
+
+    private String readStored(String key) {
+        try {
+            return recommendBlurbRepository.findByBlurbKey(key)
+                    .map(RecommendBlurb::getContent)
+                    .orElse(null);
+        } catch (Exception e) {
+            log.warn("추천 소개 문구 테이블 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void persist(String key, ContentType contentType, String title, String creator, EmotionType emotion, String blurb) {
+        try {
+            recommendBlurbRepository.save(RecommendBlurb.builder()
+                    .blurbKey(key)
+                    .contentType(contentType)
+                    .emotion(emotion)
+                    .title(title)
+                    .creator(creator)
+                    .promptVersion(GeminiPrompt.VERSION)
+                    .content(blurb)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이나 인스턴스가 먼저 저장한 경우
+            log.debug("추천 소개 문구가 이미 저장되어 있습니다: {}", key);
+        } catch (Exception e) {
+            log.warn("추천 소개 문구 테이블 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private String readRemote(String key) {
+        try {
+            String blurb = redisTemplate.opsForValue().get(key);
+            if (blurb == null) {
+                l2Miss.increment();
+            } else {
+                l2Hit.increment();
+            }
+            return blurb;
+        } catch (Exception e) {
+            l2Miss.increment();
+            log.warn("추천 소개 문구 캐시(Redis) 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, String blurb) {
+        if (!redisEnabled) {
+            return;
+        }
+        Mono.fromRunnable(() -> {
+                    try {
+                        redisTemplate.opsForValue().set(key, blurb, l2Ttl);
+                    } catch (Exception e) {
+                        log.warn("추천 소개 문구 캐시(Redis) 저장 실패: {}", e.getMessage());
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+
+    private Counter counter(String level, String result) {
+        return Counter.builder(METRIC_NAME)
+                .tag("level", level)
+                .tag("result", result)
+                .description("추천 소개 문구 캐시 조회 결과")
+                .register(meterRegistry);
+    }
+}
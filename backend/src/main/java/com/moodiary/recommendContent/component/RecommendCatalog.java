@@ -0,0 +1,290 @@
+package com.moodiary.recommendContent.component;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moodiary.entity.EmotionType;
+import com.moodiary.recommendContent.entity.ContentType;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 감정별 추천 컨텐츠 카탈로그
+ *
+ * 책, 시, 영화, 음악, 명언 목록을 리소스 파일(recommend.catalog.location, 기본값 classpath:recommend/catalog.json)에서
+ * 읽어 (감정 → 컨텐츠 종류 → 항목 배열)로 색인해 두고, 추천 시에는 배열 크기 안에서 무작위로 하나를 고릅니다.
+ * 감정별 목록이 없거나 비어 있으면 중립(NEUTRAL) 목록을 사용합니다.
+ *
+ * 파일 형식:
+ * {"version": 1, "catalog": {"HAPPY": {"BOOK": [{"title": "...", "creator": "..."}], ...}, ...}}
+ *
+ * 파일 시스템의 파일이면 주기적으로 수정 시각을 확인해 변경 시 다시 읽습니다.
+ * 새 카탈로그는 검증을 통과한 경우에만 통째로 교체되며, 실패하면 기존 카탈로그를 유지합니다.
+ *
+ * 파일의 version은 편집 시 올리지 않을 수 있으므로, 항목 위치에 의존하는 곳(추천 이력 비트맵, 추천 순위 색인)은
+ * 항목 내용으로 계산한 리비전(revision)을 기준으로 삼습니다.
+ */
+@Slf4j
+@Component
+public class RecommendCatalog {
+
+    /**
+     * 추천 항목
+     *
+     * @param contentType 컨텐츠 종류
+     * @param title 제목 (명언은 명언 본문)
+     * @param creator 작가/감독/아티스트 (없으면 null)
+     */
+    public record Item(ContentType contentType, String title, String creator) {
+    }
+
+    /**
+     * 같은 카탈로그 리비전에서 조회한 후보 목록
+     *
+     * 항목 위치(index)는 카탈로그 리비전이 같을 때만 의미가 같습니다.
+     *
+     * @param revision 카탈로그 리비전 (revision() 참고)
+     * @param items 읽기 전용 후보 목록
+     */
+    public record Candidates(String revision, List<Item> items) {
+    }
+
+    /**
+     * 카탈로그 파일 형식
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record CatalogFile(int version, Map<String, Map<String, List<CatalogEntry>>> catalog) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record CatalogEntry(String title, String creator) {
+    }
+
+    /**
+     * 한 번에 교체되는 카탈로그 스냅샷 (생성 후 변경하지 않으며, 항목 배열은 외부로 노출하지 않음)
+     */
+    private record Snapshot(int version, String revision, EnumMap<EmotionType, EnumMap<ContentType, Item[]>> items, int size) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Resource resource;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private volatile long lastModified;
+
+    public RecommendCatalog(ObjectMapper objectMapper,
+                            ResourceLoader resourceLoader,
+                            @Value("${recommend.catalog.location:classpath:recommend/catalog.json}") String location) {
+        this.objectMapper = objectMapper;
+        this.resource = resourceLoader.getResource(location);
+    }
+
+    @PostConstruct
+    void init() {
+        // 시작 시 카탈로그를 읽지 못하면 추천 기능을 제공할 수 없으므로 기동을 중단
+        try {
+            lastModified = currentLastModified();
+            Snapshot loaded = load();
+            snapshot.set(loaded);
+            log.info("추천 카탈로그 로드 완료 - 버전: {}, 리비전: {}, 항목 수: {}, 위치: {}",
+                    loaded.version(), loaded.revision(), loaded.size(), resource);
+        } catch (Exception e) {
+            throw new IllegalStateException("추천 카탈로그를 불러올 수 없습니다: " + resource, e);
+        }
+    }
+
+    /**
+     * 카탈로그 파일이 변경되었으면 다시 읽어 교체
+     */
+    @Scheduled(fixedDelayString = "${recommend.catalog.reload-interval:PT30S}",
+            initialDelayString = "${recommend.catalog.reload-interval:PT30S}")
+    public void reloadIfChanged() {
+        if (!resource.isFile()) {
+            return;
+        }
+        long modified = currentLastModified();
+        if (modified == lastModified) {
+            return;
+        }
+        lastModified = modified;
+
+        try {
+            Snapshot loaded = load();
+            Snapshot previous = snapshot.getAndSet(loaded);
+            log.info("추천 카탈로그 교체 완료 - 버전: {} -> {}, 리비전: {} -> {}, 항목 수: {}",
+                    previous.version(), loaded.version(), previous.revision(), loaded.revision(), loaded.size());
+        } catch (Exception e) {
+            log.error("추천 카탈로그 다시 읽기 실패, 기존 카탈로그를 유지합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 감정과 컨텐츠 종류에 맞는 항목 하나를 무작위로 추천
+     *
+     * @param emotion 일기 감정 (null이면 중립)
+     * @param contentType 컨텐츠 종류
+     * @return 추천 항목
+     */
+    public Item recommend(EmotionType emotion, ContentType contentType) {
+        Item[] items = lookup(snapshot.get(), emotion, contentType);
+        return items[ThreadLocalRandom.current().nextInt(items.length)];
+    }
+
+    /**
+     * 감정과 컨텐츠 종류에 해당하는 전체 항목
+     *
+     * @param emotion 일기 감정 (null이면 중립)
+     * @param contentType 컨텐츠 종류
+     * @return 읽기 전용 항목 목록
+     */
+    public List<Item> items(EmotionType emotion, ContentType contentType) {
+        return List.of(lookup(snapshot.get(), emotion, contentType));
+    }
+
+    /**
+     * 감정과 컨텐츠 종류에 해당하는 후보 목록을 카탈로그 버전과 함께 조회
+     *
+     * @param emotion 일기 감정 (null이면 중립)
+     * @param contentType 컨텐츠 종류
+     * @return 후보 목록
+     */
+    public Candidates candidates(EmotionType emotion, ContentType contentType) {
+        Snapshot current = snapshot.get();
+        return new Candidates(current.revision(),
+                Collections.unmodifiableList(Arrays.asList(lookup(current, emotion, contentType))));
+    }
+
+    /**
+     * 현재 카탈로그 버전 (파일의 version 값)
+     */
+    public int version() {
+        return snapshot.get().version();
+    }
+
+    /**
+     * 현재 카탈로그 리비전
+     *
+     * "파일 버전-항목 내용 해시" 형식으로, version을 올리지 않고 항목을 편집해도 항목 구성이 바뀌면 달라집니다.
+     * 공백 정리 등으로 항목 구성이 같으면 같은 값입니다.
+     */
+    public String revision() {
+        return snapshot.get().revision();
+    }
+
+    private Item[] lookup(Snapshot current, EmotionType emotion, ContentType contentType) {
+        EnumMap<EmotionType, EnumMap<ContentType, Item[]>> items = current.items();
+        Item[] found = items.get(emotion != null ? emotion : EmotionType.NEUTRAL).get(contentType);
+        // 중립 목록은 검증 시 모든 컨텐츠 종류가 비어 있지 않음을 보장
+        return found.length > 0 ? found : items.get(EmotionType.NEUTRAL).get(contentType);
+    }
+
+    private long currentLastModified() {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+
+    private Snapshot load() throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return build(objectMapper.readValue(in, CatalogFile.class));
+        }
+    }
+
+    private Snapshot build(CatalogFile file) {
+        if (file == null || file.catalog() == null) {
+            throw new IllegalStateException("catalog 항목이 없습니다.");
+        }
+
+        EnumMap<EmotionType, EnumMap<ContentType, Item[]>> items = new EnumMap<>(EmotionType.class);
+        for (EmotionType emotion : EmotionType.values()) {
+            EnumMap<ContentType, Item[]> byType = new EnumMap<>(ContentType.class);
+            for (ContentType contentType : ContentType.values()) {
+                byType.put(contentType, new Item[0]);
+            }
+            items.put(emotion, byType);
+        }
+
+        int size = 0;
+        for (Map.Entry<String, Map<String, List<CatalogEntry>>> emotionEntry : file.catalog().entrySet()) {
+            EmotionType emotion = parseEnum(EmotionType.class, emotionEntry.getKey(), "감정");
+            if (emotionEntry.getValue() == null) {
+                continue;
+            }
+            for (Map.Entry<String, List<CatalogEntry>> typeEntry : emotionEntry.getValue().entrySet()) {
+                ContentType contentType = parseEnum(ContentType.class, typeEntry.getKey(), "컨텐츠 종류");
+                List<CatalogEntry> entries = typeEntry.getValue() != null ? typeEntry.getValue() : List.of();
+                Item[] converted = new Item[entries.size()];
+                for (int i = 0; i < converted.length; i++) {
+                    CatalogEntry entry = entries.get(i);
+                    if (entry == null || entry.title() == null || entry.title().isBlank()) {
+                        throw new IllegalStateException("제목이 비어 있는 항목이 있습니다: " + emotion + "/" + contentType + "[" + i + "]");
+                    }
+                    String creator = entry.creator() != null && !entry.creator().isBlank() ? entry.creator().trim() : null;
+                    converted[i] = new Item(contentType, entry.title().trim(), creator);
+                }
+                items.get(emotion).put(contentType, converted);
+                size += converted.length;
+            }
+        }
+
+        for (ContentType contentType : ContentType.values()) {
+            if (items.get(EmotionType.NEUTRAL).get(contentType).length == 0) {
+                throw new IllegalStateException("중립(NEUTRAL) 목록에 " + contentType + " 항목이 없습니다.");
+            }
+        }
+        return new Snapshot(file.version(), file.version() + "-" + contentHash(items), items, size);
+    }
+
+    /**
+     * 정리된 항목 구성(감정, 컨텐츠 종류, 순서, 제목, 작가)의 SHA-256 해시 앞 12자리
+     */
+    private static String contentHash(EnumMap<EmotionType, EnumMap<ContentType, Item[]>> items) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (Map.Entry<EmotionType, EnumMap<ContentType, Item[]>> emotionEntry : items.entrySet()) {
+            for (Map.Entry<ContentType, Item[]> typeEntry : emotionEntry.getValue().entrySet()) {
+                StringBuilder line = new StringBuilder()
+                        .append(emotionEntry.getKey()).append('/').append(typeEntry.getKey())
+                        .append(':').append(typeEntry.getValue().length).append('\n');
+                for (Item item : typeEntry.getValue()) {
+                    // 구분자(NUL 문자)는 제목/작가에 나오지 않으므로 경계가 모호하지 않음
+                    line.append(item.title()).append('\u0000')
+                            .append(item.creator() != null ? item.creator() : "").append('\u0000');
+                }
+                digest.update(line.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 6);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String name, String label) {
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalStateException("알 수 없는 " + label + ": " + name);
+        }
+    }
+}
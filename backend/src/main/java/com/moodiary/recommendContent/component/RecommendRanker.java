@@ -0,0 +1,330 @@
+package com.moodiary.recommendContent.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moodiary.entity.DiaryEntry;
+import com.moodiary.entity.EmotionType;
+import com.moodiary.recommendContent.entity.ContentType;
+import com.moodiary.repository.BookmarkRepository;
+import com.moodiary.repository.DiaryRepository;
+import com.moodiary.service.EmotionHistoryChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 사용자 감정 이력 기반 추천 순위 계산기
+ *
+ * 사용자마다 최근 일기의 통합 감정(integratedEmotion)을 시간 감쇠 가중치로 누적한 감정 벡터를 만들고,
+ * 북마크한 일기의 감정을 추가 가중치로 더해 메모리에 보관합니다.
+ * 추천 항목의 점수는 그 항목이 속한 감정 목록들에 대한 사용자 감정 가중치의 합입니다.
+ *
+ * - 감정 벡터는 캐시 미스일 때만 필요한 컬럼만 조회하는 쿼리 두 번(일기, 북마크)으로 만들고,
+ *   이후 요청은 DB 조회 없이 메모리에서 계산합니다.
+ * - 일기 작성/수정/삭제, 감정 분석 완료, 북마크 변경 시 발행되는 EmotionHistoryChangedEvent로
+ *   해당 사용자의 감정 벡터를 무효화합니다. (다른 인스턴스의 변경은 profile-ttl 이내에 반영)
+ * - 항목별 감정 목록 색인은 카탈로그 리비전마다 한 번만 만듭니다.
+ *
+ * recommend.ranking.latest-weight(기본값 1.0)는 추천 생성 시 가장 최근 일기의 감정을 그대로 쓸 확률입니다.
+ * 기본값에서는 기존과 같이 항상 최근 일기의 감정으로 추천하고, 1보다 작게 설정하면 나머지 확률로
+ * 감정 이력에서 가중치에 비례해 감정을 골라 추천이 최근 감정 외의 목록에서도 나옵니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendRanker {
+
+    private static final EmotionType[] EMOTIONS = EmotionType.values();
+
+    private final DiaryRepository diaryRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final RecommendCatalog recommendCatalog;
+
+    @Value("${recommend.ranking.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recommend.ranking.half-life:14d}")
+    private Duration halfLife;
+
+    @Value("${recommend.ranking.lookback:90d}")
+    private Duration lookback;
+
+    @Value("${recommend.ranking.bookmark-weight:0.5}")
+    private double bookmarkWeight;
+
+    @Value("${recommend.ranking.latest-weight:1.0}")
+    private double latestWeight;
+
+    @Value("${recommend.ranking.profile-max-size:10000}")
+    private long profileMaxSize;
+
+    @Value("${recommend.ranking.profile-ttl:10m}")
+    private Duration profileTtl;
+
+    private Cache<Long, Profile> profiles;
+
+    private final AtomicReference<Index> index = new AtomicReference<>();
+
+    /**
+     * 사용자 감정 프로필
+     *
+     * 생성 후 변경하지 않으며, 가중치 배열은 외부로 노출하지 않습니다.
+     */
+    public static final class Profile {
+
+        private final EmotionType latestEmotion;
+        private final double[] weights;
+        private final double total;
+
+        Profile(EmotionType latestEmotion, double[] weights) {
+            this.latestEmotion = latestEmotion;
+            this.weights = weights;
+            double sum = 0;
+            for (double weight : weights) {
+                sum += weight;
+            }
+            this.total = sum;
+        }
+
+        /**
+         * 가장 최근 일기의 통합 감정 (없거나 분석 전이면 중립)
+         */
+        public EmotionType latestEmotion() {
+            return latestEmotion;
+        }
+
+        /**
+         * 감정별 정규화된 가중치 (0~1, 이력이 없으면 0)
+         */
+        public double weight(EmotionType emotion) {
+            return total > 0 ? weights[emotion.ordinal()] / total : 0;
+        }
+    }
+
+    /**
+     * 순위가 매겨진 추천 항목
+     *
+     * @param item 추천 항목
+     * @param score 사용자 감정 벡터에 대한 점수 (0~1)
+     */
+    public record RankedItem(RecommendCatalog.Item item, double score) {
+    }
+
+    /**
+     * 카탈로그 리비전별 색인: 컨텐츠 종류마다 중복 없는 항목 배열과 항목이 속한 감정 목록의 비트마스크
+     *
+     * 파일 version을 올리지 않고 항목을 편집해도 리비전이 달라지므로 다시 만들어집니다.
+     */
+    private record Index(String revision, EnumMap<ContentType, RecommendCatalog.Item[]> items,
+                         EnumMap<ContentType, long[]> emotionMasks) {
+    }
+
+    @PostConstruct
+    void init() {
+        profiles = Caffeine.newBuilder()
+                .maximumSize(profileMaxSize)
+                .expireAfterWrite(profileTtl)
+                .build();
+    }
+
+    /**
+     * 감정 이력이 변경된 사용자의 프로필 무효화 (트랜잭션 안에서 발행된 경우 커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmotionHistoryChanged(EmotionHistoryChangedEvent event) {
+        if (event.userId() != null) {
+            profiles.invalidate(event.userId());
+        }
+    }
+
+    /**
+     * 사용자 감정 프로필 조회 (캐시 미스일 때만 DB 조회)
+     *
+     * @param userId 사용자 ID
+     * @return 감정 프로필
+     */
+    public Profile profile(Long userId) {
+        return profiles.get(userId, this::buildProfile);
+    }
+
+    /**
+     * 이번 추천에 사용할 감정 목록 선택
+     *
+     * latest-weight 확률로 가장 최근 일기의 감정을, 나머지 확률로 감정 벡터의 가중치에 비례해 감정을 고릅니다.
+     * latest-weight가 1.0(기본값)이거나 순위 계산이 비활성화되었거나 이력이 없으면 항상 가장 최근 일기의 감정을 사용합니다.
+     *
+     * @param profile 사용자 감정 프로필
+     * @return 추천 목록을 고를 감정
+     */
+    public EmotionType targetEmotion(Profile profile) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (!enabled || profile.total <= 0 || random.nextDouble() < latestWeight) {
+            return profile.latestEmotion();
+        }
+
+        double target = random.nextDouble() * profile.total;
+        for (EmotionType emotion : EMOTIONS) {
+            target -= profile.weights[emotion.ordinal()];
+            if (target < 0) {
+                return emotion;
+            }
+        }
+        return profile.latestEmotion();
+    }
+
+    /**
+     * 사용자 감정 벡터에 가장 잘 맞는 추천 항목 상위 k개
+     *
+     * @param userId 사용자 ID
+     * @param contentType 컨텐츠 종류
+     * @param k 반환할 최대 항목 수
+     * @return 점수 내림차순 항목 목록
+     */
+    public List<RankedItem> topK(Long userId, ContentType contentType, int k) {
+        Profile profile = profile(userId);
+        Index current = currentIndex();
+        RecommendCatalog.Item[] items = current.items().get(contentType);
+        long[] masks = current.emotionMasks().get(contentType);
+
+        double[] weights = new double[EMOTIONS.length];
+        for (EmotionType emotion : EMOTIONS) {
+            weights[emotion.ordinal()] = profile.weight(emotion);
+        }
+        if (profile.total <= 0) {
+            // 이력이 없으면 가장 최근 일기(없으면 중립) 감정 목록을 우선
+            weights[profile.latestEmotion().ordinal()] = 1;
+        }
+
+        int limit = Math.min(Math.max(0, k), items.length);
+        if (limit == 0) {
+            return List.of();
+        }
+
+        double[] scores = new double[items.length];
+        // 점수가 낮은 항목이 먼저 나오는 크기 k의 힙 (동점이면 카탈로그 앞쪽 항목 우선)
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, (a, b) -> {
+            int compare = Double.compare(scores[a], scores[b]);
+            return compare != 0 ? compare : Integer.compare(b, a);
+        });
+        for (int i = 0; i < items.length; i++) {
+            scores[i] = score(masks[i], weights);
+            heap.offer(i);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        RankedItem[] ranked = new RankedItem[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            int position = heap.poll();
+            ranked[i] = new RankedItem(items[position], scores[position]);
+        }
+        return List.of(ranked);
+    }
+
+    private static double score(long mask, double[] weights) {
+        double score = 0;
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            score += weights[Long.numberOfTrailingZeros(remaining)];
+        }
+        return score;
+    }
+
+    private Profile buildProfile(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<DiaryRepository.EmotionSignal> signals = diaryRepository.findEmotionSignals(userId, now.minus(lookback));
+
+        EmotionType latest;
+        if (!signals.isEmpty()) {
+            latest = signals.get(0).getIntegratedEmotion();
+        } else {
+            // 조회 기간 안에 일기가 없으면 기간 밖의 가장 최근 일기 감정을 사용
+            latest = diaryRepository.findTopByUserIdOrderByCreatedAtDesc(userId)
+                    .map(DiaryEntry::getIntegratedEmotion)
+                    .orElse(null);
+        }
+
+        double[] weights = new double[EMOTIONS.length];
+        double halfLifeSeconds = Math.max(1, halfLife.toSeconds());
+        for (DiaryRepository.EmotionSignal signal : signals) {
+            if (signal.getIntegratedEmotion() == null || signal.getCreatedAt() == null) {
+                continue;
+            }
+            double ageSeconds = Math.max(0, Duration.between(signal.getCreatedAt(), now).toSeconds());
+            double decay = Math.pow(0.5, ageSeconds / halfLifeSeconds);
+            weights[signal.getIntegratedEmotion().ordinal()] += decay * confidenceFactor(signal.getIntegratedEmotionConfidence());
+        }
+
+        if (bookmarkWeight > 0) {
+            for (EmotionType emotion : bookmarkRepository.findBookmarkedEmotionsByUserId(userId)) {
+                weights[emotion.ordinal()] += bookmarkWeight;
+            }
+        }
+
+        log.debug("추천 감정 프로필 생성 - 사용자 ID: {}, 일기 수: {}", userId, signals.size());
+        return new Profile(latest != null ? latest : EmotionType.NEUTRAL, weights);
+    }
+
+    /**
+     * 분석 신뢰도(0~100)를 가중치 배율로 변환 (신뢰도가 없으면 1)
+     */
+    private static double confidenceFactor(Double confidence) {
+        if (confidence == null) {
+            return 1;
+        }
+        return Math.min(1, Math.max(0.1, confidence / 100));
+    }
+
+    private Index currentIndex() {
+        String revision = recommendCatalog.revision();
+        Index current = index.get();
+        if (current != null && current.revision().equals(revision)) {
+            return current;
+        }
+        Index built = buildIndex();
+        index.set(built);
+        return built;
+    }
+
+    private Index buildIndex() {
+        // 색인 도중 카탈로그가 교체되면 리비전이 달라져 다음 조회에서 다시 만듦
+        String revision = recommendCatalog.revision();
+        EnumMap<ContentType, RecommendCatalog.Item[]> items = new EnumMap<>(ContentType.class);
+        EnumMap<ContentType, long[]> emotionMasks = new EnumMap<>(ContentType.class);
+
+        for (ContentType contentType : ContentType.values()) {
+            Map<RecommendCatalog.Item, Long> masks = new LinkedHashMap<>();
+            for (EmotionType emotion : EMOTIONS) {
+                // 감정별 목록이 비어 있으면 중립 목록이 조회되며, 실제 추천과 같은 기준으로 해당 감정에 속한 것으로 봄
+                for (RecommendCatalog.Item item : recommendCatalog.items(emotion, contentType)) {
+                    masks.merge(item, 1L << emotion.ordinal(), (a, b) -> a | b);
+                }
+            }
+
+            List<RecommendCatalog.Item> unique = new ArrayList<>(masks.keySet());
+            long[] maskArray = new long[unique.size()];
+            for (int i = 0; i < maskArray.length; i++) {
+                maskArray[i] = masks.get(unique.get(i));
+            }
+            items.put(contentType, unique.toArray(new RecommendCatalog.Item[0]));
+            emotionMasks.put(contentType, maskArray);
+        }
+
+        log.info("추천 순위 색인 생성 - 카탈로그 리비전: {}", revision);
+        return new Index(revision, items, emotionMasks);
+    }
+}
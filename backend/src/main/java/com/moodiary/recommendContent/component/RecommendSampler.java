@@ -0,0 +1,126 @@
+package com.moodiary.recommendContent.component;
+
+import com.moodiary.entity.EmotionType;
+import com.moodiary.recommendContent.entity.ContentType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사용자별 중복 없는 추천 항목 선택기
+ *
+ * (사용자, 컨텐츠 종류, 감정)마다 이미 추천한 항목의 위치를 Redis 비트맵에 기록하고,
+ * 아직 추천하지 않은 항목 중에서만 무작위로 고릅니다. 모두 추천했으면 비트맵을 비우고 처음부터 다시 고릅니다.
+ *
+ * 비트맵 키에는 카탈로그 리비전(항목 내용 해시 포함)이 들어가, 파일 version을 그대로 둔 채 항목을 편집해도 기록이 초기화됩니다.
+ * 조회와 기록(SETBIT) 사이에 같은 사용자의 다른 요청이 같은 항목을 가져갈 수 있으므로, SETBIT가 이미 설정된
+ * 비트(1)를 돌려주면 비트맵을 다시 읽어 고릅니다. (최대 MAX_ATTEMPTS회, 이후에는 중복을 허용)
+ * Redis 장애 시에는 중복 제외 없이 무작위로 고릅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendSampler {
+
+    private static final String KEY_PREFIX = "moodiary:recommend-seen:";
+
+    /**
+     * 동시 요청과 같은 항목을 고른 경우 다시 고르는 최대 횟수
+     */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final RecommendCatalog recommendCatalog;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${recommend.sampler.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recommend.sampler.seen-ttl:31d}")
+    private Duration seenTtl;
+
+    /**
+     * 사용자에게 아직 추천하지 않은 항목 하나를 선택
+     *
+     * @param userId 사용자 ID
+     * @param emotion 일기 감정 (null이면 중립)
+     * @param contentType 컨텐츠 종류
+     * @return 추천 항목
+     */
+    public RecommendCatalog.Item next(Long userId, EmotionType emotion, ContentType contentType) {
+        EmotionType resolved = emotion != null ? emotion : EmotionType.NEUTRAL;
+        RecommendCatalog.Candidates candidates = recommendCatalog.candidates(resolved, contentType);
+        List<RecommendCatalog.Item> items = candidates.items();
+
+        if (!enabled || userId == null) {
+            return items.get(ThreadLocalRandom.current().nextInt(items.size()));
+        }
+
+        String key = KEY_PREFIX + userId + ":" + contentType + ":" + resolved + ":" + candidates.revision();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                byte[] seen = readBitmap(key);
+                int unseen = items.size() - countSeen(seen, items.size());
+                if (unseen <= 0) {
+                    // 모두 추천했으면 처음부터 다시
+                    redisTemplate.delete(key);
+                    seen = new byte[0];
+                    unseen = items.size();
+                }
+
+                int index = nthUnseen(seen, items.size(), ThreadLocalRandom.current().nextInt(unseen));
+                Boolean alreadySeen = redisTemplate.opsForValue().setBit(key, index, true);
+                if (!Boolean.TRUE.equals(alreadySeen) || attempt >= MAX_ATTEMPTS) {
+                    redisTemplate.expire(key, seenTtl);
+                    return items.get(index);
+                }
+                log.debug("동시 요청이 같은 추천 항목을 선택하여 다시 고릅니다 - 사용자 ID: {}, 위치: {}", userId, index);
+            }
+        } catch (Exception e) {
+            log.warn("추천 이력(Redis) 조회 실패, 무작위로 선택합니다: {}", e.getMessage());
+            return items.get(ThreadLocalRandom.current().nextInt(items.size()));
+        }
+    }
+
+    private byte[] readBitmap(String key) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        byte[] bitmap = redisTemplate.execute((RedisCallback<byte[]>) (RedisConnection connection) ->
+                connection.stringCommands().get(rawKey));
+        return bitmap != null ? bitmap : new byte[0];
+    }
+
+    /**
+     * Redis 비트맵의 offset 0은 첫 바이트의 최상위 비트
+     */
+    private static boolean isSeen(byte[] bitmap, int index) {
+        int byteIndex = index >>> 3;
+        return byteIndex < bitmap.length && (bitmap[byteIndex] & (0x80 >>> (index & 7))) != 0;
+    }
+
+    private static int countSeen(byte[] bitmap, int size) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (isSeen(bitmap, i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int nthUnseen(byte[] bitmap, int size, int n) {
+        for (int i = 0; i < size; i++) {
+            if (!isSeen(bitmap, i) && n-- == 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("선택할 수 있는 추천 항목이 없습니다.");
+    }
+}
@@ -1,5 +1,6 @@
 package com.moodiary.recommendContent.controller;
 
+import com.moodiary.recommendContent.dto.RankedContentDto;
 import com.moodiary.recommendContent.dto.ResponseDto;
 import com.moodiary.recommendContent.entity.ContentType;
 import com.moodiary.recommendContent.service.RecommendContentService;
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -21,41 +23,56 @@ public class RecommentContentController {
 
     @GetMapping("/book/create")
     @Operation(summary = "책 추천 컨텐츠 생성", description = "새로운 책 추천 컨텐츠를 생성합니다")
-    public ResponseEntity<?> createRecommendBook() {
-        ResponseDto responseDto = recommendContentService.createNewRecommendBook();
-        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    public Mono<ResponseEntity<ResponseDto>> createRecommendBook() {
+        return recommendContentService.createNewRecommendBook()
+                .map(responseDto -> new ResponseEntity<>(responseDto, HttpStatus.OK));
     }
 
 
     @GetMapping("/poem/create")
     @Operation(summary = "시 추천 컨텐츠 생성", description = "새로운 시 추천 컨텐츠를 생성합니다")
-    public ResponseEntity<?> createRecommendPoem() {
-        ResponseDto responseDto = recommendContentService.createRecommendPoem();
-        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    public Mono<ResponseEntity<ResponseDto>> createRecommendPoem() {
+        return recommendContentService.createRecommendPoem()
+                .map(responseDto -> new ResponseEntity<>(responseDto, HttpStatus.OK));
     }
 
 
     @GetMapping("/movie/create")
     @Operation(summary = "영화 추천 컨텐츠 생성", description = "새로운 영화 추천 컨텐츠를 생성합니다")
-    public ResponseEntity<?> createRecommendMovie() {
-        ResponseDto responseDto = recommendContentService.createRecommendMovie();
-        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    public Mono<ResponseEntity<ResponseDto>> createRecommendMovie() {
+        return recommendContentService.createRecommendMovie()
+                .map(responseDto -> new ResponseEntity<>(responseDto, HttpStatus.OK));
     }
 
 
 
     @GetMapping("/music/create")
     @Operation(summary = "음악 추천 컨텐츠 생성", description = "새로운 음악 추천 컨텐츠를 생성합니다")
-    public ResponseEntity<?> createRecommendMusic() {
-        ResponseDto responseDto = recommendContentService.createRecommendMusic();
-        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    public Mono<ResponseEntity<ResponseDto>> createRecommendMusic() {
+        return recommendContentService.createRecommendMusic()
+                .map(responseDto -> new ResponseEntity<>(responseDto, HttpStatus.OK));
     }
 
     @GetMapping("/wise-saying/create")
     @Operation(summary = "명언 추천 컨텐츠 생성", description = "새로운 명언 추천 컨텐츠를 생성합니다")
-    public ResponseEntity<?> createRecommendWiseSaying() {
-        ResponseDto responseDto = recommendContentService.createRecommendWiseSaying();
-        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    public Mono<ResponseEntity<ResponseDto>> createRecommendWiseSaying() {
+        return recommendContentService.createRecommendWiseSaying()
+                .map(responseDto -> new ResponseEntity<>(responseDto, HttpStatus.OK));
+    }
+
+    @GetMapping("/bundle")
+    @Operation(summary = "추천 컨텐츠 묶음 생성", description = "요청한 종류(생략 시 전체)의 추천 컨텐츠를 한 번에 생성합니다")
+    public Mono<ResponseEntity<List<ResponseDto>>> createRecommendBundle(@RequestParam(required = false) List<ContentType> contentTypes) {
+        return recommendContentService.createRecommendBundle(contentTypes)
+                .map(responseDtos -> new ResponseEntity<>(responseDtos, HttpStatus.OK));
+    }
+
+    @GetMapping("/ranked")
+    @Operation(summary = "맞춤 추천 순위 조회", description = "사용자의 감정 이력에 가장 잘 맞는 추천 항목을 점수 순으로 조회합니다")
+    public ResponseEntity<List<RankedContentDto>> getRankedRecommendContent(@RequestParam ContentType contentType,
+                                                                            @RequestParam(defaultValue = "10") int k) {
+        List<RankedContentDto> rankedContentDtos = recommendContentService.getRankedRecommendContent(contentType, Math.min(k, 50));
+        return new ResponseEntity<>(rankedContentDtos, HttpStatus.OK);
     }
 
     // 이번달 추천 컨텐츠 (음악, 영화, 시, 책)
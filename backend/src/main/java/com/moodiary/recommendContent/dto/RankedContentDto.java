@@ -0,0 +1,12 @@
+package com.moodiary.recommendContent.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RankedContentDto {
+    private String title;
+    private String creator;
+    private double score;
+}
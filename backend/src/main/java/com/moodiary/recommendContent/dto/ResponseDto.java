@@ -1,5 +1,6 @@
 package com.moodiary.recommendContent.dto;
 
+import com.moodiary.recommendContent.entity.ContentType;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -12,4 +13,5 @@ public class ResponseDto {
     private String title;
     private String content;
     private Long contentId;
+    private ContentType contentType;
 }
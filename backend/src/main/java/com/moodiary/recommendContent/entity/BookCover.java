@@ -0,0 +1,36 @@
+package com.moodiary.recommendContent.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 네이버 도서 검색으로 찾은 책 표지 이미지
+ *
+ * title_key는 책 제목의 SHA-256 해시이며, image_url이 null이면 검색 결과가 없었던 제목입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "book_cover")
+public class BookCover {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.CHAR) // 고정 길이 해시값 (V1_4 스키마의 CHAR(64)와 일치해야 ddl-auto=validate 통과)
+    @Column(name = "title_key", nullable = false, length = 64)
+    private String titleKey;
+
+    @Column(nullable = false, length = 500)
+    private String title;
+
+    @Column(name = "image_url", length = 1000)
+    private String imageUrl;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+}
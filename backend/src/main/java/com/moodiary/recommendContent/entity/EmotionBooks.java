@@ -1,145 +0,0 @@
-package com.moodiary.recommendContent.entity;
-
-import lombok.Getter;
-import org.springframework.stereotype.Component;
-
-@Component
-@Getter
-public class EmotionBooks {
-
-    public static final String[] HAPPY_BOOKS = {
-            "행복한 왕자", "웃음의 심리학", "긍정의 힘", "행복의 과학",
-            "미소 짓는 하루", "기쁨의 순간들", "햇살 같은 사람들", "행복을 찾아서",
-            "밝은 내일을 위한 지침서", "즐거운 인생 레시피", "웃음꽃이 피는 시간", "행복한 일상의 발견",
-            "기분 좋은 하루 시작하기", "희망의 메시지", "신나는 모험 이야기", "행복한 가족의 비밀",
-            "웃음이 있는 풍경", "긍정적 사고의 마법", "행복 바이러스", "즐거운 학교생활",
-            "행복한 연애 이야기", "기쁨 가득한 하루", "웃음의 치유력", "행복한 순간 포착하기",
-            "긍정 에너지 충전", "밝은 미래 설계하기", "행복한 습관 만들기", "웃음 치료법",
-            "기쁨의 철학", "행복 만들기 프로젝트", "즐거운 여행 이야기", "행복한 요리 레시피",
-            "웃음이 넘치는 집", "긍정적인 변화", "행복한 취미생활", "기분 좋은 음악",
-            "행복한 독서 시간", "웃음과 건강", "긍정 마인드 트레이닝", "행복한 인간관계"
-    };
-
-    public static final String[] SAD_BOOKS = {
-            "슬픔을 달래는 방법", "눈물의 의미", "이별 후 치유", "상실의 아픔",
-            "그리움의 편지", "혼자 있는 시간", "우는 것도 괜찮아", "슬픈 날의 위로",
-            "마음의 상처 치료하기", "떠나간 사람들", "빈 자리의 무게", "눈물 한 방울의 이야기",
-            "슬픔 너머의 희망", "외로움과 마주하기", "이별의 계절", "마음이 아플 때",
-            "슬픈 기억들", "치유되지 않는 상처", "그리운 사람", "슬픔의 깊이",
-            "눈물 마를 날까지", "상실감 극복하기", "슬픈 멜로디", "마음의 빈 공간",
-            "이별 후 일기", "슬픔을 견디는 법", "혼자서도 괜찮아", "눈물의 시간",
-            "마음이 무거운 날", "슬픈 사랑 이야기", "그리움의 무게", "이별의 아픔",
-            "슬픔 속에서 찾은 것", "눈물로 쓴 편지", "외로운 밤", "슬픈 계절",
-            "마음의 비", "이별 후 성장", "슬픔의 끝", "치유의 시간"
-    };
-
-    public static final String[] ANGRY_BOOKS = {
-            "분노 조절법", "화를 다스리는 방법", "분노의 심리학", "화날 때 읽는 책",
-            "분노를 힘으로 바꾸기", "화내지 않는 연습", "분노 관리 기술", "마음의 평정 찾기",
-            "분노와 스트레스", "화를 억누르지 말자", "분노의 원인", "감정 폭발 예방법",
-            "분노를 건설적으로 표현하기", "화가 날 때의 대처법", "분노 뒤의 진실", "마음의 균형",
-            "분노를 이해하기", "화를 참지 않는 방법", "분노 해소 기술", "감정의 주인 되기",
-            "분노 에너지 활용법", "화내지 않고 살기", "분노의 순기능", "감정 조절 훈련",
-            "분노와 인간관계", "화를 현명하게 표현하기", "분노의 뿌리", "감정적 성숙",
-            "분노를 창조적으로 활용", "화내는 습관 고치기", "분노 관리 워크북", "마음의 안정",
-            "분노를 통한 성장", "화내지 않는 대화법", "감정 균형 찾기", "분노의 변화",
-            "화를 지혜로 바꾸기", "분노 극복 이야기", "마음의 평화", "감정 조절의 기술"
-    };
-
-    public static final String[] DEPRESSED_BOOKS = {
-            "우울을 이기는 방법", "마음의 병 치료하기", "우울증 극복기", "어둠 속에서 빛 찾기",
-            "우울한 마음 달래기", "정신건강 회복법", "우울증과의 동행", "마음의 감기 치료",
-            "우울을 견디는 힘", "어두운 터널의 끝", "우울증 자가 치료", "마음의 회복력",
-            "우울을 희망으로 바꾸기", "정신적 치유", "우울한 날들", "마음의 상처 돌보기",
-            "우울증 완전 정복", "어둠에서 벗어나기", "우울을 이해하기", "마음의 건강 지키기",
-            "우울증과 함께 살기", "정신력 기르기", "우울을 받아들이기", "마음의 치료사",
-            "우울증 벗어나기", "어둠 속 한줄기 빛", "우울과 희망", "마음의 상처 치유",
-            "우울증 극복 프로젝트", "정신건강 가이드", "우울을 딛고 일어서기", "마음의 재활",
-            "우울증과의 전쟁", "어둠을 밝히는 방법", "우울에서 자유롭게", "마음의 치료 일지",
-            "우울증 완치 이야기", "정신적 회복력", "우울을 넘어서", "마음의 평안 찾기"
-    };
-
-    public static final String[] CALM_BOOKS = {
-            "마음의 평정", "고요한 시간", "평온함의 기술", "내면의 평화",
-            "마음을 다스리는 법", "고요한 성찰", "평정심 기르기", "조용한 명상",
-            "마음의 안정", "평온한 일상", "고요 속의 지혜", "내적 평화",
-            "마음의 균형", "평정심의 힘", "고요함을 찾아서", "내면의 고요",
-            "마음의 정적", "평온함의 가치", "고요한 마음", "내적 안정",
-            "마음을 가라앉히기", "평정심 유지법", "고요한 순간들", "내면의 침묵",
-            "마음의 휴식", "평온함의 미학", "고요한 성찰의 시간", "내적 고요함",
-            "마음의 중심 잡기", "평정심의 기술", "고요 속에서", "내면의 정적",
-            "마음의 평온", "평정심 수련", "고요한 시공간", "내적 평안",
-            "마음을 차분하게", "평온함의 지혜", "고요한 명상록", "내면의 균형"
-    };
-
-    public static final String[] EXCITED_BOOKS = {
-            "열정의 힘", "신나는 도전", "흥미진진한 모험", "열정적인 삶",
-            "에너지 넘치는 하루", "신나는 경험", "흥분되는 순간", "활력 충전법",
-            "열정을 불태우기", "신나는 여행기", "흥미로운 발견", "에너지 폭발",
-            "열정적 인생", "신나게 살기", "흥분되는 도전", "활동적인 라이프",
-            "열정의 불꽃", "신나는 스포츠", "흥미진진 스토리", "에너지 라이프",
-            "열정으로 사는 법", "신나는 취미", "흥분되는 일", "활기찬 하루",
-            "열정 프로젝트", "신나는 게임", "흥미로운 실험", "에너지 부스터",
-            "열정의 에너지", "신나는 파티", "흥분되는 뉴스", "활력소 충전",
-            "열정 가득한 삶", "신나는 축제", "흥미진진한 이야기", "에너지 충만",
-            "열정을 찾아서", "신나는 모험기", "흥분되는 변화", "활기 넘치는 일상"
-    };
-
-    public static final String[] ANXIOUS_BOOKS = {
-            "불안 극복하기", "걱정 멈추는 법", "불안증 치료", "마음의 불안 달래기",
-            "걱정하지 않는 연습", "불안을 이기는 힘", "걱정 없는 하루", "불안감 해소법",
-            "걱정을 멈추고 살기", "불안한 마음 진정시키기", "걱정 극복 가이드", "불안 관리법",
-            "걱정하지 말아요", "불안을 평화로", "걱정의 심리학", "불안감 치료하기",
-            "걱정 없이 사는 법", "불안과 작별하기", "걱정 끊기 프로젝트", "불안한 생각 멈추기",
-            "걱정 대신 행동을", "불안을 용기로", "걱정 없는 마음", "불안감 극복기",
-            "걱정을 지혜로", "불안한 시대 살아가기", "걱정 멈춤 버튼", "불안과 친해지기",
-            "걱정하지 않고 계획하기", "불안을 희망으로", "걱정 없는 미래", "불안감과의 이별",
-            "걱정을 내려놓기", "불안한 마음 치유하기", "걱정 없는 인생", "불안을 성장으로",
-            "걱정 대신 감사", "불안한 순간 넘기기", "걱정 없는 잠자리", "불안감 해방"
-    };
-
-    public static final String[] NEUTRAL_BOOKS = {
-            "일상의 기록", "평범한 하루", "담담한 시간", "중립적 사고",
-            "객관적 관찰", "무덤덤한 일상", "평범함의 가치", "담담함의 미학",
-            "중성적 태도", "평정한 마음", "무심한 관찰자", "중간 지대",
-            "균형잡힌 시각", "평범한 사람들", "담담한 기록", "중립적 입장",
-            "객관적 현실", "무덤덤한 관찰", "평범함 속 진리", "담담한 성찰",
-            "중성의 힘", "평정심 유지", "무심함의 지혜", "중간적 태도",
-            "균형의 기술", "평범한 진실", "담담한 철학", "중립적 관점",
-            "객관적 분석", "무덤덤함의 가치", "평범 속 특별함", "담담한 삶",
-            "중성적 마음", "평정한 일상", "무심한 지혜", "중간의 미덕",
-            "균형잡힌 삶", "평범한 순간들", "담담한 여정", "중립적 사고법"
-    };
-
-    public String getHappyBooks(int num) {
-        return HAPPY_BOOKS[num];
-    }
-
-    public String getSadBooks(int num) {
-        return SAD_BOOKS[num];
-    }
-
-    public String getAngryBooks(int num) {
-        return ANGRY_BOOKS[num];
-    }
-
-    public String getDepressedBooks(int num) {
-        return DEPRESSED_BOOKS[num];
-    }
-
-    public String getCalmBooks(int num) {
-        return CALM_BOOKS[num];
-    }
-
-    public String getExcitedBooks(int num) {
-        return EXCITED_BOOKS[num];
-    }
-
-    public String getAnxiousBooks(int num) {
-        return ANXIOUS_BOOKS[num];
-    }
-
-    public String getNeutralBooks(int num) {
-        return NEUTRAL_BOOKS[num];
-    }
-}
\ No newline at end of file
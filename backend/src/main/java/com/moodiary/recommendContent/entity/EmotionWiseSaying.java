@@ -1,447 +0,0 @@
-package com.moodiary.recommendContent.entity;
-
-import java.util.Arrays;
-import java.util.List;
-
-public class EmotionWiseSaying {
-    // 1. HAPPY
-    public static final List<String> HAPPY_QUOTES = Arrays.asList(
-            "행복은 멀리 있는 것이 아니라 지금 여기서 느끼는 것이다.",
-            "웃음은 영혼의 햇빛이다.",
-            "작은 기쁨을 찾는 사람이 결국 큰 행복을 얻는다.",
-            "행복은 준비하는 자의 것이다.",
-            "하루에 한 번은 스스로를 칭찬해줘라.",
-            "행복해지고 싶다면 지금 가진 것에 감사하라.",
-            "미소는 가장 값싸고 가장 강력한 무기다.",
-            "기쁨은 나누면 두 배가 된다.",
-            "행복은 방향이지 장소가 아니다.",
-            "우리가 웃는 이유는 행복해서가 아니라, 웃기 때문에 행복해지는 것이다.",
-            "행복은 선택이다.",
-            "당신이 행복하면 세상도 행복하다.",
-            "지금 웃을 수 있다면 이미 충분히 행복하다.",
-            "행복은 마음가짐에서 시작된다.",
-            "작은 성공을 축하하는 사람이 큰 성공도 축하할 수 있다.",
-            "행복은 완벽함이 아니라 불완전함을 사랑하는 것이다.",
-            "기분 좋은 하루는 스스로 만든다.",
-            "감사는 행복의 문을 여는 열쇠다.",
-            "행복은 찾는 것이 아니라 만드는 것이다.",
-            "행복은 늘 당신 곁에 있다.",
-            "오늘 가장 많이 웃은 사람이 가장 행복한 사람이다.",
-            "삶이 주는 작은 선물들을 즐겨라.",
-            "행복한 사람은 이미 부자다.",
-            "행복은 당신의 생각에 달려 있다.",
-            "기쁨을 느끼는 순간을 자주 만들어라.",
-            "행복의 비밀은 하고 싶은 일을 사랑하는 것이다.",
-            "행복은 매일매일 조금씩 쌓여간다.",
-            "당신이 행복하다고 느끼는 순간이 바로 인생의 보상이다.",
-            "웃음은 사람 사이의 가장 짧은 거리다.",
-            "행복은 문제의 부재가 아니라 문제를 바라보는 태도다.",
-            "행복은 마음속에서 자라는 꽃이다.",
-            "행복은 기다리는 것이 아니라 지금 누리는 것이다.",
-            "행복은 당신이 생각하는 것보다 훨씬 가까이 있다.",
-            "가장 행복한 순간은 예상치 못한 순간에 찾아온다.",
-            "행복한 기억을 많이 만들수록 인생은 더 빛난다.",
-            "행복은 평범한 순간을 특별하게 만드는 힘이다.",
-            "당신의 미소는 누군가에겐 희망이 된다.",
-            "행복은 비교를 멈추는 순간 시작된다.",
-            "행복은 삶의 속도가 아니라 방향에서 온다.",
-            "당신이 오늘 행복하기로 결정한다면 이미 반은 성공한 것이다."
-    );
-
-    // 2. SAD
-    public static final List<String> SAD_QUOTES = Arrays.asList(
-            "슬픔도 지나간다. 그러나 남기는 흔적은 우리가 성장하게 한다.",
-            "눈물은 영혼이 회복되는 과정이다.",
-            "슬픔은 우리가 사랑했다는 증거다.",
-            "가끔은 울어야 앞으로 걸을 수 있다.",
-            "슬픔은 끝이 아니라 새로운 시작의 문이다.",
-            "눈물 없는 인생은 없다.",
-            "슬픔은 나약함이 아니라 깊이 있는 감성이다.",
-            "가장 깊은 상처가 가장 강한 사람을 만든다.",
-            "흐르는 눈물은 말하지 못한 마음의 언어다.",
-            "슬픔은 오래 머물지 않는다. 단지 우리를 더 단단하게 만든다.",
-            "이별의 슬픔은 사랑이 있었기에 생긴 것이다.",
-            "아픈 기억도 결국 나의 일부가 된다.",
-            "슬픔은 삶을 더 의미 있게 만든다.",
-            "울어도 괜찮아. 그게 다시 일어설 힘이 된다.",
-            "어둠 속에서만 빛을 찾을 수 있다.",
-            "슬픔은 영혼을 씻어내는 시간이다.",
-            "상처는 언젠가 빛이 되는 법이다.",
-            "아파도 괜찮다. 그것이 사람이다.",
-            "가끔은 잊는 것보다 견디는 것이 더 용기다.",
-            "슬픔은 우리를 더 깊은 곳으로 데려간다.",
-            "사람은 울음을 통해 다시 태어난다.",
-            "슬픔을 피하지 말라. 그것은 당신을 성장시킨다.",
-            "마음의 아픔은 그만큼 사랑했다는 의미이다.",
-            "상처가 치유되면 더 강한 마음을 얻게 된다.",
-            "어두운 터널도 끝은 있다.",
-            "아픔은 언젠가 당신을 위로할 이야기로 남는다.",
-            "지나간 슬픔은 당신을 성숙하게 만든다.",
-            "우는 것은 약함이 아니다. 솔직함이다.",
-            "상실은 우리에게 새로운 의미를 가르친다.",
-            "슬픔은 영혼의 깊이를 만든다.",
-            "눈물은 사랑의 흔적이다.",
-            "슬픔은 반드시 사라진다. 흔적은 당신을 더 강하게 한다.",
-            "마음이 아플 때는 멈춰도 괜찮다.",
-            "우는 것도 용기다.",
-            "상처가 깊을수록 치유의 빛도 더욱 밝다.",
-            "나쁜 날이 있어야 좋은 날의 의미를 안다.",
-            "떠난 사람도, 남겨진 슬픔도 언젠가는 편안해진다.",
-            "슬픔을 품은 사람은 더 따뜻해진다.",
-            "지친 마음도 언젠가는 다시 웃는다.",
-            "울음은 영혼의 숨구멍이다."
-    );
-
-    // 3. ANGRY
-    public static final List<String> ANGRY_QUOTES = Arrays.asList(
-            "분노는 당신을 태우는 불꽃이다. 다스려라.",
-            "화를 참는 것이 진정한 용기다.",
-            "분노는 문제를 해결하지 못한다. 다만 더 키운다.",
-            "화는 순간이지만 후회는 평생이다.",
-            "분노는 가장 어리석은 감정이다.",
-            "억눌린 분노는 결국 자신을 해친다.",
-            "화를 내기 전에 한 번 더 생각하라.",
-            "분노는 지혜의 적이다.",
-            "감정은 행동보다 먼저 다스려야 한다.",
-            "화를 내는 건 쉽지만 참는 건 강함이다.",
-            "진정은 힘이다. 화는 약함이다.",
-            "분노는 당신을 흐리게 한다.",
-            "화를 다스리는 사람은 자신을 다스린 사람이다.",
-            "감정은 솔직하되 파괴적이지 않게 표현하라.",
-            "분노는 때로는 진실을 가린다.",
-            "화는 폭풍과 같다. 지나가기를 기다려라.",
-            "감정 조절은 가장 중요한 자기 통제다.",
-            "화를 잘 다스리는 사람이 지혜로운 사람이다.",
-            "분노는 결정력과 판단력을 흐린다.",
-            "화는 노력 없이도 나오지만 참음은 힘이 필요하다.",
-            "말은 화가 날 때 가장 위험하다.",
-            "분노는 적보다 자신을 더 다치게 한다.",
-            "참는 것이 패배가 아니다. 승리다.",
-            "화는 자신보다 주변을 먼저 파괴한다.",
-            "분노는 마음속 독이다. 비워내라.",
-            "화는 잠시지만 상처는 오래 간다.",
-            "감정을 제어하는 사람이 가장 강한 사람이다.",
-            "화를 내는 대신 문제를 바라보라.",
-            "분노는 결국 자신을 향한다.",
-            "화를 내면 얻는 것보다 잃는 것이 많다.",
-            "분노는 지혜를 질식시킨다.",
-            "화는 올바르게 다뤄야 한다.",
-            "참을 줄 아는 사람은 강한 사람이다.",
-            "분노는 당신이 이성을 잃는 순간이다.",
-            "화에 지지 마라.",
-            "분노는 해결의 시작이 아니다.",
-            "화내고 난 후의 후회를 기억하라.",
-            "분노는 당신의 시간을 갉아먹는다.",
-            "감정을 다스리는 것이 성숙이다.",
-            "화는 잠시지만 결과는 길다."
-    );
-
-    // 4. DEPRESSED
-    public static final List<String> DEPRESSED_QUOTES = Arrays.asList(
-            "지쳐도 괜찮다. 잠시 쉬어가면 된다.",
-            "당신은 생각보다 강하다.",
-            "절망 속에서도 희망은 존재한다.",
-            "아무것도 하기 싫은 날도 인생의 일부다.",
-            "마음이 무거워도 괜찮다. 그 또한 인간이다.",
-            "빛은 어둠 속에서 더욱 선명해진다.",
-            "당신은 혼자가 아니다.",
-            "오늘 버티는 것만으로도 충분히 잘한 것이다.",
-            "잠시 멈춰도 괜찮다.",
-            "우울은 지나가는 구름과 같다.",
-            "당신의 가치는 변하지 않는다.",
-            "지금 느끼는 감정이 당신을 정의하지 않는다.",
-            "어둠은 빛을 기다리는 시간이다.",
-            "우울할수록 자신에게 더 다정해야 한다.",
-            "고통 속에서도 삶은 계속된다.",
-            "당신이 살아 있다는 사실만으로도 가치 있다.",
-            "마음이 아픈 것은 잘못이 아니다.",
-            "기운이 없을 때는 쉬어가는 게 맞다.",
-            "지금의 고통이 당신을 더 깊게 만든다.",
-            "당신은 충분히 소중한 존재이다.",
-            "울어도 괜찮다. 그것이 치유의 시작이다.",
-            "모든 감정은 잠시 머물다 지나간다.",
-            "당신은 버티고 있고, 그것만으로도 대단하다.",
-            "절망은 희망의 반대가 아닌 과정이다.",
-            "내일은 오늘보다 조금 더 나을 수 있다.",
-            "당신은 이미 충분히 잘하고 있다.",
-            "자신을 탓하지 말라.",
-            "당신은 가치 있는 존재다.",
-            "희망은 가장 어두운 순간에 싹튼다.",
-            "당신의 슬픔에는 의미가 있다.",
-            "아무것도 하지 못하는 날도 괜찮다.",
-            "우울은 시간이 해결하는 감정이다.",
-            "당신은 혼자가 아니다.",
-            "당신의 속도가 느려도 괜찮다. 방향이 중요하다.",
-            "마음이 무너져도 다시 일어설 수 있다.",
-            "지금은 힘들지만 반드시 지나간다.",
-            "당신의 존재가 이미 충분한 가치다.",
-            "완벽하지 않아도 된다.",
-            "당신은 충분히 괜찮은 사람이다.",
-            "조금씩 나아지면 된다."
-    );
-
-    // 5. CALM
-    public static final List<String> CALM_QUOTES = Arrays.asList(
-            "평온은 혼란 속에서 더욱 빛난다.",
-            "조용함 속에서 해답이 나온다.",
-            "마음이 고요할 때 세상이 선명해진다.",
-            "천천히, 깊게, 한 걸음씩.",
-            "평화는 마음에서 시작된다.",
-            "고요함은 힘이다.",
-            "급할수록 천천히.",
-            "마음이 잔잔해질수록 삶도 잔잔해진다.",
-            "평온은 선택할 수 있는 능력이다.",
-            "고요함은 진정한 강함이다.",
-            "숨을 깊게 들이쉬어라.",
-            "조용한 마음이 가장 멀리 본다.",
-            "평화로운 마음은 삶을 부드럽게 만든다.",
-            "고요함은 혼란을 이기는 방법이다.",
-            "평온은 노력으로 얻어진다.",
-            "마음이 안정되면 모든 것이 명확해진다.",
-            "침착함은 큰 힘이다.",
-            "고요함은 자신에게 주는 선물이다.",
-            "마음의 평화를 먼저 지켜라.",
-            "평온한 마음이 행복을 부른다.",
-            "정적 속에 진리가 있다.",
-            "마음이 고요하면 삶이 여유롭다.",
-            "침착함은 성공의 기반이다.",
-            "순간을 천천히 느껴라.",
-            "고요한 마음은 지친 영혼을 치유한다.",
-            "평온은 큰 소리보다 강하다.",
-            "마음의 여유가 인생의 품격이다.",
-            "조용한 순간을 즐겨라.",
-            "침묵은 지혜의 또 다른 이름이다.",
-            "평화는 당신의 선택이다.",
-            "조용한 마음이 아름답다.",
-            "마음속 분주함을 내려놓아라.",
-            "고요한 마음이 길을 찾는다.",
-            "조용함 속에서 성장한다.",
-            "평온은 영혼의 쉼터다.",
-            "마음의 소음을 줄여라.",
-            "고요한 생각이 깊은 지혜를 만든다.",
-            "침착한 태도가 큰 변화를 만든다.",
-            "평온은 스스로 만드는 것이다.",
-            "고요함은 당신을 더 강하게 한다."
-    );
-
-    // 6. EXCITED
-    public static final List<String> EXCITED_QUOTES = Arrays.asList(
-            "설레는 마음은 인생을 움직이는 힘이다.",
-            "가슴 뛰는 순간이 인생의 이유다.",
-            "열정은 삶을 변화시킨다.",
-            "두근거림을 따라가라.",
-            "새로운 시작은 언제나 흥분된다.",
-            "설렘은 미래를 밝게 한다.",
-            "흥분은 도전의 에너지다.",
-            "심장이 뛰는 순간을 놓치지 마라.",
-            "열정은 당신의 길을 밝힌다.",
-            "설렘은 기적의 시작이다.",
-            "가슴 뛰는 순간을 만드는 사람이 되라.",
-            "흥분은 가능성을 넓힌다.",
-            "열정은 최고의 연료다.",
-            "설렘은 당신을 앞으로 이끈다.",
-            "꿈을 향한 흥분은 멈추지 않는다.",
-            "두근거림은 성장의 신호다.",
-            "흥분은 새로운 인생의 문이다.",
-            "열정적인 순간이 인생을 결정한다.",
-            "설렘은 매일을 특별하게 만든다.",
-            "도전의 순간은 언제나 흥분된다.",
-            "가슴 뛰는 일을 찾아라.",
-            "흥분은 창조의 원동력이다.",
-            "열정은 불가능을 가능하게 만든다.",
-            "내일이 기대되는 순간이 행복이다.",
-            "설렘은 인생의 선물이다.",
-            "두근거림은 용기를 부른다.",
-            "열정은 마음의 불꽃이다.",
-            "흥분은 당신의 가능성을 깨운다.",
-            "설렘이 있는 삶이 아름답다.",
-            "열정은 언제나 옳다.",
-            "가슴 뛰는 일을 멈추지 마라.",
-            "설렘은 당신을 더 좋은 곳으로 데려간다.",
-            "흥분은 인생을 활기차게 만든다.",
-            "열정은 계속될수록 강해진다.",
-            "두근거림을 소중히 여겨라.",
-            "설렘은 작은 순간에서 자란다.",
-            "흥분은 당신의 에너지를 높여준다.",
-            "열정은 움직임을 만든다.",
-            "설렘은 영감을 준다.",
-            "가슴 뛰는 지금을 즐겨라."
-    );
-
-    // 7. ANXIOUS
-    public static final List<String> ANXIOUS_QUOTES = Arrays.asList(
-            "불안은 나를 지배할 수 없다.",
-            "두려움은 상상에서 커진다.",
-            "불안은 미래에 대한 걱정일 뿐이다.",
-            "한 번에 한 걸음만 내디뎌라.",
-            "지금 이 순간에 집중하라.",
-            "불안은 당신을 정의하지 않는다.",
-            "두려움을 직면해야 사라진다.",
-            "불안은 자연스러운 감정이다.",
-            "당신은 생각보다 강하다.",
-            "해야 할 것은 걱정이 아니라 행동이다.",
-            "두려움은 용기의 시작이다.",
-            "불안을 인정하는 것이 극복의 첫걸음이다.",
-            "미래를 걱정하기보다 오늘을 살아라.",
-            "불안은 당신을 약하게 하지 않는다.",
-            "두려움 속에서도 용기는 자란다.",
-            "불안이 와도 괜찮다.",
-            "걱정은 해결이 아니라 소모다.",
-            "당신은 불안을 견딜 수 있다.",
-            "작은 용기가 큰 변화를 만든다.",
-            "불안은 지나간다.",
-            "두려움을 떨치려면 한 걸음만 움직여라.",
-            "불안은 당신의 잘못이 아니다.",
-            "당신은 흔들려도 무너지지 않는다.",
-            "걱정이 쌓이면 내려놓는 법을 배워라.",
-            "두려움은 상상 속에서 커지는 괴물이다.",
-            "불안한 마음일수록 천천히 숨 쉬어라.",
-            "불안함은 당신이 노력하고 있다는 증거다.",
-            "두려움은 당신이 나아가고 있다는 신호다.",
-            "불안은 당신을 멈추게 하지 못한다.",
-            "걱정은 일어나지 않은 일에 에너지를 쓰는 것이다.",
-            "당신은 충분히 괜찮다.",
-            "불안한 마음도 시간이 지나면 가라앉는다.",
-            "두려워도 괜찮다.",
-            "걱정보다는 용기를 선택하라.",
-            "불안은 당신을 성장시킬 수도 있다.",
-            "지금 이 순간이 가장 중요하다.",
-            "불안해도 계속할 수 있다.",
-            "걱정은 결국 사라진다.",
-            "두려움을 직면하는 순간 해방된다.",
-            "불안은 일시적이다."
-    );
-
-    // 8. DISAPPOINTED
-    public static final List<String> DISAPPOINTED_QUOTES = Arrays.asList(
-            "실망은 새로운 방향을 알려주는 신호다.",
-            "기대가 크면 실망도 크다.",
-            "실패는 끝이 아니라 과정이다.",
-            "실망했다고 멈추지 마라.",
-            "모든 실망은 더 나은 선택을 위한 길이다.",
-            "실망은 성장의 발판이다.",
-            "기대가 무너져도 다시 세울 수 있다.",
-            "모든 경험은 가치가 있다.",
-            "실망은 더 강한 나를 만든다.",
-            "때로는 실망이 가장 큰 스승이다.",
-            "포기하지 말라. 실망은 일시적이다.",
-            "실패는 방향 수정이다.",
-            "실망은 미래를 위한 정리다.",
-            "오늘의 실망이 내일의 희망을 만든다.",
-            "실망은 우리를 단단하게 한다.",
-            "기대가 깨지면 새로운 길이 보인다.",
-            "실패는 새로운 출발이다.",
-            "실망했다고 끝나는 것은 없다.",
-            "실망은 자기 성찰의 기회다.",
-            "한 번 무너졌다고 끝이 아니다.",
-            "실망은 마음을 아프게 하지만 사람을 강하게 한다.",
-            "모든 실패는 성공의 일부다.",
-            "실망은 나쁜 것이 아니다. 필요한 것이다.",
-            "기대는 줄이고 노력은 늘려라.",
-            "실망은 결국 새로운 가능성을 연다.",
-            "계획이 틀어져도 인생은 계속된다.",
-            "실망은 우리를 더 깊게 만든다.",
-            "실패는 인생의 깨달음을 준다.",
-            "실망을 통해 배우는 것이 많다.",
-            "다시 시작할 힘은 항상 있다.",
-            "실망은 당신의 잘못이 아니다.",
-            "실패는 다시 일어서는 이유가 된다.",
-            "실망해도 끝까지 믿어라.",
-            "실망은 잠시다. 성장은 영원하다.",
-            "한 번의 실패는 인생을 결정짓지 않는다.",
-            "기대가 무너졌다면 다시 쌓으면 된다.",
-            "실망은 당신을 더 강하게 만든다.",
-            "포기하지 않는 사람이 결국 이긴다.",
-            "실망은 변화의 시작이다.",
-            "실패는 도전의 또 다른 이름이다."
-    );
-
-    // 9. FRUSTRATED
-    public static final List<String> FRUSTRATED_QUOTES = Arrays.asList(
-            "답답함은 성장의 신호다.",
-            "막힌다고 멈추지 마라.",
-            "포기하고 싶은 순간이 가장 중요한 순간이다.",
-            "지금 답답해도 결국 길은 열린다.",
-            "인내는 모든 성취의 기반이다.",
-            "답답함은 돌파구가 가까워졌다는 의미다.",
-            "지금의 어려움은 당신을 더 강하게 만든다.",
-            "막힌 길도 언젠가는 열린다.",
-            "포기하지 않는 사람이 끝까지 간다.",
-            "답답함은 과정의 일부다.",
-            "조금만 더 버티면 된다.",
-            "지금의 답답함이 내일의 성장을 만든다.",
-            "어려움은 당신을 멈추게 하지 않는다.",
-            "막힘은 새로운 방법을 찾으라는 신호다.",
-            "답답한 마음도 결국 사라진다.",
-            "문제는 해결되기 위해 존재한다.",
-            "모든 과정에는 답답한 순간이 있다.",
-            "성장은 항상 불편함과 함께 온다.",
-            "할 수 있다. 당신은 이미 충분히 해냈다.",
-            "조금씩 나아가면 된다.",
-            "지금의 난관은 당신을 시험하는 단계다.",
-            "답답함도 지나간다.",
-            "막혀도 포기하지 마라.",
-            "당신은 생각보다 훨씬 강하다.",
-            "해결책은 항상 있다.",
-            "답답함을 견디는 자가 성공한다.",
-            "지금의 어려움이 당신의 힘을 키운다.",
-            "포기하지 않는 마음이 가장 큰 힘이다.",
-            "답답해도 괜찮다. 그만큼 노력하고 있다는 뜻이다.",
-            "느리더라도 멈추지 마라.",
-            "막힘은 기회다.",
-            "답답함이 클수록 성취도 크다.",
-            "당신은 결국 해낼 것이다.",
-            "문제는 해결될 운명이다.",
-            "막힌 마음도 언젠가 풀린다.",
-            "답답함도 성장 과정의 일부다.",
-            "느리게 가도 괜찮다.",
-            "당신은 충분히 잘하고 있다.",
-            "포기하지 않으면 된다.",
-            "답답함은 곧 돌파다."
-    );
-
-    // 10. NEUTRAL
-    public static final List<String> NEUTRAL_QUOTES = Arrays.asList(
-            "삶은 흘러가고, 당신은 그 흐름을 따라가면 된다.",
-            "모든 순간은 지나간다.",
-            "과한 감정 없이 바라보는 것도 지혜다.",
-            "있는 그대로의 삶을 받아들여라.",
-            "중심을 잃지 마라.",
-            "평온은 균형에서 온다.",
-            "과하지도 부족하지도 않게 살아라.",
-            "모든 것은 결국 제자리를 찾는다.",
-            "흐름에 몸을 맡기면 된다.",
-            "중립적인 시선이 때로는 더 명확하다.",
-            "삶은 흑백이 아니다. 회색도 아름답다.",
-            "지금 이 순간을 그냥 바라보라.",
-            "감정 없이도 삶은 흘러간다.",
-            "균형은 삶의 핵심이다.",
-            "너무 앞서도, 너무 뒤쳐져도 안 된다.",
-            "있는 그대로의 현실이 때로는 해답이다.",
-            "모든 것은 지나간다.",
-            "중심이 잡힌 사람이 더 멀리 간다.",
-            "평범함 속에 깊이가 있다.",
-            "감정은 변하지만 삶은 계속된다.",
-            "지금의 상태를 있는 그대로 느껴라.",
-            "균형 잡힌 마음이 삶을 안정시킨다.",
-            "삶은 흐르고 우리는 그 흐름 속에 있다.",
-            "평온함은 균형에서 나온다.",
-            "감정에 치우치지 않는 것도 힘이다.",
-            "느끼는 그대로 받아들여라.",
-            "모든 상황은 지나간다.",
-            "중립적인 태도는 혼란을 줄인다.",
-            "삶은 계속 움직인다.",
-            "평범함이 때로는 최고의 안정이다.",
-            "감정을 내려놓고 바라보라.",
-            "중심을 잡으면 어떤 파도도 이겨낼 수 있다.",
-            "지금 이 순간 그대로 충분하다.",
-            "균형은 스스로 만드는 것이다.",
-            "삶의 흐름을 받아들여라.",
-            "어떤 감정도 영원하지 않다.",
-            "삶은 단순할수록 안정된다.",
-            "중립적인 마음이 가장 똑똑하다.",
-            "과하지 않은 것이 가장 좋다.",
-            "모든 것은 결국 제자리로 돌아온다."
-    );
-
-}
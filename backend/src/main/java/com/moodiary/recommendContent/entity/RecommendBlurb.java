@@ -0,0 +1,57 @@
+package com.moodiary.recommendContent.entity;
+
+import com.moodiary.entity.EmotionType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Gemini로 생성한 추천 컨텐츠 소개 문구
+ *
+ * (컨텐츠 종류, 제목, 작가/감독/아티스트, 감정, 프롬프트 버전)마다 하나씩 저장되며,
+ * blurb_key는 RecommendBlurbCache의 캐시 키와 같습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "recommend_blurb",
+        uniqueConstraints = @UniqueConstraint(name = "uk_recommend_blurb_key", columnNames = "blurb_key"))
+public class RecommendBlurb {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "blurb_key", nullable = false, length = 200)
+    private String blurbKey;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "content_type", nullable = false, length = 20)
+    private ContentType contentType;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
+    private EmotionType emotion;
+
+    @Column(nullable = false, length = 500)
+    private String title;
+
+    private String creator;
+
+    @Column(name = "prompt_version", nullable = false, length = 20)
+    private String promptVersion;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Builder.Default
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
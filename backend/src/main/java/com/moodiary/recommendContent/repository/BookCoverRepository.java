@@ -0,0 +1,9 @@
+package com.moodiary.recommendContent.repository;
+
+import com.moodiary.recommendContent.entity.BookCover;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BookCoverRepository extends JpaRepository<BookCover, String> {
+}
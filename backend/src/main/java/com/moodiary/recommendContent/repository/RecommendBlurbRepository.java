@@ -0,0 +1,20 @@
+package com.moodiary.recommendContent.repository;
+
+import com.moodiary.recommendContent.entity.RecommendBlurb;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+public interface RecommendBlurbRepository extends JpaRepository<RecommendBlurb, Long> {
+
+    Optional<RecommendBlurb> findByBlurbKey(String blurbKey);
+
+    // 프롬프트 버전별로 이미 생성된 소개 문구 키 (워밍업 배치에서 건너뛸 대상)
+    @Query("SELECT b.blurbKey FROM RecommendBlurb b WHERE b.promptVersion = :promptVersion")
+    Set<String> findBlurbKeysByPromptVersion(@Param("promptVersion") String promptVersion);
+}
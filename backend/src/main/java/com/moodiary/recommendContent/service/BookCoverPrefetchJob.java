@@ -0,0 +1,123 @@
+package com.moodiary.recommendContent.service;
+
+import com.moodiary.entity.EmotionType;
+import com.moodiary.recommendContent.component.BookCoverCache;
+import com.moodiary.recommendContent.component.RecommendCatalog;
+import com.moodiary.recommendContent.entity.ContentType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 책 표지 이미지 미리 가져오기 배치
+ *
+ * 카탈로그의 모든 책 제목 중 저장된 표지 이미지가 없거나 만료된 제목만 네이버 도서 검색으로 조회해
+ * book_cover 테이블과 BookCoverCache에 저장합니다. 이미 저장된 제목은 건너뛰므로 여러 번 실행해도 안전합니다.
+ *
+ * 실행 방법:
+ * - 시작 시 1회: recommend.book-cover.prefetch.run-on-startup (기본값 true, 기동을 막지 않도록 백그라운드에서 실행)
+ * - 스케줄: recommend.book-cover.prefetch.cron 설정 (기본값 "-"는 비활성화)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookCoverPrefetchJob implements ApplicationRunner {
+
+    private final BookCoverCache bookCoverCache;
+    private final RecommendCatalog recommendCatalog;
+
+    @Value("${recommend.book-cover.prefetch.run-on-startup:true}")
+    private boolean runOnStartup;
+
+    @Value("${recommend.book-cover.prefetch.concurrency:2}")
+    private int concurrency;
+
+    @Value("${recommend.book-cover.prefetch.requests-per-second:5}")
+    private double requestsPerSecond;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (runOnStartup) {
+            Mono.fromRunnable(this::run)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe();
+        }
+    }
+
+    @Scheduled(cron = "${recommend.book-cover.prefetch.cron:-}")
+    public void runScheduled() {
+        run();
+    }
+
+    /**
+     * 미리 가져오기 실행 (완료될 때까지 블로킹)
+     */
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("책 표지 이미지 미리 가져오기가 이미 실행 중입니다.");
+            return;
+        }
+        try {
+            doRun();
+        } catch (Exception e) {
+            log.error("책 표지 이미지 미리 가져오기 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void doRun() {
+        Set<String> titles = bookTitles();
+        List<String> targets = titles.stream()
+                .filter(bookCoverCache::needsFetch)
+                .toList();
+
+        log.info("책 표지 이미지 미리 가져오기 시작 - 전체 제목: {}, 검색 대상: {}", titles.size(), targets.size());
+
+        AtomicInteger failed = new AtomicInteger();
+        Duration interval = requestsPerSecond > 0
+                ? Duration.ofNanos((long) (1_000_000_000L / requestsPerSecond))
+                : Duration.ZERO;
+
+        Flux.fromIterable(targets)
+                .transform(flux -> interval.isZero() ? flux : flux.delayElements(interval))
+                .flatMap(title -> bookCoverCache.fetch(title)
+                        .onErrorResume(e -> {
+                            failed.incrementAndGet();
+                            log.warn("책 표지 이미지 검색 실패 - {}: {}", title, e.getMessage());
+                            return Mono.empty();
+                        }), Math.max(1, concurrency))
+                .blockLast();
+
+        log.info("책 표지 이미지 미리 가져오기 완료 - 검색: {}, 실패: {}", targets.size(), failed.get());
+    }
+
+    /**
+     * 카탈로그의 모든 책 제목 (중복 제거)
+     */
+    private Set<String> bookTitles() {
+        Set<String> titles = new LinkedHashSet<>();
+        for (EmotionType emotion : EmotionType.values()) {
+            for (RecommendCatalog.Item item : recommendCatalog.items(emotion, ContentType.BOOK)) {
+                titles.add(item.title());
+            }
+        }
+        return titles;
+    }
+}
@@ -0,0 +1,240 @@
+package com.moodiary.recommendContent.service;
+
+import com.moodiary.entity.BatchCheckpoint;
+import com.moodiary.entity.EmotionType;
+import com.moodiary.recommendContent.component.GeminiApiResponse;
+import com.moodiary.recommendContent.component.GeminiPrompt;
+import com.moodiary.recommendContent.component.RecommendBlurbCache;
+import com.moodiary.recommendContent.component.RecommendCatalog;
+import com.moodiary.recommendContent.entity.ContentType;
+import com.moodiary.recommendContent.repository.RecommendBlurbRepository;
+import com.moodiary.repository.BatchCheckpointRepository;
+import com.moodiary.service.LlmRateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 추천 소개 문구 워밍업 배치
+ *
+ * 감정별 추천 목록(책, 시, 영화, 음악, 명언) 전체를 순회하며 (항목 × 감정) 조합의
+ * 소개 문구를 Gemini로 미리 생성해 recommend_blurb 테이블에 저장합니다.
+ * 운영 중 추천 요청은 저장된 문구만 조회하고 Gemini를 호출하지 않게 됩니다.
+ *
+ * - 동시 호출 수(concurrency)와 초당 요청 수(requests-per-second)를 제한합니다.
+ *   기본 속도(0.5건/초 = 분당 30건)는 Gemini 요청량 한도(llm.rate-limit.gemini.requests-per-minute, 기본 60)의 절반으로,
+ *   나머지는 운영 중 추천 요청이 사용합니다.
+ * - 요청량 한도(LlmRateLimiter)로 거절된 항목은 건너뛰지 않고 간격을 늘려 다시 시도하며,
+ *   재시도 횟수를 넘으면 실행을 중단하고 다음 실행에서 체크포인트부터 이어서 처리합니다.
+ * - 순회 위치를 batch_checkpoint에 주기적으로 기록해, 중단 후 다시 실행하면 이어서 처리합니다.
+ * - 현재 프롬프트 버전으로 이미 저장된 항목은 건너뛰므로 여러 번 실행해도 안전합니다.
+ *
+ * 실행 방법:
+ * - 스케줄: recommend.blurb.warmup.cron 설정 (기본값 "-"는 비활성화)
+ * - 시작 시 1회: --recommend.blurb.warmup.run-on-startup=true 인자로 애플리케이션 실행 (백그라운드 실행, 시작을 지연시키지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendBlurbWarmupJob implements ApplicationRunner {
+
+    static final String JOB_NAME = "recommend-blurb-warmup";
+
+    private final GeminiApiResponse geminiApiResponse;
+    private final RecommendBlurbCache recommendBlurbCache;
+    private final RecommendBlurbRepository recommendBlurbRepository;
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final RecommendCatalog recommendCatalog;
+
+    @Value("${recommend.blurb.warmup.run-on-startup:false}")
+    private boolean runOnStartup;
+
+    @Value("${recommend.blurb.warmup.concurrency:4}")
+    private int concurrency;
+
+    @Value("${recommend.blurb.warmup.requests-per-second:0.5}")
+    private double requestsPerSecond;
+
+    @Value("${recommend.blurb.warmup.rate-limit-retry.max-attempts:5}")
+    private int rateLimitRetryAttempts;
+
+    @Value("${recommend.blurb.warmup.rate-limit-retry.min-backoff:10s}")
+    private Duration rateLimitRetryBackoff;
+
+    @Value("${recommend.blurb.warmup.checkpoint-interval:20}")
+    private int checkpointInterval;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 워밍업 대상 항목
+     */
+    record CatalogItem(ContentType contentType, EmotionType emotion, String title, String creator) {
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (runOnStartup) {
+            Mono.fromRunnable(this::run)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe();
+        }
+    }
+
+    @Scheduled(cron = "${recommend.blurb.warmup.cron:-}")
+    public void runScheduled() {
+        run();
+    }
+
+    /**
+     * 워밍업 실행 (완료될 때까지 블로킹)
+     */
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("추천 소개 문구 워밍업이 이미 실행 중입니다.");
+            return;
+        }
+        try {
+            doRun();
+        } catch (Exception e) {
+            log.error("추천 소개 문구 워밍업 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void doRun() {
+        List<CatalogItem> items = catalogItems();
+        String version = GeminiPrompt.VERSION;
+
+        BatchCheckpoint checkpoint = batchCheckpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> BatchCheckpoint.builder()
+                        .jobName(JOB_NAME)
+                        .updatedAt(LocalDateTime.now())
+                        .build());
+        int start = resumePosition(checkpoint.getCursor(), version);
+        Set<String> existing = recommendBlurbRepository.findBlurbKeysByPromptVersion(version);
+
+        log.info("추천 소개 문구 워밍업 시작 - 전체: {}, 시작 위치: {}, 저장된 문구: {}, 프롬프트 버전: {}",
+                items.size(), start, existing.size(), version);
+
+        AtomicInteger generated = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger lastCompleted = new AtomicInteger(-1);
+        Duration interval = requestsPerSecond > 0
+                ? Duration.ofNanos((long) (1_000_000_000L / requestsPerSecond))
+                : Duration.ZERO;
+
+        try {
+            Flux.range(start, Math.max(0, items.size() - start))
+                    .filter(index -> {
+                        CatalogItem item = items.get(index);
+                        String key = recommendBlurbCache.key(item.contentType(), item.title(), item.creator(), item.emotion());
+                        if (existing.contains(key)) {
+                            skipped.incrementAndGet();
+                            return false;
+                        }
+                        return true;
+                    })
+                    .transform(flux -> interval.isZero() ? flux : flux.delayElements(interval))
+                    // 완료 순서를 입력 순서대로 유지해야 체크포인트 이전 항목이 모두 처리되었음을 보장
+                    .flatMapSequential(index -> generate(items.get(index), generated, failed).thenReturn(index), Math.max(1, concurrency))
+                    .index()
+                    .doOnNext(progress -> {
+                        lastCompleted.set(progress.getT2());
+                        if ((progress.getT1() + 1) % Math.max(1, checkpointInterval) == 0) {
+                            saveCheckpoint(checkpoint, version + ":" + progress.getT2());
+                        }
+                    })
+                    .blockLast();
+        } catch (LlmRateLimiter.RateLimitedException e) {
+            // 처리를 마친 위치까지만 기록하고, 거절된 항목부터 다음 실행에서 이어서 처리
+            if (lastCompleted.get() >= 0) {
+                saveCheckpoint(checkpoint, version + ":" + lastCompleted.get());
+            }
+            log.warn("요청량 한도로 추천 소개 문구 워밍업 중단 - 생성: {}, 건너뜀: {}, 실패: {}, 마지막 처리 위치: {} ({})",
+                    generated.get(), skipped.get(), failed.get(), lastCompleted.get(), e.getMessage());
+            return;
+        }
+
+        // 전체 순회를 마치면 처음부터 다시 순회하도록 초기화 (실패 항목과 새 항목은 다음 실행에서 처리)
+        saveCheckpoint(checkpoint, null);
+
+        log.info("추천 소개 문구 워밍업 완료 - 생성: {}, 건너뜀: {}, 실패: {}",
+                generated.get(), skipped.get(), failed.get());
+    }
+
+    private Mono<Void> generate(CatalogItem item, AtomicInteger generated, AtomicInteger failed) {
+        GeminiPrompt prompt = GeminiPrompt.of(item.contentType());
+        return geminiApiResponse.generate(prompt, item.title(), item.emotion().getDescription(), item.creator())
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(blurb -> {
+                    recommendBlurbCache.save(item.contentType(), item.title(), item.creator(), item.emotion(), blurb);
+                    generated.incrementAndGet();
+                })
+                .then()
+                // 요청량 한도로 거절된 경우 항목을 건너뛰지 않고 간격을 늘려 다시 시도 (횟수를 넘으면 워밍업 중단)
+                .retryWhen(Retry.backoff(rateLimitRetryAttempts, rateLimitRetryBackoff)
+                        .filter(e -> e instanceof LlmRateLimiter.RateLimitedException)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .onErrorResume(e -> !(e instanceof LlmRateLimiter.RateLimitedException), e -> {
+                    failed.incrementAndGet();
+                    log.warn("추천 소개 문구 생성 실패 - {} / {} / {}: {}",
+                            item.contentType(), item.emotion(), item.title(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private int resumePosition(String cursor, String version) {
+        if (cursor == null || !cursor.startsWith(version + ":")) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(cursor.substring(version.length() + 1)) + 1;
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 워밍업 체크포인트를 무시합니다: {}", cursor);
+            return 0;
+        }
+    }
+
+    private void saveCheckpoint(BatchCheckpoint checkpoint, String cursor) {
+        try {
+            checkpoint.updateCursor(cursor);
+            batchCheckpointRepository.save(checkpoint);
+        } catch (Exception e) {
+            log.warn("워밍업 체크포인트 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 추천 목록 전체를 (감정, 컨텐츠 종류) 순서로 나열
+     */
+    List<CatalogItem> catalogItems() {
+        List<CatalogItem> items = new ArrayList<>();
+        for (EmotionType emotion : EmotionType.values()) {
+            for (ContentType contentType : ContentType.values()) {
+                for (RecommendCatalog.Item item : recommendCatalog.items(emotion, contentType)) {
+                    items.add(new CatalogItem(contentType, emotion, item.title(), item.creator()));
+                }
+            }
+        }
+        return items;
+    }
+}
@@ -1,235 +1,146 @@
 package com.moodiary.recommendContent.service;
 
-import com.moodiary.entity.DiaryEntry;
 import com.moodiary.entity.EmotionType;
 import com.moodiary.entity.UserUserDetails;
 import com.moodiary.jwt.JwtTokenProvider;
-import com.moodiary.recommendContent.component.GeminiApiResponse;
-import com.moodiary.recommendContent.component.NaverBookClient;
+import com.moodiary.recommendContent.component.BookCoverCache;
+import com.moodiary.recommendContent.component.RecommendBlurbCache;
+import com.moodiary.recommendContent.component.RecommendCatalog;
+import com.moodiary.recommendContent.component.RecommendRanker;
+import com.moodiary.recommendContent.component.RecommendSampler;
+import com.moodiary.recommendContent.dto.RankedContentDto;
 import com.moodiary.recommendContent.dto.ResponseDto;
 import com.moodiary.recommendContent.entity.*;
 import com.moodiary.recommendContent.repository.RecommentContentRepository;
-import com.moodiary.repository.DiaryRepository;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
 
 @Service
 @AllArgsConstructor
 public class RecommendContentService {
     private final RecommentContentRepository recommentContentRepository;
-    private final EmotionBooks emotionBooks;
-    private final DiaryRepository diaryRepository;
-    private final NaverBookClient naverBookClient;
-    private final GeminiApiResponse geminiApiResponse;
-    private final EmotionPoems emotionPoems;
-    private final EmotionMovies emotionMovies;
-    private final EmotionSong emotionSong;
+    private final BookCoverCache bookCoverCache;
+    private final RecommendBlurbCache recommendBlurbCache;
+    private final RecommendSampler recommendSampler;
+    private final RecommendRanker recommendRanker;
 
 
-    public ResponseDto createNewRecommendBook() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        UserUserDetails userDetails = (UserUserDetails) auth.getPrincipal();
-        Long userId = userDetails.getUser().getId();
-
-        ResponseDto responseDto = new ResponseDto();
-        DiaryEntry diary = diaryRepository.findTopByUserIdOrderByCreatedAtDesc(userId).orElse(null);
-        Random random = new Random();
-        int randomNumber = random.nextInt(40);
-
-        String bookTitle = switch (diary.getIntegratedEmotion()) {
-            case HAPPY -> emotionBooks.getHappyBooks(randomNumber);
-            case SAD -> emotionBooks.getSadBooks(randomNumber);
-            case ANGRY -> emotionBooks.getAngryBooks(randomNumber);
-            case DEPRESSED -> emotionBooks.getDepressedBooks(randomNumber);
-            case CALM -> emotionBooks.getCalmBooks(randomNumber);
-            case EXCITED -> emotionBooks.getExcitedBooks(randomNumber);
-            case ANXIOUS -> emotionBooks.getAnxiousBooks(randomNumber);
-            default -> emotionBooks.getNeutralBooks(randomNumber);
-        };
-
-        String content = geminiApiResponse.getBookGeminiResponse(bookTitle, diary.getIntegratedEmotion().getDescription());
-        String bookImageUrl = naverBookClient.getBookImageUrl(bookTitle);
-
-        LocalDateTime now = LocalDateTime.now();
+    public Mono<ResponseDto> createNewRecommendBook() {
+        return createRecommend(ContentType.BOOK);
+    }
 
-        RecommendContent recommendContent = new RecommendContent();
-        recommendContent.setTitle(bookTitle);
-        recommendContent.setUser(userDetails.getUser());
-        recommendContent.setContent(content);
-        recommendContent.setImageUri(bookImageUrl);
-        recommendContent.setCreateAt(now);
-        recommendContent.setContentType(ContentType.BOOK);
+    public Mono<ResponseDto> createRecommendPoem() {
+        return createRecommend(ContentType.POEM);
+    }
 
-        RecommendContent saved = recommentContentRepository.save(recommendContent);
+    public Mono<ResponseDto> createRecommendMovie() {
+        return createRecommend(ContentType.MOVIE);
+    }
 
-        responseDto.setContentId(saved.getId());
-        responseDto.setTitle(bookTitle);
-        responseDto.setContent(content);
-        responseDto.setImageUrl(bookImageUrl);
+    public Mono<ResponseDto> createRecommendMusic() {
+        return createRecommend(ContentType.MUSIC);
+    }
 
-        return responseDto;
+    public Mono<ResponseDto> createRecommendWiseSaying() {
+        return createRecommend(ContentType.WISESAYING);
     }
 
-    public ResponseDto createRecommendPoem() {
+    /**
+     * 여러 종류의 추천 컨텐츠를 한 번에 생성
+     *
+     * 사용자 감정 프로필은 한 번만 조회하고, 종류별 소개 문구/표지 이미지 조회는 동시에 수행한 뒤
+     * 결과를 한 번의 saveAll로 저장합니다. 응답은 요청한 종류 순서를 따릅니다.
+     *
+     * @param contentTypes 생성할 컨텐츠 종류 (비어 있으면 전체, 중복은 한 번만 생성)
+     */
+    public Mono<List<ResponseDto>> createRecommendBundle(List<ContentType> contentTypes) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         UserUserDetails userDetails = (UserUserDetails) auth.getPrincipal();
         Long userId = userDetails.getUser().getId();
 
-        ResponseDto responseDto = new ResponseDto();
-        DiaryEntry diary = diaryRepository.findTopByUserIdOrderByCreatedAtDesc(userId).orElse(null);
-        Random random = new Random();
-        int randomNumber = random.nextInt(15);
-
-        List<Map<String, String>> poems;
-        switch (diary.getIntegratedEmotion()) {
-            case HAPPY -> poems = emotionPoems.getHappyPoems();
-            case SAD -> poems = emotionPoems.getSadPoems();
-            case ANGRY -> poems = emotionPoems.getAngryPoems();
-            case DEPRESSED -> poems = emotionPoems.getDepressedPoems();
-            case CALM -> poems = emotionPoems.getCalmPoems();
-            case EXCITED -> poems = emotionPoems.getExcitedPoems();
-            case ANXIOUS -> poems = emotionPoems.getAnxiousPoems();
-            case DISAPPOINTED -> poems = emotionPoems.getDisappointedPoems();
-            case FRUSTRATED -> poems = emotionPoems.getFrustratedPoems();
-            default -> poems = emotionPoems.getNeutralPoems();
-        }
-
-        Map<String, String> selectedPoem = poems.get(randomNumber);
-        String poemTitle = selectedPoem.get("title");
-        String poemAuthor = selectedPoem.get("author");
-
-        String poemResponse = geminiApiResponse.getPomeGeminiResponse(poemTitle, diary.getIntegratedEmotion().getDescription(), poemAuthor);
-
-        LocalDateTime now = LocalDateTime.now();
-
-        RecommendContent recommendContent = new RecommendContent();
-        recommendContent.setTitle(poemTitle);
-        recommendContent.setUser(userDetails.getUser());
-        recommendContent.setContent(poemResponse);
-        recommendContent.setImageUri(null);
-        recommendContent.setCreateAt(now);
-        recommendContent.setContentType(ContentType.POEM);
-        RecommendContent saved = recommentContentRepository.save(recommendContent);
-
-        responseDto.setTitle(poemTitle);
-        responseDto.setContent(poemResponse);
-        responseDto.setContentId(saved.getId());
-        return responseDto;
+        List<ContentType> requested = contentTypes == null || contentTypes.isEmpty()
+                ? List.of(ContentType.values())
+                : contentTypes.stream().distinct().toList();
+        RecommendRanker.Profile profile = recommendRanker.profile(userId);
+
+        return Flux.fromIterable(requested)
+                .flatMapSequential(contentType -> generate(userDetails, profile, contentType))
+                .collectList()
+                .publishOn(Schedulers.boundedElastic())
+                .map(recommendContents -> recommentContentRepository.saveAll(recommendContents).stream()
+                        .map(this::toResponseDto)
+                        .toList());
     }
 
-    public ResponseDto createRecommendMovie() {
+    private Mono<ResponseDto> createRecommend(ContentType contentType) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         UserUserDetails userDetails = (UserUserDetails) auth.getPrincipal();
         Long userId = userDetails.getUser().getId();
 
-        ResponseDto responseDto = new ResponseDto();
-        DiaryEntry diary = diaryRepository.findTopByUserIdOrderByCreatedAtDesc(userId).orElse(null);
-        Random random = new Random();
-        int randomNumber = random.nextInt(15);
-
-
-        List<Map<String, String>> movie = null;
-
-        switch (diary.getIntegratedEmotion()) {
-            case HAPPY -> movie = emotionMovies.getHappyMovies();
-            case SAD -> movie = emotionMovies.getSadMovies();
-            case ANGRY -> movie = emotionMovies.getAngryMovies();
-            case DEPRESSED -> movie = emotionMovies.getDepressedMovies();
-            case CALM -> movie = emotionMovies.getCalmMovies();
-            case EXCITED -> movie = emotionMovies.getExcitedMovies();
-            case ANXIOUS -> movie = emotionMovies.getAnxiousMovies();
-            case DISAPPOINTED -> movie = emotionMovies.getDisappointedMovies();
-            case FRUSTRATED -> movie = emotionMovies.getFrustratedMovies();
-            case NEUTRAL -> movie = emotionMovies.getNeutralMovies();
-        }
-
-// 바로 값 가져오기
-        Map<String, String> selectedMovie = movie.get(randomNumber);
-        String movieTitle = selectedMovie.get("title");
-        String movieDirector = selectedMovie.get("director");
-
-        String movieResponse = geminiApiResponse.getMovieGeminiResponse(movieTitle, diary.getIntegratedEmotion().getDescription(), movieDirector);
-
-
-        LocalDateTime now = LocalDateTime.now();
-        RecommendContent recommendContent = new RecommendContent();
-        recommendContent.setTitle(movieTitle);
-        recommendContent.setUser(userDetails.getUser());
-        recommendContent.setContent(movieResponse);
-        recommendContent.setImageUri(null);
-        recommendContent.setCreateAt(now);
-        recommendContent.setContentType(ContentType.MOVIE);
-        RecommendContent saved = recommentContentRepository.save(recommendContent);
+        return generate(userDetails, recommendRanker.profile(userId), contentType)
+                .publishOn(Schedulers.boundedElastic())
+                .map(recommendContent -> toResponseDto(recommentContentRepository.save(recommendContent)));
+    }
 
-        responseDto.setContentId(saved.getId());
-        responseDto.setTitle(movieTitle);
-        responseDto.setContent(movieResponse);
+    /**
+     * 추천 항목을 고르고 소개 문구와 표지 이미지를 채운 추천 컨텐츠 생성 (저장하지 않음)
+     */
+    private Mono<RecommendContent> generate(UserUserDetails userDetails, RecommendRanker.Profile profile, ContentType contentType) {
+        // 최근 일기 감정 위주로, 감정 이력(시간 감쇠 + 북마크)에 비례해 추천 목록의 감정을 선택 (캐시된 프로필 사용)
+        EmotionType emotion = recommendRanker.targetEmotion(profile);
+        RecommendCatalog.Item item = recommendSampler.next(userDetails.getUser().getId(), emotion, contentType);
+
+        // 책 표지 이미지는 미리 저장된 값만 사용 (네이버 호출을 기다리지 않음)
+        String imageUrl = contentType == ContentType.BOOK ? bookCoverCache.imageUrl(item.title()) : null;
+
+        return recommendBlurbCache.getOrGenerate(contentType, item.title(), item.creator(), emotion)
+                .map(content -> {
+                    RecommendContent recommendContent = new RecommendContent();
+                    recommendContent.setTitle(item.title());
+                    recommendContent.setUser(userDetails.getUser());
+                    recommendContent.setContent(content);
+                    recommendContent.setImageUri(imageUrl);
+                    recommendContent.setCreateAt(LocalDateTime.now());
+                    recommendContent.setContentType(contentType);
+                    return recommendContent;
+                });
+    }
 
+    private ResponseDto toResponseDto(RecommendContent recommendContent) {
+        ResponseDto responseDto = new ResponseDto();
+        responseDto.setContentId(recommendContent.getId());
+        responseDto.setContentType(recommendContent.getContentType());
+        responseDto.setTitle(recommendContent.getTitle());
+        responseDto.setContent(recommendContent.getContent());
+        responseDto.setImageUrl(recommendContent.getImageUri());
         return responseDto;
-
     }
 
-    public ResponseDto createRecommendMusic() {
+    public List<RankedContentDto> getRankedRecommendContent(ContentType contentType, int k) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         UserUserDetails userDetails = (UserUserDetails) auth.getPrincipal();
         Long userId = userDetails.getUser().getId();
 
-        ResponseDto responseDto = new ResponseDto();
-        DiaryEntry diary = diaryRepository.findTopByUserIdOrderByCreatedAtDesc(userId).orElse(null);
-        Random random = new Random();
-        int randomNumber = random.nextInt(15);
-
-
-        List<Map<String, String>> music = null;
-
-        switch (diary.getIntegratedEmotion()) {
-            case HAPPY -> music = emotionSong.getHappySongs();
-            case SAD -> music = emotionSong.getSadSongs();
-            case ANGRY -> music = emotionSong.getAngrySongs();
-            case DEPRESSED -> music = emotionSong.getDepressedSongs();
-            case CALM -> music = emotionSong.getCalmSongs();
-            case EXCITED -> music = emotionSong.getExcitedSongs();
-            case ANXIOUS -> music = emotionSong.getAnxiousSongs();
-            case DISAPPOINTED -> music = emotionSong.getDisappointedSongs();
-            case FRUSTRATED -> music = emotionSong.getFrustratedSongs();
-            case NEUTRAL -> music = emotionSong.getNeutralSongs();
+        List<RankedContentDto> rankedContentDtos = new ArrayList<>();
+        for (RecommendRanker.RankedItem rankedItem : recommendRanker.topK(userId, contentType, k)) {
+            RankedContentDto rankedContentDto = new RankedContentDto();
+            rankedContentDto.setTitle(rankedItem.item().title());
+            rankedContentDto.setCreator(rankedItem.item().creator());
+            rankedContentDto.setScore(rankedItem.score());
+            rankedContentDtos.add(rankedContentDto);
         }
-
-
-// 바로 값 가져오기
-        Map<String, String> selectedMovie = music.get(randomNumber);
-        String musicTitle = selectedMovie.get("title");
-        String musicArtist = selectedMovie.get("artist");
-
-        String musicResponse = geminiApiResponse.getMusicGeminiResponse(musicTitle, diary.getIntegratedEmotion().getDescription(), musicArtist);
-
-
-        LocalDateTime now = LocalDateTime.now();
-        RecommendContent recommendContent = new RecommendContent();
-        recommendContent.setTitle(musicTitle);
-        recommendContent.setUser(userDetails.getUser());
-        recommendContent.setContent(musicResponse);
-        recommendContent.setImageUri(null);
-        recommendContent.setCreateAt(now);
-        recommendContent.setContentType(ContentType.MUSIC);
-        RecommendContent saved = recommentContentRepository.save(recommendContent);
-
-        responseDto.setContentId(saved.getId());
-        responseDto.setTitle(musicTitle);
-        responseDto.setContent(musicResponse);
-
-        return responseDto;
-
+        return rankedContentDtos;
     }
 
     public List<ResponseDto> getRecommendContent(int year, int month, ContentType contentType) {
@@ -245,77 +156,13 @@ public class RecommendContentService {
                 userId, contentType, startDateTime, endDateTime
         );
 
-        List<ResponseDto> responseDtos = new ArrayList<>();
-
-        for (RecommendContent recommendContent : contents) {
-            ResponseDto responseDto = new ResponseDto();
-            responseDto.setTitle(recommendContent.getTitle());
-            responseDto.setContent(recommendContent.getContent());
-            responseDto.setImageUrl(recommendContent.getImageUri());
-            responseDto.setContentId(recommendContent.getId());
-            responseDtos.add(responseDto);
-        }
-
-        return responseDtos;
+        return contents.stream()
+                .map(this::toResponseDto)
+                .toList();
     }
 
     public ResponseDto getRecommendContentId(Long id) {
         RecommendContent recommendContent = recommentContentRepository.findById(id).orElse(null);
-        ResponseDto responseDto = new ResponseDto();
-
-        responseDto.setTitle(recommendContent.getTitle());
-        responseDto.setContent(recommendContent.getContent());
-        responseDto.setImageUrl(recommendContent.getImageUri());
-        responseDto.setContentId(recommendContent.getId());
-        return responseDto;
-    }
-
-    public ResponseDto createRecommendWiseSaying() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        UserUserDetails userDetails = (UserUserDetails) auth.getPrincipal();
-        Long userId = userDetails.getUser().getId();
-
-        ResponseDto responseDto = new ResponseDto();
-        DiaryEntry diary = diaryRepository.findTopByUserIdOrderByCreatedAtDesc(userId).orElse(null);
-        Random random = new Random();
-        int randomNumber = random.nextInt(40);
-
-        List<String> wiseSayingList = null;
-
-        switch (diary.getIntegratedEmotion()) {
-            case HAPPY -> wiseSayingList = EmotionWiseSaying.HAPPY_QUOTES;
-            case SAD -> wiseSayingList = EmotionWiseSaying.SAD_QUOTES;
-            case ANGRY -> wiseSayingList = EmotionWiseSaying.ANGRY_QUOTES;
-            case DEPRESSED -> wiseSayingList = EmotionWiseSaying.DEPRESSED_QUOTES;
-            case CALM -> wiseSayingList = EmotionWiseSaying.CALM_QUOTES;
-            case EXCITED -> wiseSayingList = EmotionWiseSaying.EXCITED_QUOTES;
-            case ANXIOUS -> wiseSayingList = EmotionWiseSaying.ANXIOUS_QUOTES;
-            case DISAPPOINTED -> wiseSayingList = EmotionWiseSaying.DISAPPOINTED_QUOTES;
-            case FRUSTRATED -> wiseSayingList = EmotionWiseSaying.FRUSTRATED_QUOTES;
-            case NEUTRAL -> wiseSayingList = EmotionWiseSaying.NEUTRAL_QUOTES;
-        }
-
-        String wiseSaying = wiseSayingList.get(randomNumber);
-
-        String wiseSayingResponse = geminiApiResponse.getWiseSayingGeminiResponse(wiseSaying, diary.getIntegratedEmotion().getDescription());
-
-
-        LocalDateTime now = LocalDateTime.now();
-        RecommendContent recommendContent = new RecommendContent();
-        recommendContent.setTitle(wiseSaying);
-        recommendContent.setUser(userDetails.getUser());
-        recommendContent.setContent(wiseSayingResponse);
-        recommendContent.setImageUri(null);
-        recommendContent.setCreateAt(now);
-        recommendContent.setContentType(ContentType.WISESAYING);
-        RecommendContent saved = recommentContentRepository.save(recommendContent);
-
-        responseDto.setTitle(wiseSaying);
-        responseDto.setContent(wiseSayingResponse);
-        responseDto.setContentId(saved.getId());
-
-        return responseDto;
-
-
+        return toResponseDto(recommendContent);
     }
-}
\ No newline at end of file
+}
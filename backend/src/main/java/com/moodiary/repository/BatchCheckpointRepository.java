@@ -0,0 +1,7 @@
+package com.moodiary.repository;
+
+import com.moodiary.entity.BatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, String> {
+}
@@ -3,10 +3,14 @@ package com.moodiary.repository;
 import com.moodiary.entity.Bookmark;
 import com.moodiary.entity.User;
 import com.moodiary.entity.DiaryEntry;
+import com.moodiary.entity.EmotionType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,9 +28,57 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     Long countByUser(User user);
 
+    // 사용자가 작성한 일기를 참조하는 북마크 일괄 삭제 (일기 삭제 전 호출)
+    @Modifying
+    @Query("DELETE FROM Bookmark b " +
+            "WHERE b.diaryEntry.id IN (SELECT d.id FROM DiaryEntry d WHERE d.id = :diaryId AND d.userId = :userId)")
+    int deleteByDiaryIdAndDiaryUserId(@Param("diaryId") Long diaryId, @Param("userId") Long userId);
+
     // 사용자가 북마크한 일기들의 integratedEmotionScore 평균 구하기
     @Query("SELECT AVG(b.diaryEntry.integratedEmotionScore) " +
             "FROM Bookmark b " +
             "WHERE b.user.id = :userId")
     Double findAverageIntegratedEmotionScoreByUserId(@Param("userId") Long userId);
+
+    // 사용자가 북마크한 일기들의 통합 감정 (추천 순위 계산용)
+    @Query("SELECT b.diaryEntry.integratedEmotion " +
+            "FROM Bookmark b " +
+            "WHERE b.user.id = :userId AND b.diaryEntry.integratedEmotion IS NOT NULL")
+    List<EmotionType> findBookmarkedEmotionsByUserId(@Param("userId") Long userId);
+
+    // 북마크 화면 요약 (북마크 수, 작성한 일기 수, 북마크한 일기의 평균 통합 감정 점수)
+    interface BookmarkStats {
+        Long getBookmarkCount();
+
+        Long getDiaryCount();
+
+        Double getAverageScore();
+    }
+
+    // 북마크 화면 요약을 한 번의 쿼리로 조회
+    @Query("SELECT COUNT(b) AS bookmarkCount, " +
+            "(SELECT COUNT(d) FROM DiaryEntry d WHERE d.userId = :userId) AS diaryCount, " +
+            "AVG(de.integratedEmotionScore) AS averageScore " +
+            "FROM Bookmark b JOIN b.diaryEntry de " +
+            "WHERE b.user.id = :userId")
+    BookmarkStats findStatsByUserId(@Param("userId") Long userId);
+
+    // 북마크 목록 항목 (일기 본문 대신 북마크 등록 시 저장한 미리보기 사용)
+    interface BookmarkItem {
+        Long getDiaryId();
+
+        String getPreview();
+
+        Double getTextEmotionScore();
+
+        LocalDateTime getDiaryCreatedAt();
+    }
+
+    // 사용자의 북마크 목록을 일기와 조인하여 한 번의 쿼리로 조회 (최근 북마크순)
+    @Query("SELECT de.id AS diaryId, b.preview AS preview, " +
+            "de.textEmotionScore AS textEmotionScore, de.createdAt AS diaryCreatedAt " +
+            "FROM Bookmark b JOIN b.diaryEntry de " +
+            "WHERE b.user.id = :userId " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookmarkItem> findItemsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
@@ -1,11 +1,14 @@
 package com.moodiary.repository;
 
+import com.moodiary.entity.AnalysisStatus;
 import com.moodiary.entity.DiaryEntry;
 import com.moodiary.entity.EmotionType;
 import com.moodiary.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -68,6 +71,86 @@ public interface DiaryRepository extends JpaRepository<DiaryEntry, Long> {
      */
     Page<DiaryEntry> findByUserId(Long userId, Pageable pageable);
 
+    /**
+     * 사용자가 작성한 일기 조회
+     * 
+     * 작성자 조건을 쿼리에 포함하므로 작성자(User)를 불러와 권한을 비교할 필요가 없습니다.
+     * 다른 사용자의 일기는 존재하지 않는 일기와 같이 빈 결과를 반환합니다.
+     * 
+     * 생성되는 SQL:
+     * ```sql
+     * SELECT * FROM diary_entries
+     * WHERE id = ? AND user_id = ?
+     * ```
+     * 
+     * @param id 일기 ID
+     * @param userId 작성자 사용자 ID
+     * @return 일기 (없거나 다른 사용자의 일기이면 Optional.empty())
+     */
+    Optional<DiaryEntry> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * 사용자가 작성한 일기 삭제
+     * 
+     * 일기를 조회하지 않고 하나의 DELETE 문으로 삭제합니다.
+     * JPQL 일괄 삭제는 엔티티 cascade가 적용되지 않고 bookmark 테이블의 외래 키에도 ON DELETE CASCADE가 없으므로,
+     * 일기를 참조하는 북마크를 먼저 삭제해야 합니다 (BookmarkRepository.deleteByDiaryIdAndDiaryUserId, 삭제는 총 두 문장).
+     * 
+     * @param id 일기 ID
+     * @param userId 작성자 사용자 ID
+     * @return 삭제된 일기 수 (없거나 다른 사용자의 일기이면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM DiaryEntry d WHERE d.id = :id AND d.userId = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 사용자 ID로 일기 목록을 전체 개수 조회 없이 페이징하여 조회
+     * 
+     * Page와 달리 COUNT 쿼리를 실행하지 않고, 요청 크기보다 1개 더 읽어 다음 페이지 존재 여부만 확인합니다.
+     * 
+     * @param userId 조회할 사용자 ID
+     * @param pageable 페이징 및 정렬 정보
+     * @return 일기 목록 (다음 페이지 존재 여부 포함)
+     */
+    Slice<DiaryEntry> findSliceByUserId(Long userId, Pageable pageable);
+
+    /**
+     * 사용자의 일기 목록 첫 페이지를 최신순으로 조회 (키셋 페이징)
+     * 
+     * 정렬 기준은 (작성 시각, ID) 내림차순이며 (user_id, created_at) 인덱스 순서를 그대로 따라 읽습니다.
+     * 
+     * @param userId 조회할 사용자 ID
+     * @param pageable 조회 개수 (PageRequest.of(0, size))
+     * @return 일기 목록 (다음 페이지 존재 여부 포함)
+     */
+    @Query("SELECT d FROM DiaryEntry d " +
+            "WHERE d.user.id = :userId " +
+            "ORDER BY d.createdAt DESC, d.id DESC")
+    Slice<DiaryEntry> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 이전 페이지 마지막 일기 다음부터 최신순으로 조회 (키셋 페이징)
+     * 
+     * OFFSET 없이 마지막 일기의 (작성 시각, ID)보다 앞선 일기부터 읽으므로 뒤쪽 페이지도 조회 비용이 일정합니다.
+     * 
+     * @param userId 조회할 사용자 ID
+     * @param createdAt 이전 페이지 마지막 일기의 작성 시각
+     * @param id 이전 페이지 마지막 일기의 ID
+     * @param pageable 조회 개수 (PageRequest.of(0, size))
+     * @return 일기 목록 (다음 페이지 존재 여부 포함)
+     */
+    @Query("SELECT d FROM DiaryEntry d " +
+            "WHERE d.user.id = :userId " +
+            "AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id)) " +
+            "ORDER BY d.createdAt DESC, d.id DESC")
+    Slice<DiaryEntry> findLatestByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     /**
      * 사용자 ID와 특정 날짜 범위로 일기 조회
      * 
@@ -194,4 +277,151 @@ public interface DiaryRepository extends JpaRepository<DiaryEntry, Long> {
      */
 
     Long countByUser(User user);
+
+    /**
+     * 목록 화면 미리보기 글자 수
+     */
+    int PREVIEW_LENGTH = 30;
+
+    /**
+     * 일기 목록 항목 (본문 전체와 키워드 대신 앞부분 미리보기만 조회)
+     */
+    interface DiarySummary {
+        Long getId();
+
+        Long getUserId();
+
+        String getPreview(); // 본문 앞 PREVIEW_LENGTH 글자
+
+        Integer getContentLength(); // 본문 전체 글자 수 (미리보기가 잘렸는지 판단)
+
+        String getImageUrl();
+
+        EmotionType getTextEmotion();
+
+        EmotionType getFacialEmotion();
+
+        EmotionType getIntegratedEmotion();
+
+        Double getIntegratedEmotionScore();
+
+        Double getIntegratedEmotionConfidence();
+
+        AnalysisStatus getAnalysisStatus();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    // 일기 목록 항목 조회 공통 SELECT 절 (DiarySummary)
+    String DIARY_SUMMARY_SELECT = "SELECT d.id AS id, d.user.id AS userId, " +
+            "SUBSTRING(d.content, 1, " + PREVIEW_LENGTH + ") AS preview, LENGTH(d.content) AS contentLength, " +
+            "d.imageUrl AS imageUrl, d.textEmotion AS textEmotion, d.facialEmotion AS facialEmotion, " +
+            "d.integratedEmotion AS integratedEmotion, d.integratedEmotionScore AS integratedEmotionScore, " +
+            "d.integratedEmotionConfidence AS integratedEmotionConfidence, d.analysisStatus AS analysisStatus, " +
+            "d.createdAt AS createdAt, d.updatedAt AS updatedAt " +
+            "FROM DiaryEntry d ";
+
+    /**
+     * 사용자의 최근 일기 목록 항목 조회 (최신순)
+     * 
+     * @param userId 조회할 사용자 ID
+     * @param pageable 조회 개수 (PageRequest.of(0, size))
+     * @return 일기 목록 항목
+     */
+    @Query(DIARY_SUMMARY_SELECT +
+            "WHERE d.user.id = :userId " +
+            "ORDER BY d.createdAt DESC, d.id DESC")
+    List<DiarySummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자의 기간 내 일기 목록 항목 조회 (최신순)
+     * 
+     * @param userId 조회할 사용자 ID
+     * @param startDate 시작 시각
+     * @param endDate 종료 시각
+     * @param pageable 조회 개수 (PageRequest.of(0, size))
+     * @return 일기 목록 항목
+     */
+    @Query(DIARY_SUMMARY_SELECT +
+            "WHERE d.user.id = :userId AND d.createdAt BETWEEN :startDate AND :endDate " +
+            "ORDER BY d.createdAt DESC, d.id DESC")
+    List<DiarySummary> findSummariesByUserIdAndCreatedAtBetween(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    /**
+     * 사용자의 통합 감정별 일기 목록 항목 조회 (최신순)
+     * 
+     * @param userId 조회할 사용자 ID
+     * @param emotion 조회할 감정 타입
+     * @return 일기 목록 항목
+     */
+    @Query(DIARY_SUMMARY_SELECT +
+            "WHERE d.user.id = :userId AND d.integratedEmotion = :emotion " +
+            "ORDER BY d.createdAt DESC, d.id DESC")
+    List<DiarySummary> findSummariesByUserIdAndIntegratedEmotion(
+            @Param("userId") Long userId,
+            @Param("emotion") EmotionType emotion
+    );
+
+    /**
+     * 추천 순위 계산용 감정 이력 (일기 엔티티 전체 대신 필요한 컬럼만 조회)
+     */
+    interface EmotionSignal {
+        EmotionType getIntegratedEmotion();
+
+        Double getIntegratedEmotionConfidence();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * 기준 시각 이후 작성한 일기의 통합 감정 이력을 최신순으로 조회
+     * 
+     * 감정 분석이 끝나지 않은 일기는 integratedEmotion이 null입니다.
+     * 
+     * @param userId 조회할 사용자 ID
+     * @param since 조회 시작 시각 (포함)
+     * @return 감정 이력 (최신순)
+     */
+    @Query("SELECT d.integratedEmotion AS integratedEmotion, " +
+            "d.integratedEmotionConfidence AS integratedEmotionConfidence, " +
+            "d.createdAt AS createdAt " +
+            "FROM DiaryEntry d " +
+            "WHERE d.user.id = :userId AND d.createdAt >= :since " +
+            "ORDER BY d.createdAt DESC")
+    List<EmotionSignal> findEmotionSignals(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 감정 재분석 대상 (분석 입력 컬럼만 조회)
+     */
+    interface ReanalysisTarget {
+        Long getId();
+
+        Long getUserId();
+
+        String getContent();
+
+        String getImageUrl();
+    }
+
+    /**
+     * 감정 재분석 대상을 ID 순서로 키셋 페이징 조회
+     * 
+     * OFFSET 대신 마지막으로 처리한 ID 이후부터 읽으므로 뒤쪽 페이지도 기본 키 인덱스로 바로 찾습니다.
+     * 
+     * @param afterId 마지막으로 처리한 일기 ID (처음이면 0)
+     * @param pageable 조회 개수 (PageRequest.of(0, size))
+     * @return 재분석 대상 (ID 오름차순)
+     */
+    @Query("SELECT d.id AS id, d.user.id AS userId, d.content AS content, d.imageUrl AS imageUrl " +
+            "FROM DiaryEntry d " +
+            "WHERE d.id > :afterId " +
+            "ORDER BY d.id ASC")
+    List<ReanalysisTarget> findReanalysisTargets(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -5,13 +5,14 @@ import com.moodiary.entity.*;
 import com.moodiary.dto.BookmarkDto;
 import com.moodiary.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +23,7 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final DiaryRepository diaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void addBookmark(Long diaryId) {
@@ -51,6 +53,7 @@ public class BookmarkService {
                 .build();
 
         bookmarkRepository.save(bookmark);
+        eventPublisher.publishEvent(new EmotionHistoryChangedEvent(userId));
     }
 
     @Transactional(readOnly = true)
@@ -88,74 +91,47 @@ public class BookmarkService {
         User user = userRepository.findById(getCurrentUserId()).orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
 
         bookmarkRepository.deleteByUserAndDiaryEntry(user, diary);
+        eventPublisher.publishEvent(new EmotionHistoryChangedEvent(user.getId()));
     }
 
+    /**
+     * 북마크 화면 조회
+     *
+     * 요약(북마크 수, 작성한 일기 수, 평균 감정 점수)은 하나의 집계 쿼리로, 목록은 일기와 조인한 하나의 쿼리로 조회하므로
+     * 북마크 수와 관계없이 쿼리 2번으로 처리됩니다. 목록 미리보기는 북마크 등록 시 저장한 Bookmark.preview를 사용합니다.
+     *
+     * @param pageable 목록 페이징 (Pageable.unpaged()이면 전체)
+     */
     @Transactional(readOnly = true)
-    public BookmarkDto getBookmarksByUser() {
+    public BookmarkDto getBookmarksByUser(Pageable pageable) {
         Long userId = getCurrentUserId();
 
-        User user = getCurrentUser();
+        BookmarkRepository.BookmarkStats stats = bookmarkRepository.findStatsByUserId(userId);
 
-        Long numberOfBookmarkedDiary = bookmarkRepository.countByUser(user);
-        Long numberOfTotalDiary =  diaryRepository.countByUser(user);
-
-        List<Bookmark> bookmarksList = bookmarkRepository.findByUser(user);
-        List<BookmarkDto.DiaryContent> diaryContentList = new ArrayList<>();
-
-        for(Bookmark bookmark : bookmarksList) {
-            String previewTitle = bookmark.getDiaryEntry().getContent() != null
-                    ? bookmark.getDiaryEntry().getContent().substring(0, Math.min(20, bookmark.getDiaryEntry().getContent().length())) : "무제"; // 앞 20글자
-
-
-            BookmarkDto.DiaryContent content = BookmarkDto.DiaryContent.builder()
-                    .diaryId(bookmark.getDiaryEntry().getId())
-                    .content(previewTitle)
-                    .temperature(bookmark.getDiaryEntry().getTextEmotionScore())
-                    .createdAt(bookmark.getDiaryEntry().getCreatedAt())
-                    .build();
-
-            diaryContentList.add(content);
-        }
-
-
-        BookmarkDto bookmarkDto = BookmarkDto.builder()
-                .numberOfBookmarkedDiary(numberOfBookmarkedDiary)
-                .numberOfTotalDiary(numberOfTotalDiary)
-                .averageTemperature(bookmarkRepository.findAverageIntegratedEmotionScoreByUserId(userId)) // 돌아간다는 확신 없음
-                .bookmarks(diaryContentList)
+        return BookmarkDto.builder()
+                .numberOfBookmarkedDiary(stats.getBookmarkCount())
+                .numberOfTotalDiary(stats.getDiaryCount())
+                .averageTemperature(stats.getAverageScore())
+                .bookmarks(findBookmarkContents(userId, pageable))
                 .build();
-
-        return bookmarkDto;
-
-//        return bookmarkRepository.findByUser(user).stream()
-//                .map(b -> BookmarkDto.builder()
-//                        .id(b.getId())
-//                        .userId(user.getId())
-//                        .diaryId(b.getDiaryEntry().getId())
-//                        .diaryTitle(b.getTitle()) // ✅ Bookmark에 저장된 previewTitle 사용
-//                        .content(b.getContent())
-//                        .createdAt(b.getCreatedAt() != null ? b.getCreatedAt().toString() : null)
-//                        .build())
-//                .collect(Collectors.toList());
     }
+
     @Transactional(readOnly = true)
     public List<BookmarkDto.DiaryContent> getAllBookmarksByUser() {
-        User user = getCurrentUser(); // JWT 에서 현재 사용자
-
-        List<Bookmark> bookmarks = bookmarkRepository.findByUser(user);
+        return findBookmarkContents(getCurrentUserId(), Pageable.unpaged());
+    }
 
-        return bookmarks.stream()
-                .map(bookmark -> BookmarkDto.DiaryContent.builder()
-                        .diaryId(bookmark.getDiaryEntry().getId())
-                        .content(bookmark.getPreview()) // 또는 앞 20글자 substring
-                        .temperature(bookmark.getDiaryEntry().getTextEmotionScore())
-                        .createdAt(bookmark.getDiaryEntry().getCreatedAt())
+    private List<BookmarkDto.DiaryContent> findBookmarkContents(Long userId, Pageable pageable) {
+        return bookmarkRepository.findItemsByUserId(userId, pageable).stream()
+                .map(item -> BookmarkDto.DiaryContent.builder()
+                        .diaryId(item.getDiaryId())
+                        .content(item.getPreview())
+                        .temperature(item.getTextEmotionScore())
+                        .createdAt(item.getDiaryCreatedAt())
                         .build())
                 .toList();
     }
 
-
-
     private Long getCurrentUserId() {
         // TODO: SecurityContextHolder or JwtUserDetails 활용
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -0,0 +1,99 @@
+package com.moodiary.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 일기 감정 분석 완료 알림 (SSE)
+ *
+ * 비동기 분석 모드에서 클라이언트가 폴링 대신 Server-Sent Events로
+ * 분석 완료 시점을 전달받을 수 있도록 일기별 구독자를 관리합니다.
+ *
+ * - 분석 결과는 "analysis" 이벤트 한 번으로 전송되며, 전송 후 연결을 종료합니다.
+ * - 구독자 목록은 단일 인스턴스 메모리에만 유지됩니다.
+ */
+@Slf4j
+@Component
+public class DiaryAnalysisNotifier {
+
+    private static final String EVENT_NAME = "analysis";
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @Value("${diary.analysis.sse-timeout:60s}")
+    private Duration sseTimeout;
+
+    /**
+     * 일기 감정 분석 완료 이벤트 구독
+     *
+     * @param diaryId 구독할 일기 ID
+     * @return 분석 완료 시 이벤트를 전송할 SseEmitter
+     */
+    public SseEmitter subscribe(Long diaryId) {
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        emitters.computeIfAbsent(diaryId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+
+        emitter.onCompletion(() -> unsubscribe(diaryId, emitter));
+        emitter.onTimeout(() -> unsubscribe(diaryId, emitter));
+        emitter.onError(e -> unsubscribe(diaryId, emitter));
+        return emitter;
+    }
+
+    /**
+     * 구독 해제
+     *
+     * 응답으로 반환하지 않은 SseEmitter는 complete()를 호출해도 onCompletion 콜백이 실행되지 않으므로,
+     * 구독 후 요청이 실패한 경우(권한 없음 등) 직접 호출해 목록에서 제거해야 합니다.
+     *
+     * @param diaryId 구독한 일기 ID
+     * @param emitter 제거할 SseEmitter
+     */
+    public void unsubscribe(Long diaryId, SseEmitter emitter) {
+        emitters.computeIfPresent(diaryId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * 구독자들에게 감정 분석 결과 전송 후 연결 종료
+     *
+     * @param diaryId 분석이 끝난 일기 ID
+     * @param payload 전송할 분석 결과
+     */
+    public void publish(Long diaryId, Object payload) {
+        List<SseEmitter> subscribers = emitters.remove(diaryId);
+        if (subscribers == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers) {
+            send(emitter, payload);
+        }
+    }
+
+    /**
+     * 단일 구독자에게 감정 분석 결과 전송 후 연결 종료
+     *
+     * @param emitter 전송 대상
+     * @param payload 전송할 분석 결과
+     */
+    public void send(SseEmitter emitter, Object payload) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(payload));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 이미 종료된 연결이거나 클라이언트가 끊은 경우
+            log.debug("SSE 전송 실패: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+}
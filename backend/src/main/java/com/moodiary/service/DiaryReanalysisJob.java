@@ -0,0 +1,242 @@
+package com.moodiary.service;
+
+import com.moodiary.entity.AnalysisStatus;
+import com.moodiary.entity.BatchCheckpoint;
+import com.moodiary.entity.DiaryEntry;
+import com.moodiary.repository.BatchCheckpointRepository;
+import com.moodiary.repository.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기존 일기 감정 재분석 배치
+ *
+ * 감정 분석 프롬프트나 점수 변환 방식을 바꾼 뒤(OpenAiService.PROMPT_VERSION 변경) 저장된 일기의 감정을
+ * 새 기준으로 다시 계산합니다.
+ *
+ * - 일기를 ID 순서로 키셋 페이징(page-size)하여 읽고, 한 페이지를 제한된 동시 호출 수(concurrency)로 분석합니다.
+ *   (OpenAI 요청량 한도는 LlmRateLimiter가 지킵니다)
+ * - 한 페이지의 결과는 하나의 트랜잭션에서 한꺼번에 반영하고, 반영 후 마지막 ID를 batch_checkpoint에 기록합니다.
+ *   중단 후 다시 실행하면 기록된 위치 다음부터 이어서 처리합니다.
+ * - 분석에 실패했거나(기본 감정 결과 포함) 분석 도중 수정된 일기는 기존 결과를 유지합니다.
+ * - 같은 프롬프트 버전으로 전체 순회를 마치면 완료로 기록하고, 버전이 바뀔 때까지 다시 실행하지 않습니다.
+ *
+ * 실행 방법:
+ * - 스케줄: diary.reanalysis.cron 설정 (기본값 "-"는 비활성화)
+ * - 시작 시 1회: --diary.reanalysis.run-on-startup=true 인자로 애플리케이션 실행 (기동을 막지 않도록 백그라운드에서 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiaryReanalysisJob implements ApplicationRunner {
+
+    static final String JOB_NAME = "diary-reanalysis";
+
+    private static final String DONE = "done";
+
+    private final DiaryRepository diaryRepository;
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final EmotionAnalysisOrchestrator emotionAnalysisOrchestrator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${diary.reanalysis.run-on-startup:false}")
+    private boolean runOnStartup;
+
+    @Value("${diary.reanalysis.page-size:200}")
+    private int pageSize;
+
+    @Value("${diary.reanalysis.concurrency:4}")
+    private int concurrency;
+
+    @Value("${openai.analysis.total-timeout:60s}")
+    private Duration analysisTimeout;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 분석을 마친 일기와 분석에 사용한 입력
+     */
+    private record Analyzed(DiaryRepository.ReanalysisTarget target, EmotionAnalysisOrchestrator.AnalysisResult result) {
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (runOnStartup) {
+            Mono.fromRunnable(this::run)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe();
+        }
+    }
+
+    @Scheduled(cron = "${diary.reanalysis.cron:-}")
+    public void runScheduled() {
+        run();
+    }
+
+    /**
+     * 재분석 실행 (완료될 때까지 블로킹)
+     */
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("일기 감정 재분석이 이미 실행 중입니다.");
+            return;
+        }
+        try {
+            doRun();
+        } catch (Exception e) {
+            log.error("일기 감정 재분석 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void doRun() {
+        String version = OpenAiService.PROMPT_VERSION;
+        BatchCheckpoint checkpoint = batchCheckpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> BatchCheckpoint.builder()
+                        .jobName(JOB_NAME)
+                        .updatedAt(LocalDateTime.now())
+                        .build());
+
+        String cursor = checkpoint.getCursor();
+        if ((version + ":" + DONE).equals(cursor)) {
+            log.info("일기 감정 재분석 - 프롬프트 버전 {}으로 이미 완료되었습니다.", version);
+            return;
+        }
+        long afterId = resumePosition(cursor, version);
+        log.info("일기 감정 재분석 시작 - 프롬프트 버전: {}, 시작 위치(ID 이후): {}", version, afterId);
+
+        int updated = 0;
+        int skipped = 0;
+        while (true) {
+            List<DiaryRepository.ReanalysisTarget> page =
+                    diaryRepository.findReanalysisTargets(afterId, PageRequest.of(0, Math.max(1, pageSize)));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<Analyzed> analyzed = Flux.fromIterable(page)
+                    .flatMapSequential(this::analyze, Math.max(1, concurrency))
+                    .collectList()
+                    .block();
+            int applied = apply(analyzed != null ? analyzed : List.of());
+            updated += applied;
+            skipped += page.size() - applied;
+
+            afterId = page.get(page.size() - 1).getId();
+            saveCheckpoint(checkpoint, version + ":" + afterId);
+            log.info("일기 감정 재분석 진행 - 마지막 ID: {}, 반영: {}, 건너뜀: {}", afterId, updated, skipped);
+        }
+
+        saveCheckpoint(checkpoint, version + ":" + DONE);
+        log.info("일기 감정 재분석 완료 - 반영: {}, 건너뜀: {}", updated, skipped);
+    }
+
+    private Mono<Analyzed> analyze(DiaryRepository.ReanalysisTarget target) {
+        return emotionAnalysisOrchestrator.analyzeAsync(target.getContent(), target.getImageUrl())
+                .timeout(analysisTimeout)
+                .filter(this::isReliable)
+                .map(result -> new Analyzed(target, result))
+                .onErrorResume(e -> {
+                    log.warn("일기 감정 재분석 실패 - 일기 ID: {}, 원인: {}", target.getId(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 저장된 결과를 덮어써도 되는 분석 결과인지 여부
+     *
+     * API 호출이 실패하면 단계 결과가 기본 감정 결과로 채워지므로, 기본값이 섞여 있으면 반영하지 않습니다.
+     */
+    boolean isReliable(EmotionAnalysisOrchestrator.AnalysisResult result) {
+        if (result.getText() == null && result.getImage() == null && result.getIntegrated() == null) {
+            return false;
+        }
+        return !isFallback(result.getText())
+                && !isFallback(result.getImage())
+                && !isFallback(result.getIntegrated());
+    }
+
+    private boolean isFallback(OpenAiService.EmotionAnalysisResult result) {
+        return result != null && result.isFallback();
+    }
+
+    /**
+     * 한 페이지의 분석 결과를 하나의 트랜잭션에서 반영
+     *
+     * @return 반영한 일기 수
+     */
+    private int apply(List<Analyzed> analyzed) {
+        if (analyzed.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Analyzed> byId = analyzed.stream()
+                .collect(Collectors.toMap(item -> item.target().getId(), Function.identity()));
+        Set<Long> userIds = new HashSet<>();
+
+        Integer applied = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (DiaryEntry diaryEntry : diaryRepository.findAllById(byId.keySet())) {
+                Analyzed item = byId.get(diaryEntry.getId());
+                // 분석 도중 수정된 일기는 수정 시 요청된 분석 결과를 유지
+                if (!Objects.equals(item.target().getContent(), diaryEntry.getContent())
+                        || !Objects.equals(item.target().getImageUrl(), diaryEntry.getImageUrl())) {
+                    continue;
+                }
+                item.result().applyTo(diaryEntry);
+                diaryEntry.updateAnalysisStatus(AnalysisStatus.DONE);
+                userIds.add(item.target().getUserId());
+                count++;
+            }
+            // 변경 감지로 커밋 시 UPDATE가 한꺼번에 실행됨 (hibernate.jdbc.batch_size)
+            return count;
+        });
+
+        userIds.forEach(userId -> eventPublisher.publishEvent(new EmotionHistoryChangedEvent(userId)));
+        return applied != null ? applied : 0;
+    }
+
+    private long resumePosition(String cursor, String version) {
+        if (cursor == null || !cursor.startsWith(version + ":")) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor.substring(version.length() + 1));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 재분석 체크포인트를 무시합니다: {}", cursor);
+            return 0L;
+        }
+    }
+
+    private void saveCheckpoint(BatchCheckpoint checkpoint, String cursor) {
+        try {
+            checkpoint.updateCursor(cursor);
+            batchCheckpointRepository.save(checkpoint);
+        } catch (Exception e) {
+            log.warn("재분석 체크포인트 저장 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,22 +1,43 @@
 package com.moodiary.service;
 
 import com.moodiary.dto.DiaryDto;
+import com.moodiary.entity.AnalysisStatus;
 import com.moodiary.entity.DiaryEntry;
 import com.moodiary.entity.EmotionType;
 import com.moodiary.entity.User;
+import com.moodiary.repository.BookmarkRepository;
 import com.moodiary.repository.DiaryRepository;
 import com.moodiary.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.LockMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.ArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * 일기 관련 비즈니스 로직 서비스
@@ -43,6 +64,13 @@ import java.util.ArrayList;
  * 트랜잭션 관리:
  * - 읽기 전용 메서드: @Transactional(readOnly = true)
  * - 쓰기 메서드: @Transactional (기본 설정)
+ * - 감정 분석을 포함하는 작성/수정: OpenAI 대기 중 DB 커넥션을 점유하지 않도록
+ *   트랜잭션 밖에서 분석한 뒤 짧은 트랜잭션(TransactionTemplate)으로 저장
+ * 
+ * 비동기 분석 모드 (diary.analysis.async=true):
+ * - 일기를 PENDING 상태로 즉시 저장하고 응답
+ * - 감정 분석은 크기가 제한된 백그라운드 실행기에서 수행 후 DONE/FAILED로 갱신
+ * - 클라이언트는 GET /diaries/{id}/analysis 폴링 또는 SSE 구독으로 결과 확인
  * 
  * @author hyeonSuKim
  * @since 2025-09-03
@@ -84,21 +112,54 @@ public class DiaryService {
     private final UserRepository userRepository;
 
     /**
-     * OpenAI API 서비스 의존성 주입
+     * 북마크 데이터 접근 계층 (일기 삭제 시 참조하는 북마크 정리)
+     */
+    private final BookmarkRepository bookmarkRepository;
+
+    /**
+     * 감정 분석 오케스트레이터 의존성 주입
      * 
-     * OpenAI GPT-4 API를 통한 감정 분석을 담당합니다.
+     * OpenAiService의 텍스트/이미지/통합 감정 분석을 조합합니다.
      * 
      * 주요 기능:
-     * - 텍스트 기반 감정 분석
-     * - 이미지 기반 감정 분석
-     * - 텍스트와 이미지 통합 감정 분석
-     * - 감정 점수 및 신뢰도 계산
-     * - 키워드 추출
+     * - 텍스트 분석과 이미지 분석 동시 요청
+     * - 두 분석 완료 후 통합 감정 분석
+     * - 단계별 타임아웃 및 텍스트 분석 결과 대체(fallback)
+     */
+    private final EmotionAnalysisOrchestrator emotionAnalysisOrchestrator;
+
+    /**
+     * 백그라운드 감정 분석 실행기 (AsyncConfig)
+     */
+    private final ThreadPoolTaskExecutor diaryAnalysisExecutor;
+
+    /**
+     * 감정 분석 완료 SSE 알림
+     */
+    private final DiaryAnalysisNotifier diaryAnalysisNotifier;
+
+    /**
+     * 감정 분석 이후의 짧은 쓰기 트랜잭션 처리
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 일기 수정 시 조회한 일기를 쓰기 트랜잭션에 다시 연결
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * 감정 이력 변경 이벤트 발행 (추천 순위용 감정 프로필 무효화)
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 비동기 분석 모드 여부
      * 
-     * @author hyeonSuKim
-     * @since 2025-09-03
+     * true이면 일기를 먼저 저장하고 감정 분석은 백그라운드에서 수행합니다.
      */
-    private final OpenAiService openAiService;
+    @Value("${diary.analysis.async:false}")
+    private boolean asyncAnalysisEnabled;
 
     /**
      * 일기 작성 및 감정 분석 수행
@@ -108,8 +169,8 @@ public class DiaryService {
      * 처리 과정:
      * 1. 사용자 ID 검증 및 사용자 정보 조회
      * 2. OpenAI API를 통한 텍스트 감정 분석 (내용이 있는 경우)
-     * 3. OpenAI API를 통한 이미지 감정 분석 (이미지가 있는 경우)
-     * 4. 텍스트와 이미지 통합 감정 분석 (둘 다 있는 경우)
+     * 3. OpenAI API를 통한 이미지 감정 분석 (이미지가 있는 경우, 2번과 동시에 요청)
+     * 4. 텍스트와 이미지 통합 감정 분석 (둘 다 있는 경우, 2·3번 완료 후)
      * 5. 감정 분석 결과를 포함한 일기 엔티티 생성
      * 6. 데이터베이스에 일기 저장
      * 7. 응답 DTO로 변환하여 반환
@@ -119,6 +180,9 @@ public class DiaryService {
      * - 감정 분석 결과는 null로 설정
      * - 로그에 오류 정보 기록
      * 
+     * 비동기 분석 모드에서는 5번 이후 2~4번을 백그라운드에서 수행하며,
+     * 응답의 analysisStatus는 PENDING입니다.
+     * 
      * @param userId 일기 작성자 사용자 ID
      * @param request 일기 작성 요청 데이터 (내용, 이미지 URL)
      * @return 생성된 일기 정보와 감정 분석 결과
@@ -127,7 +191,7 @@ public class DiaryService {
      * @author hyeonSuKim
      * @since 2025-09-03
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DiaryDto.DiaryResponse createDiary(Long userId, DiaryDto.CreateDiaryRequest request) {
         log.info("일기 작성 시작 - 사용자 ID: {}, 내용: {}", userId, request.getContent());
 
@@ -135,116 +199,35 @@ public class DiaryService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
 
-        // OpenAI를 통한 감정 분석 수행
-        OpenAiService.EmotionAnalysisResult textAnalysis = null;
-        OpenAiService.EmotionAnalysisResult imageAnalysis = null;
-        OpenAiService.EmotionAnalysisResult integratedAnalysis = null;
-
-        try {
-            // 텍스트 감정 분석 (내용이 있는 경우에만 수행)
-            if (request.getContent() != null && !request.getContent().trim().isEmpty()) {
-                textAnalysis = openAiService.analyzeTextEmotion(request.getContent());
-                log.info("텍스트 감정 분석 완료 - 감정: {}, 점수: {}", 
-                    textAnalysis.getEmotion(), textAnalysis.getScore());
-            }
-
-            // 이미지 감정 분석 (이미지가 있는 경우에만 수행)
-            if (request.getImageUrl() != null && !request.getImageUrl().trim().isEmpty()) {
-                try {
-                    imageAnalysis = openAiService.analyzeImageEmotion(request.getImageUrl());
-                    if (imageAnalysis != null) {
-                        log.info("이미지 감정 분석 완료 - 감정: {}, 점수: {}", 
-                            imageAnalysis.getEmotion(), imageAnalysis.getScore());
-                    } else {
-                        log.warn("이미지 감정 분석이 null을 반환했습니다. 텍스트 분석 결과를 사용합니다.");
-                    }
-                } catch (Exception e) {
-                    log.warn("이미지 감정 분석 실패: {}. 텍스트 분석 결과를 사용합니다.", e.getMessage());
-                    imageAnalysis = null;
-                }
-            }
-
-            // 통합 감정 분석 (텍스트 또는 이미지가 있는 경우)
-            if (textAnalysis != null || imageAnalysis != null) {
-                if (textAnalysis != null && imageAnalysis != null) {
-                    // 텍스트와 이미지 모두 있는 경우에만 통합 분석 수행
-                    try {
-                        integratedAnalysis = openAiService.analyzeIntegratedEmotion(
-                            request.getContent() != null ? request.getContent() : "",
-                            request.getImageUrl() != null ? request.getImageUrl() : ""
-                        );
-                        if (integratedAnalysis != null) {
-                            log.info("통합 감정 분석 완료 - 감정: {}, 점수: {}", 
-                                integratedAnalysis.getEmotion(), integratedAnalysis.getScore());
-                        } else {
-                            log.warn("통합 감정 분석이 null을 반환했습니다. 텍스트 분석 결과를 사용합니다.");
-                            // 통합 분석 실패 시 텍스트 분석 결과 사용
-                            integratedAnalysis = OpenAiService.EmotionAnalysisResult.builder()
-                                .emotion(textAnalysis.getEmotion())
-                                .score(textAnalysis.getScore())
-                                .confidence(textAnalysis.getConfidence())
-                                .keywords(textAnalysis.getKeywords())
-                                .build();
-                        }
-                    } catch (Exception e) {
-                        log.warn("통합 감정 분석 실패: {}. 텍스트 분석 결과를 사용합니다.", e.getMessage());
-                        // 통합 분석 실패 시 텍스트 분석 결과 사용
-                        integratedAnalysis = OpenAiService.EmotionAnalysisResult.builder()
-                            .emotion(textAnalysis.getEmotion())
-                            .score(textAnalysis.getScore())
-                            .confidence(textAnalysis.getConfidence())
-                            .keywords(textAnalysis.getKeywords())
-                            .build();
-                        log.info("통합 분석 실패 후 텍스트 분석 결과 사용 - 감정: {}, 점수: {}", 
-                            integratedAnalysis.getEmotion(), integratedAnalysis.getScore());
-                    }
-                } else if (textAnalysis != null) {
-                    // 텍스트만 있는 경우 텍스트 분석 결과를 통합 결과로 사용
-                    integratedAnalysis = OpenAiService.EmotionAnalysisResult.builder()
-                        .emotion(textAnalysis.getEmotion())
-                        .score(textAnalysis.getScore())
-                        .confidence(textAnalysis.getConfidence())
-                        .keywords(textAnalysis.getKeywords())
-                        .build();
-                    log.info("텍스트 분석 결과를 통합 결과로 사용 - 감정: {}, 점수: {}", 
-                        integratedAnalysis.getEmotion(), integratedAnalysis.getScore());
-                } else if (imageAnalysis != null) {
-                    // 이미지만 있는 경우 이미지 분석 결과를 통합 결과로 사용
-                    integratedAnalysis = OpenAiService.EmotionAnalysisResult.builder()
-                        .emotion(imageAnalysis.getEmotion())
-                        .score(imageAnalysis.getScore())
-                        .confidence(imageAnalysis.getConfidence())
-                        .keywords(imageAnalysis.getKeywords())
-                        .build();
-                    log.info("이미지 분석 결과를 통합 결과로 사용 - 감정: {}, 점수: {}", 
-                        integratedAnalysis.getEmotion(), integratedAnalysis.getScore());
-                }
-            }
-
-        } catch (Exception e) {
-            log.error("감정 분석 중 오류 발생: {}", e.getMessage(), e);
-            // 감정 분석 실패 시에도 일기는 저장
-        }
-
-        // 감정 분석 결과를 포함한 일기 엔티티 생성 및 저장
         DiaryEntry diaryEntry = DiaryEntry.builder()
                 .user(user)
                 .content(request.getContent())
                 .imageUrl(request.getImageUrl())
-                .textEmotion(textAnalysis != null ? EmotionType.fromString(textAnalysis.getEmotion()) : null)
-                .textEmotionScore(textAnalysis != null ? textAnalysis.getScore() : null)
-                .textEmotionConfidence(textAnalysis != null ? textAnalysis.getConfidence() : null)
-                .facialEmotion(imageAnalysis != null ? EmotionType.fromString(imageAnalysis.getEmotion()) : null)
-                .facialEmotionScore(imageAnalysis != null ? imageAnalysis.getScore() : null)
-                .facialEmotionConfidence(imageAnalysis != null ? imageAnalysis.getConfidence() : null)
-                .integratedEmotion(integratedAnalysis != null ? EmotionType.fromString(integratedAnalysis.getEmotion()) : null)
-                .integratedEmotionScore(integratedAnalysis != null ? integratedAnalysis.getScore() : null)
-                .integratedEmotionConfidence(integratedAnalysis != null ? integratedAnalysis.getConfidence() : null)
-                .keywords(integratedAnalysis != null ? integratedAnalysis.getKeywords() : null)
                 .build();
 
+        if (asyncAnalysisEnabled) {
+            // 일기를 먼저 저장하고 감정 분석은 백그라운드에서 수행
+            diaryEntry.updateAnalysisStatus(AnalysisStatus.PENDING);
+            DiaryEntry savedEntry = diaryRepository.save(diaryEntry);
+            log.info("일기 작성 완료 (감정 분석 대기) - 일기 ID: {}, 사용자 ID: {}", savedEntry.getId(), userId);
+            eventPublisher.publishEvent(new EmotionHistoryChangedEvent(userId));
+
+            submitAnalysis(savedEntry.getId(), savedEntry.getContent(), savedEntry.getImageUrl(),
+                    () -> emotionAnalysisOrchestrator.analyzeOrThrow(request.getContent(), request.getImageUrl()));
+            return convertToResponse(savedEntry);
+        }
+
+        // OpenAI를 통한 감정 분석 수행 (텍스트/이미지 분석은 동시에 요청, DB 트랜잭션 밖에서 대기)
+        EmotionAnalysisOrchestrator.AnalysisResult analysis =
+                emotionAnalysisOrchestrator.analyze(request.getContent(), request.getImageUrl());
+
+        // 감정 분석 결과를 포함한 일기 엔티티 저장
+        analysis.applyTo(diaryEntry);
+        diaryEntry.updateAnalysisStatus(AnalysisStatus.DONE);
+
         DiaryEntry savedEntry = diaryRepository.save(diaryEntry);
         log.info("일기 작성 완료 - 일기 ID: {}, 사용자 ID: {}", savedEntry.getId(), userId);
+        eventPublisher.publishEvent(new EmotionHistoryChangedEvent(userId));
         log.info("최종 저장된 감정 분석 결과 - 텍스트: {} ({}도), 이미지: {} ({}도), 통합: {} ({}도)", 
             savedEntry.getTextEmotion(), savedEntry.getTextEmotionScore(),
             savedEntry.getFacialEmotion(), savedEntry.getFacialEmotionScore(),
@@ -259,9 +242,11 @@ public class DiaryService {
      * 기존 일기의 내용을 수정하고, 변경된 경우에만 감정 분석을 재수행합니다.
      * 
      * 감정 분석 재수행 조건:
-     * - 일기 내용이 변경된 경우
-     * - 이미지 URL이 변경된 경우
+     * - 일기 내용이 변경된 경우: 텍스트만 다시 분석
+     * - 이미지 URL이 변경된 경우: 이미지만 다시 분석
+     * - 둘 다 변경된 경우: 텍스트/이미지/통합 전체 분석
      * - 변경되지 않은 경우 기존 감정 분석 결과 유지
+     * - 한쪽만 변경된 경우 통합 결과는 저장된 결과와 합산하여 로컬에서 계산
      * 
      * 처리 과정:
      * 1. 일기 존재 여부 및 권한 검증
@@ -271,6 +256,8 @@ public class DiaryService {
      * 5. 데이터베이스에 변경사항 저장
      * 6. 응답 DTO로 변환하여 반환
      * 
+     * 비동기 분석 모드에서는 내용만 먼저 저장하고 3~4번을 백그라운드에서 수행합니다.
+     * 
      * @param userId 일기 수정자 사용자 ID
      * @param diaryId 수정할 일기 ID
      * @param request 일기 수정 요청 데이터
@@ -280,138 +267,95 @@ public class DiaryService {
      * @author hyeonSuKim
      * @since 2025-09-03
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DiaryDto.DiaryResponse updateDiary(Long userId, Long diaryId, DiaryDto.UpdateDiaryRequest request) {
         log.info("일기 수정 시작 - 사용자 ID: {}, 일기 ID: {}", userId, diaryId);
 
-        // 일기 존재 여부 및 권한 검증
-        DiaryEntry diaryEntry = diaryRepository.findById(diaryId)
+        // 일기 존재 여부 및 권한 검증 (작성자 조건을 포함해 조회, 트랜잭션이 끝나면 준영속 상태로 저장 시 다시 연결)
+        DiaryEntry diaryEntry = transactionTemplate.execute(status -> diaryRepository.findByIdAndUserId(diaryId, userId))
                 .orElseThrow(() -> new RuntimeException("일기를 찾을 수 없습니다: " + diaryId));
 
-        if (!diaryEntry.getUser().getId().equals(userId)) {
-            throw new RuntimeException("일기를 수정할 권한이 없습니다.");
-        }
-
         // 내용이 변경된 경우에만 감정 분석 재수행
         boolean contentChanged = !request.getContent().equals(diaryEntry.getContent());
         boolean imageChanged = (request.getImageUrl() != null && !request.getImageUrl().equals(diaryEntry.getImageUrl())) ||
                               (request.getImageUrl() == null && diaryEntry.getImageUrl() != null);
 
+        DiaryDto.DiaryResponse response;
         if (contentChanged || imageChanged) {
-            log.info("내용 또는 이미지가 변경되어 감정 분석을 재수행합니다.");
-            
-            // OpenAI를 통한 감정 분석 수행
-            OpenAiService.EmotionAnalysisResult textAnalysis = null;
-            OpenAiService.EmotionAnalysisResult imageAnalysis = null;
-            OpenAiService.EmotionAnalysisResult integratedAnalysis = null;
-
-            try {
-                // 텍스트 감정 분석 (내용이 있는 경우에만 수행)
-                if (request.getContent() != null && !request.getContent().trim().isEmpty()) {
-                    textAnalysis = openAiService.analyzeTextEmotion(request.getContent());
-                    log.info("텍스트 감정 분석 완료 - 감정: {}, 점수: {}", 
-                        textAnalysis.getEmotion(), textAnalysis.getScore());
-                }
+            log.info("변경된 입력에 대해 감정 분석을 재수행합니다 - 내용 변경: {}, 이미지 변경: {}",
+                    contentChanged, imageChanged);
 
-                // 이미지 감정 분석 (이미지가 있는 경우에만 수행)
-                if (request.getImageUrl() != null && !request.getImageUrl().trim().isEmpty()) {
-                    try {
-                        imageAnalysis = openAiService.analyzeImageEmotion(request.getImageUrl());
-                        if (imageAnalysis != null) {
-                            log.info("이미지 감정 분석 완료 - 감정: {}, 점수: {}", 
-                                imageAnalysis.getEmotion(), imageAnalysis.getScore());
-                        } else {
-                            log.warn("이미지 감정 분석이 null을 반환했습니다. 텍스트 분석 결과를 사용합니다.");
-                        }
-                    } catch (Exception e) {
-                        log.warn("이미지 감정 분석 실패: {}. 텍스트 분석 결과를 사용합니다.", e.getMessage());
-                        imageAnalysis = null;
-                    }
-                }
+            // 분석이 끝난 일기만 저장된 결과를 재사용 (대기 중/실패한 일기는 전체 재분석)
+            EmotionAnalysisOrchestrator.AnalysisResult previous =
+                    resolveAnalysisStatus(diaryEntry) == AnalysisStatus.DONE
+                            ? EmotionAnalysisOrchestrator.AnalysisResult.from(diaryEntry)
+                            : null;
 
-                // 통합 감정 분석 (텍스트 또는 이미지가 있는 경우)
-                if (textAnalysis != null || imageAnalysis != null) {
-                    if (textAnalysis != null && imageAnalysis != null) {
-                        // 텍스트와 이미지 모두 있는 경우에만 통합 분석 수행
-                        try {
-                            integratedAnalysis = openAiService.analyzeIntegratedEmotion(
-                                request.getContent() != null ? request.getContent() : "",
-                                request.getImageUrl() != null ? request.getImageUrl() : ""
-                            );
-                            if (integratedAnalysis != null) {
-                                log.info("통합 감정 분석 완료 - 감정: {}, 점수: {}", 
-                                    integratedAnalysis.getEmotion(), integratedAnalysis.getScore());
-                            } else {
-                                log.warn("통합 감정 분석이 null을 반환했습니다. 텍스트 분석 결과를 사용합니다.");
-                                // 통합 분석 실패 시 텍스트 분석 결과 사용
-                                integratedAnalysis = OpenAiService.EmotionAnalysisResult.builder()
-                                    .emotion(textAnalysis.getEmotion())
-                                    .score(textAnalysis.getScore())
-                                    .confidence(textAnalysis.getConfidence())
-                                    .keywords(textAnalysis.getKeywords())
-                                    .build();
-                            }
-                        } catch (Exception e) {
-                            log.warn("통합 감정 분석 실패: {}. 텍스트 분석 결과를 사용합니다.", e.getMessage());
-                            // 통합 분석 실패 시 텍스트 분석 결과 사용
-                            integratedAnalysis = OpenAiService.EmotionAnalysisResult.builder()
-                                .emotion(textAnalysis.getEmotion())
-                                .score(textAnalysis.getScore())
-                                .confidence(textAnalysis.getConfidence())
-                                .keywords(textAnalysis.getKeywords())
-                                .build();
-                        }
-                    } else if (textAnalysis != null) {
-                        // 텍스트만 있는 경우 텍스트 분석 결과를 통합 결과로 사용
-                        integratedAnalysis = OpenAiService.EmotionAnalysisResult.builder()
-                            .emotion(textAnalysis.getEmotion())
-                            .score(textAnalysis.getScore())
-                            .confidence(textAnalysis.getConfidence())
-                            .keywords(textAnalysis.getKeywords())
-                            .build();
-                        log.info("텍스트 분석 결과를 통합 결과로 사용 - 감정: {}, 점수: {}", 
-                            integratedAnalysis.getEmotion(), integratedAnalysis.getScore());
-                    } else if (imageAnalysis != null) {
-                        // 이미지만 있는 경우 이미지 분석 결과를 통합 결과로 사용
-                        integratedAnalysis = OpenAiService.EmotionAnalysisResult.builder()
-                            .emotion(imageAnalysis.getEmotion())
-                            .score(imageAnalysis.getScore())
-                            .confidence(imageAnalysis.getConfidence())
-                            .keywords(imageAnalysis.getKeywords())
-                            .build();
-                        log.info("이미지 분석 결과를 통합 결과로 사용 - 감정: {}, 점수: {}", 
-                            integratedAnalysis.getEmotion(), integratedAnalysis.getScore());
-                    }
-                }
+            if (asyncAnalysisEnabled) {
+                // 내용을 먼저 저장하고 감정 분석은 백그라운드에서 수행
+                response = saveInTransaction(diaryEntry, entry -> {
+                    entry.updateContent(request.getContent());
+                    entry.updateImageUrl(request.getImageUrl());
+                    entry.updateAnalysisStatus(AnalysisStatus.PENDING);
+                });
+                submitAnalysis(diaryId, request.getContent(), request.getImageUrl(),
+                        () -> emotionAnalysisOrchestrator.reanalyzeOrThrow(previous,
+                                request.getContent(), request.getImageUrl(), contentChanged, imageChanged));
+            } else {
+                // 변경된 입력만 OpenAI로 다시 분석 (DB 트랜잭션 밖에서 대기)
+                EmotionAnalysisOrchestrator.AnalysisResult analysis = emotionAnalysisOrchestrator.reanalyze(
+                        previous, request.getContent(), request.getImageUrl(), contentChanged, imageChanged);
 
-            } catch (Exception e) {
-                log.error("감정 분석 중 오류 발생: {}", e.getMessage(), e);
-                // 감정 분석 실패 시에도 일기는 수정
+                // 감정 분석 결과 업데이트
+                response = saveInTransaction(diaryEntry, entry -> {
+                    entry.updateContent(request.getContent());
+                    entry.updateImageUrl(request.getImageUrl());
+                    analysis.applyTo(entry);
+                    entry.updateAnalysisStatus(AnalysisStatus.DONE);
+                });
             }
-
-            // 감정 분석 결과 업데이트
-            diaryEntry.updateContent(request.getContent());
-            diaryEntry.updateImageUrl(request.getImageUrl());
-            diaryEntry.updateTextEmotion(textAnalysis != null ? EmotionType.fromString(textAnalysis.getEmotion()) : null);
-            diaryEntry.updateTextEmotionScore(textAnalysis != null ? textAnalysis.getScore() : null);
-            diaryEntry.updateTextEmotionConfidence(textAnalysis != null ? textAnalysis.getConfidence() : null);
-            diaryEntry.updateFacialEmotion(imageAnalysis != null ? EmotionType.fromString(imageAnalysis.getEmotion()) : null);
-            diaryEntry.updateFacialEmotionScore(imageAnalysis != null ? imageAnalysis.getScore() : null);
-            diaryEntry.updateFacialEmotionConfidence(imageAnalysis != null ? imageAnalysis.getConfidence() : null);
-            diaryEntry.updateIntegratedEmotion(integratedAnalysis != null ? EmotionType.fromString(integratedAnalysis.getEmotion()) : null);
-            diaryEntry.updateIntegratedEmotionScore(integratedAnalysis != null ? integratedAnalysis.getScore() : null);
-            diaryEntry.updateIntegratedEmotionConfidence(integratedAnalysis != null ? integratedAnalysis.getConfidence() : null);
-            diaryEntry.updateKeywords(integratedAnalysis != null ? integratedAnalysis.getKeywords() : null);
         } else {
             // 내용이 변경되지 않은 경우 기본 업데이트만 수행
-            diaryEntry.updateContent(request.getContent());
-            diaryEntry.updateImageUrl(request.getImageUrl());
+            response = saveInTransaction(diaryEntry, entry -> {
+                entry.updateContent(request.getContent());
+                entry.updateImageUrl(request.getImageUrl());
+            });
         }
 
-        DiaryEntry updatedEntry = diaryRepository.save(diaryEntry);
-        log.info("일기 수정 완료 - 일기 ID: {}, 사용자 ID: {}", updatedEntry.getId(), userId);
+        eventPublisher.publishEvent(new EmotionHistoryChangedEvent(userId));
+        log.info("일기 수정 완료 - 일기 ID: {}, 사용자 ID: {}", diaryId, userId);
+        return response;
+    }
+
+    /**
+     * 일기 감정 분석 완료 이벤트 구독 (SSE)
+     * 
+     * 분석이 이미 끝난 일기는 현재 결과를 즉시 전송하고 연결을 종료합니다.
+     * 
+     * @param userId 구독 요청자 사용자 ID
+     * @param diaryId 구독할 일기 ID
+     * @return 분석 완료 시 결과를 전송할 SseEmitter
+     * @throws RuntimeException 일기를 찾을 수 없거나 권한이 없는 경우
+     */
+    public SseEmitter subscribeDiaryAnalysis(Long userId, Long diaryId) {
+        log.info("일기 감정 분석 구독 - 사용자 ID: {}, 일기 ID: {}", userId, diaryId);
+
+        // 구독을 먼저 등록해야 조회와 분석 완료 사이의 알림을 놓치지 않음
+        SseEmitter emitter = diaryAnalysisNotifier.subscribe(diaryId);
+        DiaryDto.EmotionAnalysisResponse current;
+        try {
+            current = getDiaryAnalysis(userId, diaryId);
+        } catch (RuntimeException e) {
+            // 응답으로 반환하지 않은 emitter는 완료 콜백이 실행되지 않으므로 직접 구독 해제
+            diaryAnalysisNotifier.unsubscribe(diaryId, emitter);
+            emitter.complete();
+            throw e;
+        }
 
-        return convertToResponse(updatedEntry);
+        if (current.getAnalysisStatus() != AnalysisStatus.PENDING) {
+            diaryAnalysisNotifier.send(emitter, current);
+        }
+        return emitter;
     }
 
     /**
@@ -423,6 +367,11 @@ public class DiaryService {
      * - 일기 작성자만 삭제 가능
      * - 영구 삭제 (휴지통 없음)
      * 
+     * 일기를 조회하지 않고 두 개의 DELETE 문으로 삭제합니다.
+     * 1. 일기를 참조하는 북마크 삭제 (bookmark 테이블의 외래 키에 ON DELETE CASCADE가 없고,
+     *    JPQL 일괄 삭제는 DiaryEntry.bookmarks의 엔티티 cascade를 적용하지 않으므로 직접 삭제)
+     * 2. 작성자 조건을 포함한 일기 삭제 (DELETE ... WHERE id = ? AND user_id = ?)
+     * 
      * @param userId 일기 삭제자 사용자 ID
      * @param diaryId 삭제할 일기 ID
      * @throws RuntimeException 일기를 찾을 수 없거나 권한이 없는 경우
@@ -434,15 +383,13 @@ public class DiaryService {
     public void deleteDiary(Long userId, Long diaryId) {
         log.info("일기 삭제 시작 - 사용자 ID: {}, 일기 ID: {}", userId, diaryId);
 
-        // 일기 존재 여부 및 권한 검증
-        DiaryEntry diaryEntry = diaryRepository.findById(diaryId)
-                .orElseThrow(() -> new RuntimeException("일기를 찾을 수 없습니다: " + diaryId));
-
-        if (!diaryEntry.getUser().getId().equals(userId)) {
-            throw new RuntimeException("일기를 삭제할 권한이 없습니다.");
+        // 작성자 조건을 포함해 바로 삭제 (일기를 참조하는 북마크를 먼저 삭제)
+        bookmarkRepository.deleteByDiaryIdAndDiaryUserId(diaryId, userId);
+        if (diaryRepository.deleteByIdAndUserId(diaryId, userId) == 0) {
+            throw new RuntimeException("일기를 찾을 수 없습니다: " + diaryId);
         }
 
-        diaryRepository.delete(diaryEntry);
+        eventPublisher.publishEvent(new EmotionHistoryChangedEvent(userId));
         log.info("일기 삭제 완료 - 일기 ID: {}, 사용자 ID: {}", diaryId, userId);
     }
 
@@ -462,14 +409,10 @@ public class DiaryService {
     public DiaryDto.DiaryResponse getDiary(Long userId, Long diaryId) {
         log.info("일기 상세 조회 - 사용자 ID: {}, 일기 ID: {}", userId, diaryId);
 
-        // 일기 존재 여부 및 권한 검증
-        DiaryEntry diaryEntry = diaryRepository.findById(diaryId)
+        // 일기 존재 여부 및 권한 검증 (작성자 조건을 포함해 조회)
+        DiaryEntry diaryEntry = diaryRepository.findByIdAndUserId(diaryId, userId)
                 .orElseThrow(() -> new RuntimeException("일기를 찾을 수 없습니다: " + diaryId));
 
-        if (!diaryEntry.getUser().getId().equals(userId)) {
-            throw new RuntimeException("일기를 조회할 권한이 없습니다.");
-        }
-
         return convertToResponse(diaryEntry);
     }
 
@@ -492,6 +435,59 @@ public class DiaryService {
         return diaryEntries.map(this::convertToResponse);
     }
 
+    /**
+     * 사용자별 일기 목록 조회 (전체 개수 없이 페이징)
+     * 
+     * 전체 개수(COUNT 쿼리)가 필요 없는 화면용으로, 다음 페이지 존재 여부만 제공합니다.
+     * 
+     * @param userId 조회할 사용자 ID
+     * @param pageable 페이징 및 정렬 정보
+     * @return 일기 목록 (다음 페이지 존재 여부 포함)
+     */
+    public Slice<DiaryDto.DiaryResponse> getUserDiarySlice(Long userId, Pageable pageable) {
+        log.info("사용자별 일기 목록 조회 (개수 제외) - 사용자 ID: {}, 페이지: {}", userId, pageable.getPageNumber());
+
+        return diaryRepository.findSliceByUserId(userId, pageable).map(this::convertToResponse);
+    }
+
+    /**
+     * 사용자별 일기 목록 조회 (커서 기반)
+     * 
+     * 최신순으로 조회하며, 응답의 nextCursor를 다음 요청에 전달하면 이어서 조회합니다.
+     * OFFSET을 사용하지 않으므로 오래된 일기까지 내려가도 페이지당 조회 비용이 일정합니다.
+     * 
+     * @param userId 조회할 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지이면 null)
+     * @param size 페이지 크기
+     * @return 일기 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public DiaryDto.DiaryCursorResponse getUserDiariesByCursor(Long userId, String cursor, int size) {
+        log.info("사용자별 일기 목록 조회 (커서) - 사용자 ID: {}, 커서: {}", userId, cursor);
+
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<DiaryEntry> diaryEntries;
+        if (cursor == null || cursor.isBlank()) {
+            diaryEntries = diaryRepository.findLatestByUserId(userId, pageable);
+        } else {
+            DiaryCursor position = DiaryCursor.decode(cursor);
+            diaryEntries = diaryRepository.findLatestByUserIdBefore(userId, position.createdAt(), position.id(), pageable);
+        }
+
+        List<DiaryEntry> content = diaryEntries.getContent();
+        String nextCursor = null;
+        if (diaryEntries.hasNext() && !content.isEmpty()) {
+            DiaryEntry last = content.get(content.size() - 1);
+            nextCursor = new DiaryCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return DiaryDto.DiaryCursorResponse.builder()
+                .content(content.stream().map(this::convertToResponse).toList())
+                .nextCursor(nextCursor)
+                .hasNext(diaryEntries.hasNext())
+                .build();
+    }
+
     /**
      * 특정 날짜 일기 조회
      * 
@@ -517,7 +513,9 @@ public class DiaryService {
     /**
      * 감정별 일기 조회
      * 
-     * 사용자의 특정 감정 타입별 일기를 조회합니다.
+     * 사용자의 특정 감정 타입별 일기를 최신순으로 조회합니다.
+     * 목록 화면용이므로 본문은 앞부분 미리보기만, 감정은 감정 종류와 통합 감정 점수만 제공합니다.
+     * (본문 전체와 키워드는 일기 상세 조회 사용)
      * 
      * @param userId 조회할 사용자 ID
      * @param emotion 조회할 감정 타입
@@ -530,8 +528,9 @@ public class DiaryService {
         log.info("감정별 일기 조회 - 사용자 ID: {}, 감정: {}", userId, emotion);
 
         EmotionType emotionType = EmotionType.fromString(emotion);
-        List<DiaryEntry> diaryEntries = diaryRepository.findByUserIdAndIntegratedEmotion(userId, emotionType);
-        return diaryEntries.stream().map(this::convertToResponse).toList();
+        List<DiaryRepository.DiarySummary> diaries =
+                diaryRepository.findSummariesByUserIdAndIntegratedEmotion(userId, emotionType);
+        return diaries.stream().map(this::convertToSummaryResponse).toList();
     }
 
     /**
@@ -557,14 +556,10 @@ public class DiaryService {
     public DiaryDto.EmotionAnalysisResponse getDiaryAnalysis(Long userId, Long diaryId) {
         log.info("일기 감정 분석 결과 조회 - 사용자 ID: {}, 일기 ID: {}", userId, diaryId);
 
-        // 일기 존재 여부 및 권한 검증
-        DiaryEntry diaryEntry = diaryRepository.findById(diaryId)
+        // 일기 존재 여부 및 권한 검증 (작성자 조건을 포함해 조회)
+        DiaryEntry diaryEntry = diaryRepository.findByIdAndUserId(diaryId, userId)
                 .orElseThrow(() -> new RuntimeException("일기를 찾을 수 없습니다: " + diaryId));
 
-        if (!diaryEntry.getUser().getId().equals(userId)) {
-            throw new RuntimeException("일기를 조회할 권한이 없습니다.");
-        }
-
         // 감정 분석 결과를 DTO로 변환
         DiaryDto.EmotionScoreResponse textEmotion = DiaryDto.EmotionScoreResponse.builder()
                 .emotion(diaryEntry.getTextEmotion())
@@ -592,6 +587,7 @@ public class DiaryService {
         String analysis = generateAnalysisInsight(diaryEntry);
 
         return DiaryDto.EmotionAnalysisResponse.builder()
+                .analysisStatus(resolveAnalysisStatus(diaryEntry))
                 .textEmotion(textEmotion)
                 .facialEmotion(facialEmotion)
                 .integratedEmotion(integratedEmotion)
@@ -622,14 +618,10 @@ public class DiaryService {
     public DiaryDto.AnalysisSummaryResponse getDiaryAnalysisSummary(Long userId, Long diaryId) {
         log.info("일기 분석 요약 조회 - 사용자 ID: {}, 일기 ID: {}", userId, diaryId);
 
-        // 일기 존재 여부 및 권한 검증
-        DiaryEntry diaryEntry = diaryRepository.findById(diaryId)
+        // 일기 존재 여부 및 권한 검증 (작성자 조건을 포함해 조회)
+        DiaryEntry diaryEntry = diaryRepository.findByIdAndUserId(diaryId, userId)
                 .orElseThrow(() -> new RuntimeException("일기를 찾을 수 없습니다: " + diaryId));
 
-        if (!diaryEntry.getUser().getId().equals(userId)) {
-            throw new RuntimeException("일기를 조회할 권한이 없습니다.");
-        }
-
         // 전체 감정 점수 계산 및 요약 정보 생성
         Double overallEmotionScore = calculateOverallEmotionScore(diaryEntry);
         String overallEmotion = determineOverallEmotion(overallEmotionScore);
@@ -795,6 +787,135 @@ public class DiaryService {
         return insight.toString().trim();
     }
 
+    /**
+     * 짧은 쓰기 트랜잭션 안에서 이미 조회한 일기를 변경 후 저장
+     * 
+     * 권한 검증 때 조회한 일기를 다시 조회하지 않고 쓰기 트랜잭션의 영속성 컨텍스트에 다시 연결(LockMode.NONE)한 뒤
+     * 변경하므로 추가 SELECT 없이 변경된 컬럼만 UPDATE 합니다 (DiaryEntry는 @DynamicUpdate).
+     * 
+     * @param diaryEntry 권한 검증 트랜잭션에서 조회한 일기 (준영속 상태)
+     * @param mutation 일기 엔티티 변경 내용
+     * @return 변경된 일기 응답 DTO
+     */
+    private DiaryDto.DiaryResponse saveInTransaction(DiaryEntry diaryEntry, Consumer<DiaryEntry> mutation) {
+        return transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).lock(diaryEntry, LockMode.NONE);
+            mutation.accept(diaryEntry);
+            entityManager.flush();
+            return convertToResponse(diaryEntry);
+        });
+    }
+
+    /**
+     * 백그라운드 감정 분석 요청
+     * 
+     * 실행기 대기열이 가득 찬 경우 분석을 수행하지 않고 FAILED로 기록합니다.
+     * 
+     * @param diaryId 분석할 일기 ID
+     * @param content 분석할 일기 내용
+     * @param imageUrl 분석할 이미지 URL
+     * @param task 백그라운드에서 수행할 감정 분석
+     */
+    private void submitAnalysis(Long diaryId, String content, String imageUrl,
+                                Supplier<EmotionAnalysisOrchestrator.AnalysisResult> task) {
+        try {
+            diaryAnalysisExecutor.execute(() -> runAnalysis(diaryId, content, imageUrl, task));
+        } catch (TaskRejectedException e) {
+            log.warn("감정 분석 대기열이 가득 찼습니다 - 일기 ID: {}", diaryId);
+            completeAnalysis(diaryId, content, imageUrl, null);
+        }
+    }
+
+    private void runAnalysis(Long diaryId, String content, String imageUrl,
+                             Supplier<EmotionAnalysisOrchestrator.AnalysisResult> task) {
+        EmotionAnalysisOrchestrator.AnalysisResult analysis = null;
+        try {
+            analysis = task.get();
+        } catch (Exception e) {
+            log.error("백그라운드 감정 분석 실패 - 일기 ID: {}, 오류: {}", diaryId, e.getMessage(), e);
+        }
+        completeAnalysis(diaryId, content, imageUrl, analysis);
+    }
+
+    /**
+     * 백그라운드 감정 분석 결과 저장 및 구독자 알림
+     * 
+     * 분석 도중 일기가 삭제되었거나 다시 수정된 경우 결과를 버립니다.
+     * (다시 수정된 경우 최신 내용에 대한 분석이 별도로 요청되어 있음)
+     * 
+     * @param diaryId 분석한 일기 ID
+     * @param content 분석한 일기 내용
+     * @param imageUrl 분석한 이미지 URL
+     * @param analysis 감정 분석 결과, 실패한 경우 null
+     */
+    private void completeAnalysis(Long diaryId, String content, String imageUrl,
+                                  EmotionAnalysisOrchestrator.AnalysisResult analysis) {
+        try {
+            DiaryDto.EmotionAnalysisResponse response = transactionTemplate.execute(status -> {
+                DiaryEntry diaryEntry = diaryRepository.findById(diaryId).orElse(null);
+                if (diaryEntry == null) {
+                    log.info("감정 분석 도중 일기가 삭제되었습니다 - 일기 ID: {}", diaryId);
+                    return null;
+                }
+                if (!Objects.equals(content, diaryEntry.getContent())
+                        || !Objects.equals(imageUrl, diaryEntry.getImageUrl())) {
+                    log.info("감정 분석 도중 일기가 수정되어 결과를 버립니다 - 일기 ID: {}", diaryId);
+                    return null;
+                }
+
+                if (analysis != null) {
+                    analysis.applyTo(diaryEntry);
+                    diaryEntry.updateAnalysisStatus(AnalysisStatus.DONE);
+                } else {
+                    diaryEntry.updateAnalysisStatus(AnalysisStatus.FAILED);
+                }
+                eventPublisher.publishEvent(new EmotionHistoryChangedEvent(diaryEntry.getUserId()));
+                return createEmotionAnalysisResponse(diaryRepository.save(diaryEntry));
+            });
+
+            if (response != null) {
+                log.info("백그라운드 감정 분석 완료 - 일기 ID: {}, 상태: {}", diaryId, response.getAnalysisStatus());
+                diaryAnalysisNotifier.publish(diaryId, response);
+            }
+        } catch (Exception e) {
+            log.error("감정 분석 결과 저장 실패 - 일기 ID: {}, 오류: {}", diaryId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 일기 목록 커서 (이전 페이지 마지막 일기의 작성 시각과 ID)
+     * 
+     * 클라이언트에는 내부 구조를 드러내지 않도록 URL-safe Base64 문자열로 전달합니다.
+     */
+    record DiaryCursor(LocalDateTime createdAt, Long id) {
+
+        private static final String SEPARATOR = "_";
+
+        String encode() {
+            String raw = createdAt + SEPARATOR + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static DiaryCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf(SEPARATOR);
+                return new DiaryCursor(
+                        LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+    }
+
+    /**
+     * 감정 분석 상태 조회 (상태 컬럼 도입 이전 일기는 분석 완료로 간주)
+     */
+    private AnalysisStatus resolveAnalysisStatus(DiaryEntry diaryEntry) {
+        return diaryEntry.getAnalysisStatus() != null ? diaryEntry.getAnalysisStatus() : AnalysisStatus.DONE;
+    }
+
     /**
      * 일기 엔티티를 응답 DTO로 변환
      * 
@@ -815,15 +936,62 @@ public class DiaryService {
     private DiaryDto.DiaryResponse convertToResponse(DiaryEntry diaryEntry) {
         return DiaryDto.DiaryResponse.builder()
                 .id(diaryEntry.getId())
-                .userId(diaryEntry.getUser().getId())
+                .userId(diaryEntry.getUserId())
                 .content(diaryEntry.getContent())
                 .imageUrl(diaryEntry.getImageUrl())
+                .analysisStatus(resolveAnalysisStatus(diaryEntry))
                 .emotionAnalysis(createEmotionAnalysisResponse(diaryEntry))
                 .createdAt(diaryEntry.getCreatedAt())
                 .updatedAt(diaryEntry.getUpdatedAt())
                 .build();
     }
     
+    /**
+     * 일기 목록 항목을 응답 DTO로 변환
+     * 
+     * 본문은 DB에서 잘라 온 미리보기(DiaryRepository.PREVIEW_LENGTH 글자)이며, 잘린 경우 "..."을 붙입니다.
+     * 
+     * @param diary 일기 목록 항목
+     * @return 일기 응답 DTO
+     */
+    private DiaryDto.DiaryResponse convertToSummaryResponse(DiaryRepository.DiarySummary diary) {
+        String preview = diary.getPreview() != null ? diary.getPreview() : "";
+        Integer contentLength = diary.getContentLength();
+        if (contentLength != null && contentLength > DiaryRepository.PREVIEW_LENGTH) {
+            preview = preview + "...";
+        }
+
+        AnalysisStatus analysisStatus = diary.getAnalysisStatus() != null ? diary.getAnalysisStatus() : AnalysisStatus.DONE;
+        DiaryDto.EmotionAnalysisResponse emotionAnalysis = DiaryDto.EmotionAnalysisResponse.builder()
+                .analysisStatus(analysisStatus)
+                .textEmotion(diary.getTextEmotion() != null
+                        ? DiaryDto.EmotionScoreResponse.builder().emotion(diary.getTextEmotion()).build()
+                        : null)
+                .facialEmotion(diary.getFacialEmotion() != null
+                        ? DiaryDto.EmotionScoreResponse.builder().emotion(diary.getFacialEmotion()).build()
+                        : null)
+                .integratedEmotion(diary.getIntegratedEmotion() != null
+                        ? DiaryDto.EmotionScoreResponse.builder()
+                                .emotion(diary.getIntegratedEmotion())
+                                .score(diary.getIntegratedEmotionScore())
+                                .confidence(diary.getIntegratedEmotionConfidence())
+                                .build()
+                        : null)
+                .timestamp(diary.getUpdatedAt())
+                .build();
+
+        return DiaryDto.DiaryResponse.builder()
+                .id(diary.getId())
+                .userId(diary.getUserId())
+                .content(preview)
+                .imageUrl(diary.getImageUrl())
+                .analysisStatus(analysisStatus)
+                .emotionAnalysis(emotionAnalysis)
+                .createdAt(diary.getCreatedAt())
+                .updatedAt(diary.getUpdatedAt())
+                .build();
+    }
+
     /**
      * DiaryEntry에서 EmotionAnalysisResponse 생성
      */
@@ -868,6 +1036,7 @@ public class DiaryService {
         }
         
         return DiaryDto.EmotionAnalysisResponse.builder()
+                .analysisStatus(resolveAnalysisStatus(diaryEntry))
                 .textEmotion(textEmotion)
                 .facialEmotion(facialEmotion)
                 .integratedEmotion(integratedEmotion)
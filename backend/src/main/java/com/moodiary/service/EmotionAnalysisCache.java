@@ -0,0 +1,206 @@
+package com.moodiary.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 감정 분석 결과 캐시
+ *
+ * 동일한 입력에 대한 OpenAI 호출(토큰 비용, 수 초의 지연)을 줄이기 위해
+ * 파싱된 EmotionAnalysisResult를 내용 해시 기준으로 저장합니다.
+ *
+ * 캐시 키 구성 (SHA-256):
+ * - 분석 종류 (text / image / integrated)
+ * - 프롬프트 버전 (프롬프트 변경 시 이전 결과를 무효화)
+ * - 모델명
+ * - 정규화된 텍스트 (NFC, 공백 축약, 앞뒤 공백 제거)
+ * - 이미지 파일 내용 해시
+ *
+ * 저장 계층:
+ * - L1: 프로세스 내 Caffeine 캐시
+ * - L2: Redis (장애 시 캐시 미스로 처리하고 OpenAI 호출을 계속 진행)
+ *
+ * 메트릭: moodiary.emotion.analysis.cache{level=l1|l2, result=hit|miss}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmotionAnalysisCache {
+
+    private static final String KEY_PREFIX = "moodiary:emotion-analysis:";
+    private static final String METRIC_NAME = "moodiary.emotion.analysis.cache";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${openai.analysis.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${openai.analysis.cache.redis-enabled:true}")
+    private boolean redisEnabled;
+
+    @Value("${openai.analysis.cache.l1-max-size:1000}")
+    private long l1MaxSize;
+
+    @Value("${openai.analysis.cache.l1-ttl:10m}")
+    private Duration l1Ttl;
+
+    @Value("${openai.analysis.cache.l2-ttl:7d}")
+    private Duration l2Ttl;
+
+    private Cache<String, Object> localCache;
+
+    private Counter l1Hit;
+    private Counter l1Miss;
+    private Counter l2Hit;
+    private Counter l2Miss;
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(l1Ttl)
+                .build();
+
+        l1Hit = counter("l1", "hit");
+        l1Miss = counter("l1", "miss");
+        l2Hit = counter("l2", "hit");
+        l2Miss = counter("l2", "miss");
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * @param kind 분석 종류 (text / image / integrated)
+     * @param promptVersion 프롬프트 버전
+     * @param model 모델명
+     * @param text 분석할 텍스트 (없으면 null)
+     * @param imageHash 이미지 내용 해시 (없으면 null)
+     * @return 캐시 키
+     */
+    public String key(String kind, String promptVersion, String model, String text, String imageHash) {
+        String source = String.join("\u0000",
+                kind,
+                promptVersion,
+                model,
+                text != null ? normalize(text) : "",
+                imageHash != null ? imageHash : "");
+        return KEY_PREFIX + sha256(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 loader로 분석 후 저장
+     *
+     * loader가 빈 Mono나 오류를 반환하면 저장하지 않습니다.
+     *
+     * @param key 캐시 키
+     * @param type 분석 결과 타입 (Redis 역직렬화용)
+     * @param loader 캐시 미스 시 수행할 분석
+     * @return 감정 분석 결과를 방출하는 Mono
+     */
+    public <T> Mono<T> getOrLoad(String key, Class<T> type, Supplier<Mono<T>> loader) {
+        if (!enabled) {
+            return Mono.defer(loader);
+        }
+        return get(key, type)
+                .switchIfEmpty(Mono.defer(loader).doOnNext(result -> put(key, result)));
+    }
+
+    private <T> Mono<T> get(String key, Class<T> type) {
+        Object local = localCache.getIfPresent(key);
+        if (type.isInstance(local)) {
+            l1Hit.increment();
+            return Mono.just(type.cast(local));
+        }
+        l1Miss.increment();
+
+        if (!redisEnabled) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> readRemote(key, type))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(result -> localCache.put(key, result));
+    }
+
+    private void put(String key, Object result) {
+        localCache.put(key, result);
+        if (!redisEnabled) {
+            return;
+        }
+        Mono.fromRunnable(() -> writeRemote(key, result))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+
+    private <T> T readRemote(String key, Class<T> type) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json == null) {
+                l2Miss.increment();
+                return null;
+            }
+            l2Hit.increment();
+            return objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            l2Miss.increment();
+            log.warn("감정 분석 캐시(Redis) 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, Object result) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(result), l2Ttl);
+        } catch (Exception e) {
+            log.warn("감정 분석 캐시(Redis) 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Counter counter(String level, String result) {
+        return Counter.builder(METRIC_NAME)
+                .tag("level", level)
+                .tag("result", result)
+                .description("감정 분석 결과 캐시 조회 결과")
+                .register(meterRegistry);
+    }
+
+    private String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    /**
+     * SHA-256 해시 문자열(hex) 생성
+     *
+     * @param bytes 해시할 바이트 배열
+     * @return 소문자 hex 문자열
+     */
+    public static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.moodiary.service;
+
+import com.moodiary.entity.DiaryEntry;
+import com.moodiary.entity.EmotionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 일기 감정 분석 오케스트레이터
+ *
+ * 텍스트/이미지/통합 감정 분석 단계를 조합하여 하나의 분석 결과를 만들어냅니다.
+ *
+ * 처리 방식:
+ * - 텍스트 분석과 이미지 분석을 논블로킹 Mono로 동시에 요청
+ * - 두 분석이 모두 끝나면 통합 분석 수행 여부를 결정
+ * - 단계별 타임아웃 적용 (openai.analysis.*-timeout)
+ * - 통합 분석이 실패하거나 시간 초과되면 텍스트 분석 결과를 통합 결과로 사용
+ *
+ * 기존 순차 호출(텍스트 → 이미지 → 통합) 대비 전체 지연 시간이
+ * 가장 느린 단일 호출 + 통합 분석 수준으로 줄어듭니다.
+ *
+ * 분석 모드 (openai.analysis.mode):
+ * - separate (기본): 텍스트/이미지/통합을 각각 호출
+ * - combined: 텍스트와 이미지가 모두 있으면 한 번의 Vision 호출로 세 결과를 함께 받음
+ *   (실패 시 텍스트 분석 결과로 대체)
+ *
+ * 일기 수정 시에는 입력이 바뀐 단계만 다시 분석하고(reanalyze),
+ * 바뀌지 않은 쪽은 저장된 결과를 재사용하여 통합 결과를 로컬에서 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmotionAnalysisOrchestrator {
+
+    /**
+     * 로컬 통합 계산 시 텍스트/표정 가중치 (DiaryService 전체 감정 점수와 동일한 0.7 : 0.3)
+     */
+    private static final double TEXT_WEIGHT = 0.7;
+    private static final double IMAGE_WEIGHT = 0.3;
+
+    private final OpenAiService openAiService;
+
+    @Value("${openai.analysis.text-timeout:20s}")
+    private Duration textTimeout;
+
+    @Value("${openai.analysis.image-timeout:30s}")
+    private Duration imageTimeout;
+
+    @Value("${openai.analysis.integrated-timeout:30s}")
+    private Duration integratedTimeout;
+
+    @Value("${openai.analysis.combined-timeout:40s}")
+    private Duration combinedTimeout;
+
+    @Value("${openai.analysis.total-timeout:60s}")
+    private Duration totalTimeout;
+
+    @Value("${openai.analysis.mode:separate}")
+    private String mode;
+
+    /**
+     * 감정 분석 단계별 결과 묶음
+     *
+     * 분석하지 않았거나 실패한 단계는 null입니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AnalysisResult {
+        private final OpenAiService.EmotionAnalysisResult text;
+        private final OpenAiService.EmotionAnalysisResult image;
+        private final OpenAiService.EmotionAnalysisResult integrated;
+
+        public static AnalysisResult empty() {
+            return new AnalysisResult(null, null, null);
+        }
+
+        /**
+         * 일기 엔티티에 저장된 감정 분석 결과 복원
+         *
+         * 텍스트/표정 단계의 키워드는 저장되지 않으므로 통합 결과에만 키워드가 포함됩니다.
+         *
+         * @param diaryEntry 저장된 일기 엔티티
+         * @return 저장된 단계별 감정 분석 결과
+         */
+        public static AnalysisResult from(DiaryEntry diaryEntry) {
+            return new AnalysisResult(
+                    toResult(diaryEntry.getTextEmotion(), diaryEntry.getTextEmotionScore(),
+                            diaryEntry.getTextEmotionConfidence(), null),
+                    toResult(diaryEntry.getFacialEmotion(), diaryEntry.getFacialEmotionScore(),
+                            diaryEntry.getFacialEmotionConfidence(), null),
+                    toResult(diaryEntry.getIntegratedEmotion(), diaryEntry.getIntegratedEmotionScore(),
+                            diaryEntry.getIntegratedEmotionConfidence(), diaryEntry.getKeywords()));
+        }
+
+        private static OpenAiService.EmotionAnalysisResult toResult(EmotionType emotion, Double score,
+                                                                  Double confidence, String keywords) {
+            if (emotion == null) {
+                return null;
+            }
+            return OpenAiService.EmotionAnalysisResult.builder()
+                    .emotion(emotion.name().toLowerCase())
+                    .score(score)
+                    .confidence(confidence)
+                    .keywords(keywords)
+                    .build();
+        }
+
+        /**
+         * 감정 분석 결과를 일기 엔티티에 반영
+         *
+         * 분석하지 않았거나 실패한 단계의 컬럼은 null로 설정됩니다.
+         *
+         * @param diaryEntry 반영할 일기 엔티티
+         */
+        public void applyTo(DiaryEntry diaryEntry) {
+            diaryEntry.updateTextEmotion(text != null ? EmotionType.fromString(text.getEmotion()) : null);
+            diaryEntry.updateTextEmotionScore(text != null ? text.getScore() : null);
+            diaryEntry.updateTextEmotionConfidence(text != null ? text.getConfidence() : null);
+            diaryEntry.updateFacialEmotion(image != null ? EmotionType.fromString(image.getEmotion()) : null);
+            diaryEntry.updateFacialEmotionScore(image != null ? image.getScore() : null);
+            diaryEntry.updateFacialEmotionConfidence(image != null ? image.getConfidence() : null);
+            diaryEntry.updateIntegratedEmotion(integrated != null ? EmotionType.fromString(integrated.getEmotion()) : null);
+            diaryEntry.updateIntegratedEmotionScore(integrated != null ? integrated.getScore() : null);
+            diaryEntry.updateIntegratedEmotionConfidence(integrated != null ? integrated.getConfidence() : null);
+            diaryEntry.updateKeywords(integrated != null ? integrated.getKeywords() : null);
+        }
+    }
+
+    /**
+     * 일기 내용과 이미지에 대한 감정 분석 수행 (블로킹)
+     *
+     * 분석 실패 시에도 예외를 던지지 않고 빈 결과를 반환하여 일기 저장이 계속되도록 합니다.
+     *
+     * @param content 일기 내용
+     * @param imageUrl 이미지 URL
+     * @return 단계별 감정 분석 결과
+     */
+    public AnalysisResult analyze(String content, String imageUrl) {
+        try {
+            return analyzeOrThrow(content, imageUrl);
+        } catch (Exception e) {
+            log.error("감정 분석 중 오류 발생: {}", e.getMessage(), e);
+            return AnalysisResult.empty();
+        }
+    }
+
+    /**
+     * 일기 내용과 이미지에 대한 감정 분석 수행 (블로킹, 실패 시 예외 전파)
+     *
+     * 백그라운드 분석처럼 실패 여부를 상태로 기록해야 하는 호출자에서 사용합니다.
+     *
+     * @param content 일기 내용
+     * @param imageUrl 이미지 URL
+     * @return 단계별 감정 분석 결과
+     * @throws RuntimeException 전체 타임아웃 초과 등 분석 실패 시
+     */
+    public AnalysisResult analyzeOrThrow(String content, String imageUrl) {
+        AnalysisResult result = analyzeAsync(content, imageUrl).block(totalTimeout);
+        return result != null ? result : AnalysisResult.empty();
+    }
+
+    /**
+     * 일기 내용과 이미지에 대한 감정 분석 수행 (논블로킹)
+     *
+     * @param content 일기 내용
+     * @param imageUrl 이미지 URL
+     * @return 단계별 감정 분석 결과를 방출하는 Mono
+     */
+    public Mono<AnalysisResult> analyzeAsync(String content, String imageUrl) {
+        boolean hasText = content != null && !content.trim().isEmpty();
+        boolean hasImage = imageUrl != null && !imageUrl.trim().isEmpty();
+
+        if (hasText && hasImage && "combined".equalsIgnoreCase(mode)) {
+            return analyzeCombined(content, imageUrl);
+        }
+
+        Mono<Optional<OpenAiService.EmotionAnalysisResult>> textMono = hasText
+                ? analyzeText(content)
+                : Mono.just(Optional.empty());
+        Mono<Optional<OpenAiService.EmotionAnalysisResult>> imageMono = hasImage
+                ? analyzeImage(imageUrl)
+                : Mono.just(Optional.empty());
+
+        // 텍스트와 이미지 분석을 동시에 구독하고, 둘 다 끝나면 통합 단계를 결정
+        return Mono.zip(textMono, imageMono)
+                .flatMap(tuple -> integrate(content, imageUrl,
+                        tuple.getT1().orElse(null), tuple.getT2().orElse(null)));
+    }
+
+    /**
+     * 일기 수정 시 변경된 입력만 다시 감정 분석 (블로킹)
+     *
+     * 분석 실패 시에도 예외를 던지지 않고 빈 결과를 반환하여 일기 수정이 계속되도록 합니다.
+     *
+     * @param previous 저장되어 있던 감정 분석 결과 (없거나 신뢰할 수 없으면 null)
+     * @param content 수정된 일기 내용
+     * @param imageUrl 수정된 이미지 URL
+     * @param textChanged 내용 변경 여부
+     * @param imageChanged 이미지 변경 여부
+     * @return 단계별 감정 분석 결과
+     */
+    public AnalysisResult reanalyze(AnalysisResult previous, String content, String imageUrl,
+                                    boolean textChanged, boolean imageChanged) {
+        try {
+            return reanalyzeOrThrow(previous, content, imageUrl, textChanged, imageChanged);
+        } catch (Exception e) {
+            log.error("감정 재분석 중 오류 발생: {}", e.getMessage(), e);
+            return AnalysisResult.empty();
+        }
+    }
+
+    /**
+     * 일기 수정 시 변경된 입력만 다시 감정 분석 (블로킹, 실패 시 예외 전파)
+     *
+     * @see #reanalyze(AnalysisResult, String, String, boolean, boolean)
+     */
+    public AnalysisResult reanalyzeOrThrow(AnalysisResult previous, String content, String imageUrl,
+                                           boolean textChanged, boolean imageChanged) {
+        AnalysisResult result = reanalyzeAsync(previous, content, imageUrl, textChanged, imageChanged)
+                .block(totalTimeout);
+        return result != null ? result : AnalysisResult.empty();
+    }
+
+    /**
+     * 일기 수정 시 변경된 입력만 다시 감정 분석 (논블로킹)
+     *
+     * 처리 방식:
+     * - 내용과 이미지가 모두 바뀌었거나 이전 결과가 없으면 전체 분석(analyzeAsync)
+     * - 내용만 바뀐 경우: 텍스트만 다시 분석하고 저장된 표정 결과 재사용 (이미지 재전송 없음)
+     * - 이미지만 바뀐 경우: 이미지만 다시 분석하고 저장된 텍스트 결과 재사용
+     * - 통합 결과는 OpenAI 호출 없이 텍스트/표정 결과를 가중 합산하여 계산
+     *
+     * 저장된 텍스트 결과가 없으면 텍스트는 다시 분석합니다.
+     * 저장된 표정 결과가 없는 것은 이전에 분석이 거부된 경우이므로 다시 요청하지 않습니다.
+     *
+     * @param previous 저장되어 있던 감정 분석 결과 (없거나 신뢰할 수 없으면 null)
+     * @param content 수정된 일기 내용
+     * @param imageUrl 수정된 이미지 URL
+     * @param textChanged 내용 변경 여부
+     * @param imageChanged 이미지 변경 여부
+     * @return 단계별 감정 분석 결과를 방출하는 Mono
+     */
+    public Mono<AnalysisResult> reanalyzeAsync(AnalysisResult previous, String content, String imageUrl,
+                                               boolean textChanged, boolean imageChanged) {
+        if (previous == null || (textChanged && imageChanged)) {
+            return analyzeAsync(content, imageUrl);
+        }
+
+        boolean hasText = content != null && !content.trim().isEmpty();
+        boolean hasImage = imageUrl != null && !imageUrl.trim().isEmpty();
+        boolean rerunText = hasText && (textChanged || previous.getText() == null);
+
+        Mono<Optional<OpenAiService.EmotionAnalysisResult>> textMono;
+        if (!hasText) {
+            textMono = Mono.just(Optional.empty());
+        } else if (rerunText) {
+            textMono = analyzeText(content);
+        } else {
+            log.info("내용이 변경되지 않아 저장된 텍스트 감정 분석 결과를 재사용합니다.");
+            textMono = Mono.just(Optional.of(previous.getText()));
+        }
+
+        Mono<Optional<OpenAiService.EmotionAnalysisResult>> imageMono;
+        if (!hasImage) {
+            imageMono = Mono.just(Optional.empty());
+        } else if (imageChanged) {
+            imageMono = analyzeImage(imageUrl);
+        } else {
+            log.info("이미지가 변경되지 않아 저장된 표정 감정 분석 결과를 재사용합니다.");
+            imageMono = Mono.just(Optional.ofNullable(previous.getImage()));
+        }
+
+        // 새로 분석한 텍스트가 없으면 기존 통합 키워드를 유지
+        String previousKeywords = previous.getIntegrated() != null ? previous.getIntegrated().getKeywords() : null;
+
+        return Mono.zip(textMono, imageMono)
+                .map(tuple -> {
+                    OpenAiService.EmotionAnalysisResult textAnalysis = tuple.getT1().orElse(null);
+                    OpenAiService.EmotionAnalysisResult imageAnalysis = tuple.getT2().orElse(null);
+                    String keywords = rerunText && textAnalysis != null
+                            ? textAnalysis.getKeywords()
+                            : previousKeywords;
+                    return new AnalysisResult(textAnalysis, imageAnalysis,
+                            integrateLocally(textAnalysis, imageAnalysis, keywords));
+                });
+    }
+
+    /**
+     * 텍스트/표정/통합 감정을 한 번의 호출로 분석
+     *
+     * 표정 결과가 없으면(얼굴 없음, 거부 등) 텍스트 결과를 통합 결과로 사용하고,
+     * 호출 자체가 실패하거나 시간 초과되면 텍스트만 별도로 분석합니다.
+     */
+    private Mono<AnalysisResult> analyzeCombined(String content, String imageUrl) {
+        return openAiService.analyzeCombinedEmotionAsync(content, imageUrl)
+                .timeout(combinedTimeout)
+                .map(result -> {
+                    OpenAiService.EmotionAnalysisResult integrated = result.getFacial() != null
+                            && result.getIntegrated() != null
+                            ? result.getIntegrated()
+                            : copyOf(result.getText());
+                    return new AnalysisResult(result.getText(), result.getFacial(), integrated);
+                })
+                .onErrorResume(e -> {
+                    log.warn("단일 호출 감정 분석 실패: {}. 텍스트 분석 결과를 사용합니다.", e.toString());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.defer(() -> analyzeText(content)
+                        .map(text -> new AnalysisResult(text.orElse(null), null,
+                                text.map(this::copyOf).orElse(null)))));
+    }
+
+    private Mono<Optional<OpenAiService.EmotionAnalysisResult>> analyzeText(String content) {
+        return openAiService.analyzeTextEmotionAsync(content)
+                .timeout(textTimeout)
+                .doOnNext(result -> log.info("텍스트 감정 분석 완료 - 감정: {}, 점수: {}",
+                        result.getEmotion(), result.getScore()))
+                .onErrorResume(e -> {
+                    log.warn("텍스트 감정 분석 실패: {}. 기본값을 사용합니다.", e.toString());
+                    return Mono.just(openAiService.getDefaultEmotionResult());
+                })
+                .map(Optional::of);
+    }
+
+    private Mono<Optional<OpenAiService.EmotionAnalysisResult>> analyzeImage(String imageUrl) {
+        return openAiService.analyzeImageEmotionAsync(imageUrl)
+                .timeout(imageTimeout)
+                .doOnNext(result -> log.info("이미지 감정 분석 완료 - 감정: {}, 점수: {}",
+                        result.getEmotion(), result.getScore()))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    log.warn("이미지 감정 분석 실패: {}. 텍스트 분석 결과를 사용합니다.", e.toString());
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    private Mono<AnalysisResult> integrate(String content, String imageUrl,
+                                           OpenAiService.EmotionAnalysisResult textAnalysis,
+                                           OpenAiService.EmotionAnalysisResult imageAnalysis) {
+        if (textAnalysis != null && imageAnalysis != null) {
+            // 텍스트와 이미지 모두 있는 경우에만 통합 분석 수행
+            return openAiService.analyzeIntegratedEmotionAsync(content, imageUrl)
+                    .timeout(integratedTimeout)
+                    .doOnNext(result -> log.info("통합 감정 분석 완료 - 감정: {}, 점수: {}",
+                            result.getEmotion(), result.getScore()))
+                    .onErrorResume(e -> {
+                        log.warn("통합 감정 분석 실패: {}. 텍스트 분석 결과를 사용합니다.", e.toString());
+                        return Mono.empty();
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(() -> copyOf(textAnalysis)))
+                    .map(integrated -> new AnalysisResult(textAnalysis, imageAnalysis, integrated));
+        }
+
+        // 한쪽만 있는 경우 해당 분석 결과를 통합 결과로 사용
+        OpenAiService.EmotionAnalysisResult integrated = null;
+        if (textAnalysis != null) {
+            integrated = copyOf(textAnalysis);
+        } else if (imageAnalysis != null) {
+            integrated = copyOf(imageAnalysis);
+        }
+        return Mono.just(new AnalysisResult(textAnalysis, imageAnalysis, integrated));
+    }
+
+    /**
+     * 텍스트/표정 결과를 가중 합산하여 통합 결과 계산 (OpenAI 호출 없음)
+     *
+     * - 점수/신뢰도: 텍스트 0.7, 표정 0.3 가중 평균
+     * - 감정: 가중치 × 신뢰도가 더 큰 쪽의 감정
+     * - 한쪽만 있으면 해당 결과를 그대로 사용
+     *
+     * @param textAnalysis 텍스트 감정 분석 결과
+     * @param imageAnalysis 표정 감정 분석 결과
+     * @param keywords 통합 결과에 사용할 키워드
+     * @return 통합 감정 분석 결과, 둘 다 없으면 null
+     */
+    OpenAiService.EmotionAnalysisResult integrateLocally(OpenAiService.EmotionAnalysisResult textAnalysis,
+                                                         OpenAiService.EmotionAnalysisResult imageAnalysis,
+                                                         String keywords) {
+        if (textAnalysis == null && imageAnalysis == null) {
+            return null;
+        }
+        if (textAnalysis == null || imageAnalysis == null) {
+            OpenAiService.EmotionAnalysisResult integrated = copyOf(textAnalysis != null ? textAnalysis : imageAnalysis);
+            if (keywords != null) {
+                integrated.setKeywords(keywords);
+            }
+            return integrated;
+        }
+
+        double textConfidence = valueOrZero(textAnalysis.getConfidence());
+        double imageConfidence = valueOrZero(imageAnalysis.getConfidence());
+        String emotion = TEXT_WEIGHT * textConfidence >= IMAGE_WEIGHT * imageConfidence
+                ? textAnalysis.getEmotion()
+                : imageAnalysis.getEmotion();
+
+        OpenAiService.EmotionAnalysisResult integrated = OpenAiService.EmotionAnalysisResult.builder()
+                .emotion(emotion)
+                .score(weighted(textAnalysis.getScore(), imageAnalysis.getScore()))
+                .confidence(weighted(textAnalysis.getConfidence(), imageAnalysis.getConfidence()))
+                .keywords(keywords)
+                .build();
+        log.info("통합 감정 로컬 계산 완료 - 감정: {}, 점수: {}", integrated.getEmotion(), integrated.getScore());
+        return integrated;
+    }
+
+    private Double weighted(Double textValue, Double imageValue) {
+        if (textValue == null) {
+            return imageValue;
+        }
+        if (imageValue == null) {
+            return textValue;
+        }
+        return Math.round((textValue * TEXT_WEIGHT + imageValue * IMAGE_WEIGHT) * 10) / 10.0;
+    }
+
+    private double valueOrZero(Double value) {
+        return value != null ? value : 0.0;
+    }
+
+    private OpenAiService.EmotionAnalysisResult copyOf(OpenAiService.EmotionAnalysisResult source) {
+        return OpenAiService.EmotionAnalysisResult.builder()
+                .emotion(source.getEmotion())
+                .score(source.getScore())
+                .confidence(source.getConfidence())
+                .keywords(source.getKeywords())
+                .fallback(source.isFallback())
+                .build();
+    }
+}
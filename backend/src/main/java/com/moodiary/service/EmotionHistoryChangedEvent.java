@@ -0,0 +1,12 @@
+package com.moodiary.service;
+
+/**
+ * 사용자의 감정 이력(일기 감정, 북마크)이 변경되었음을 알리는 이벤트
+ *
+ * 일기 작성/수정/삭제, 감정 분석 완료, 북마크 추가/삭제 시 발행되며,
+ * 추천 순위 계산용 사용자 감정 프로필(RecommendRanker)을 무효화하는 데 사용합니다.
+ *
+ * @param userId 감정 이력이 변경된 사용자 ID
+ */
+public record EmotionHistoryChangedEvent(Long userId) {
+}
@@ -0,0 +1,157 @@
+package com.moodiary.service;
+
+import com.moodiary.config.WebClientConfig;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 외부 API(OpenAI, Gemini, 네이버) 호출 보호 장치
+ *
+ * 제공자마다 서킷 브레이커와 동시 호출 제한(bulkhead)을 두어, 한 제공자가 느려지거나 장애가 나도
+ * 대기 중인 호출이 쌓여 다른 기능까지 멈추지 않도록 합니다.
+ *
+ * - 서킷 브레이커: 최근 호출의 실패율/느린 호출 비율이 기준을 넘으면 일정 시간 호출하지 않고 즉시 실패합니다.
+ *   실패로 보는 예외는 5xx, 429, 네트워크 오류, 타임아웃이며, 그 외 4xx는 요청 문제이므로 제외합니다.
+ * - Bulkhead: 동시 호출 수를 넘는 요청은 기다리지 않고 즉시 실패합니다.
+ *
+ * 즉시 실패한 호출은 CallNotPermittedException 또는 BulkheadFullException으로 전달되며,
+ * 호출 측의 기존 대체 처리(기본 감정 결과, 안내 문구, 기본 표지 이미지)를 그대로 사용합니다.
+ *
+ * 메트릭: resilience4j.circuitbreaker.state{name}, resilience4j.bulkhead.available.concurrent.calls{name} 등
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExternalApiGuard {
+
+    private static final Map<String, Integer> DEFAULT_MAX_CONCURRENT_CALLS = Map.of(
+            WebClientConfig.OPENAI, 16,
+            WebClientConfig.GEMINI, 8,
+            WebClientConfig.NAVER, 4);
+
+    private static final Map<String, Duration> DEFAULT_SLOW_CALL_DURATION = Map.of(
+            WebClientConfig.OPENAI, Duration.ofSeconds(20),
+            WebClientConfig.GEMINI, Duration.ofSeconds(15),
+            WebClientConfig.NAVER, Duration.ofSeconds(3));
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Value("${resilience.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${resilience.circuit-breaker.slow-call-rate-threshold:80}")
+    private float slowCallRateThreshold;
+
+    @Value("${resilience.circuit-breaker.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${resilience.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${resilience.circuit-breaker.wait-in-open-state:30s}")
+    private Duration waitInOpenState;
+
+    @Value("${resilience.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private BulkheadRegistry bulkheadRegistry;
+
+    @PostConstruct
+    void init() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+        for (String provider : DEFAULT_MAX_CONCURRENT_CALLS.keySet()) {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(provider, CircuitBreakerConfig.custom()
+                    .failureRateThreshold(failureRateThreshold)
+                    .slowCallRateThreshold(slowCallRateThreshold)
+                    .slowCallDurationThreshold(environment.getProperty(
+                            "resilience." + provider + ".slow-call-duration", Duration.class, DEFAULT_SLOW_CALL_DURATION.get(provider)))
+                    .slidingWindowSize(slidingWindowSize)
+                    .minimumNumberOfCalls(minimumCalls)
+                    .waitDurationInOpenState(waitInOpenState)
+                    .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                    .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                    .recordException(ExternalApiGuard::isProviderFailure)
+                    .build());
+            circuitBreaker.getEventPublisher().onStateTransition(event ->
+                    log.warn("외부 API 서킷 브레이커 상태 변경 - {}: {}", provider, event.getStateTransition()));
+
+            bulkheadRegistry.bulkhead(provider, BulkheadConfig.custom()
+                    .maxConcurrentCalls(environment.getProperty(
+                            "resilience." + provider + ".max-concurrent-calls", Integer.class, DEFAULT_MAX_CONCURRENT_CALLS.get(provider)))
+                    .maxWaitDuration(Duration.ZERO)
+                    .build());
+        }
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    /**
+     * 제공자의 서킷 브레이커와 동시 호출 제한을 적용하는 연산자
+     *
+     * 사용 예: webClient.post()...bodyToMono(String.class).transformDeferred(guard.protect(WebClientConfig.OPENAI))
+     *
+     * @param provider 제공자 이름 (WebClientConfig.OPENAI, GEMINI, NAVER)
+     * @return Mono에 적용할 연산자
+     */
+    public <T> Function<Mono<T>, Mono<T>> protect(String provider) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(provider);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(provider);
+        // 동시 호출 제한에 걸린 요청은 서킷 브레이커의 실패율에 포함하지 않음
+        return mono -> mono
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+
+    /**
+     * 서킷 브레이커, 동시 호출 제한 또는 요청량 제한(LlmRateLimiter)으로 호출하지 않고 즉시 실패했는지 여부
+     */
+    public static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException
+                || e instanceof BulkheadFullException
+                || e instanceof LlmRateLimiter.RateLimitedException;
+    }
+
+    /**
+     * 제공자 장애로 볼 예외인지 여부 (요청 자체의 문제인 4xx는 제외)
+     */
+    static boolean isProviderFailure(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError()
+                    || responseException.getStatusCode().value() == 429;
+        }
+        return e instanceof WebClientRequestException
+                || e instanceof TimeoutException
+                || e instanceof IOException;
+    }
+}
@@ -0,0 +1,278 @@
+package com.moodiary.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Vision 분석용 이미지 전처리기
+ *
+ * 감정/표정 분석에는 원본 해상도가 필요하지 않으므로, OpenAI Vision API로 보내기 전에
+ * 순수 JDK ImageIO만으로 이미지를 줄이고 다시 인코딩합니다.
+ *
+ * 처리 내용:
+ * - 긴 변이 openai.vision.max-edge 를 넘으면 비율을 유지하며 축소
+ * - JPEG의 EXIF Orientation 값에 따라 회전/반전 (메타데이터를 지우면 방향 정보도 사라지므로 먼저 적용)
+ * - 픽셀만 새 이미지로 옮겨 EXIF 등 메타데이터 제거 (투명 영역은 흰색으로 채움)
+ * - 고정 품질(openai.vision.jpeg-quality)의 JPEG로 재인코딩
+ * - 결과물은 원본 옆에 "{원본 파일명}.vision-{max-edge}.jpg" 로 저장하여 재사용
+ *
+ * 이미지를 읽을 수 없거나 변환에 실패하면 원본 경로를 그대로 반환합니다.
+ */
+@Slf4j
+@Component
+public class ImagePreprocessor {
+
+    @Value("${openai.vision.preprocess-enabled:true}")
+    private boolean enabled;
+
+    @Value("${openai.vision.max-edge:1024}")
+    private int maxEdge;
+
+    @Value("${openai.vision.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int ORIENTATION_NORMAL = 1;
+
+    /**
+     * Vision 분석용 이미지 경로 반환 (필요 시 축소/재인코딩된 파생 이미지 생성)
+     *
+     * 파일 I/O와 이미지 변환을 수행하는 블로킹 메서드입니다.
+     *
+     * @param original 업로드된 원본 이미지 경로
+     * @return Vision API에 보낼 이미지 경로
+     */
+    public Path prepareForVision(Path original) {
+        if (!enabled || !Files.isReadable(original)) {
+            return original;
+        }
+
+        Path derivative = derivativePath(original);
+        try {
+            if (Files.exists(derivative)
+                    && !Files.getLastModifiedTime(derivative).toInstant()
+                        .isBefore(Files.getLastModifiedTime(original).toInstant())) {
+                return derivative;
+            }
+
+            SourceImage source = read(original);
+            if (source == null) {
+                log.warn("Vision 전처리를 지원하지 않는 이미지 형식입니다: {}", original.getFileName());
+                return original;
+            }
+
+            BufferedImage resized = resize(source.image(), source.orientation());
+            writeJpegAtomically(resized, derivative);
+
+            log.info("Vision 분석용 이미지 생성 - {}x{} → {}x{}, {} bytes → {} bytes",
+                    source.image().getWidth(), source.image().getHeight(), resized.getWidth(), resized.getHeight(),
+                    Files.size(original), Files.size(derivative));
+            return derivative;
+        } catch (Exception e) {
+            log.warn("Vision 분석용 이미지 생성 실패, 원본을 사용합니다: {}", e.getMessage());
+            return original;
+        }
+    }
+
+    private Path derivativePath(Path original) {
+        return original.resolveSibling(original.getFileName() + ".vision-" + maxEdge + ".jpg");
+    }
+
+    /**
+     * 원본 이미지와 EXIF Orientation 값
+     */
+    private record SourceImage(BufferedImage image, int orientation) {
+    }
+
+    /**
+     * 이미지 픽셀과 방향 정보를 함께 읽기
+     *
+     * ImageIO.read는 메타데이터를 버리므로 ImageReader로 직접 읽어 JPEG 메타데이터에서 방향을 확인합니다.
+     *
+     * @return 읽을 수 있는 리더가 없으면 null
+     */
+    private SourceImage read(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, false, false);
+                int orientation = readOrientation(reader);
+                return new SourceImage(reader.read(0), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트에서 Orientation(0x0112) 값 읽기
+     *
+     * 메타데이터가 없거나 해석할 수 없으면 회전하지 않도록 1(정방향)을 반환합니다.
+     */
+    private int readOrientation(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+                return ORIENTATION_NORMAL;
+            }
+            IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT);
+            NodeList segments = root.getElementsByTagName("unknown");
+            for (int i = 0; i < segments.getLength(); i++) {
+                IIOMetadataNode segment = (IIOMetadataNode) segments.item(i);
+                if (Integer.parseInt(segment.getAttribute("MarkerTag")) == APP1_MARKER
+                        && segment.getUserObject() instanceof byte[] data) {
+                    int orientation = parseExifOrientation(data);
+                    if (orientation != ORIENTATION_NORMAL) {
+                        return orientation;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.debug("EXIF 방향 정보를 읽지 못했습니다: {}", e.getMessage());
+        }
+        return ORIENTATION_NORMAL;
+    }
+
+    /**
+     * "Exif\0\0" + TIFF 헤더 + IFD0 구조에서 Orientation 태그 값 추출
+     */
+    private static int parseExifOrientation(byte[] app1) {
+        byte[] header = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+        if (app1.length < header.length + 8 || !Arrays.equals(Arrays.copyOf(app1, header.length), header)) {
+            return ORIENTATION_NORMAL;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(app1, header.length, app1.length - header.length).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return ORIENTATION_NORMAL;
+        }
+
+        int ifd = tiff.getInt(4);
+        if (ifd < 8 || ifd + 2 > tiff.limit()) {
+            return ORIENTATION_NORMAL;
+        }
+        int entries = Short.toUnsignedInt(tiff.getShort(ifd));
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                return orientation >= 1 && orientation <= 8 ? orientation : ORIENTATION_NORMAL;
+            }
+        }
+        return ORIENTATION_NORMAL;
+    }
+
+    /**
+     * 긴 변을 maxEdge 이하로 줄이고 EXIF 방향대로 세운 RGB 이미지 생성
+     *
+     * 크기가 충분히 작아도 RGB로 다시 그려 알파 채널과 메타데이터를 제거합니다.
+     * Orientation 5~8은 90도 회전이 포함되어 결과 이미지의 가로/세로가 바뀝니다.
+     */
+    private BufferedImage resize(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int scaledWidth = Math.max(1, (int) Math.round(width * scale));
+        int scaledHeight = Math.max(1, (int) Math.round(height * scale));
+        boolean transposed = orientation >= 5;
+        int targetWidth = transposed ? scaledHeight : scaledWidth;
+        int targetHeight = transposed ? scaledWidth : scaledHeight;
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.transform(orientationTransform(orientation, scaledWidth, scaledHeight));
+            graphics.drawImage(source, 0, 0, scaledWidth, scaledHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 축소된 원본 좌표를 EXIF 방향이 적용된 결과 좌표로 옮기는 변환
+     *
+     * @param width 축소된 원본 너비
+     * @param height 축소된 원본 높이
+     */
+    private AffineTransform orientationTransform(int orientation, int width, int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);      // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height); // 180도 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);     // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);           // 좌상-우하 대각선 기준 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);     // 시계 방향 90도 회전
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width); // 우상-좌하 대각선 기준 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);      // 반시계 방향 90도 회전
+            default -> new AffineTransform();
+        };
+    }
+
+    /**
+     * 임시 파일에 JPEG로 기록한 뒤 원자적으로 이동 (동시 요청 시 반쯤 쓰인 파일 노출 방지)
+     */
+    private void writeJpegAtomically(BufferedImage image, Path target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("JPEG ImageWriter를 찾을 수 없습니다.");
+        }
+        ImageWriter writer = writers.next();
+
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+}
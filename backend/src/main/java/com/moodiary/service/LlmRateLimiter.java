@@ -0,0 +1,324 @@
+package com.moodiary.service;
+
+import com.moodiary.config.WebClientConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * LLM 제공자(OpenAI, Gemini) 요청량 제한기
+ *
+ * 제공자의 분당 요청 수(RPM)와 분당 토큰 수(TPM) 한도를 넘지 않도록 호출 전에 토큰 버킷에서 사용량을 예약합니다.
+ *
+ * - 예약할 토큰 수는 프롬프트 길이로 추정한 입력 토큰과 최대 출력 토큰의 합입니다. (estimateTokens)
+ * - 버킷이 부족하면 채워질 때까지 대기열에서 기다리며, 대기 시간이 max-wait을 넘거나
+ *   대기열이 max-queue만큼 차 있으면 기다리지 않고 RateLimitedException으로 즉시 실패합니다.
+ * - 429와 5xx 응답은 지터를 더한 지수 백오프로 다시 시도합니다. Retry-After 헤더가 있으면 그 시간만큼 기다리고,
+ *   429인 경우 같은 제공자의 다른 요청도 그 시간 동안 대기시킵니다.
+ *
+ * ExternalApiGuard(서킷 브레이커, 동시 호출 제한)의 바깥에 적용하여, 재시도할 때마다 요청량을 다시 예약합니다.
+ *
+ * 메트릭:
+ * - moodiary.llm.rate-limiter.queue{provider}: 대기 중인 요청 수
+ * - moodiary.llm.rate-limiter.rejected{provider}: 대기하지 않고 거절한 요청 수
+ * - moodiary.llm.rate-limiter.retry{provider}: 재시도 횟수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmRateLimiter {
+
+    private static final String METRIC_PREFIX = "moodiary.llm.rate-limiter";
+
+    private static final Map<String, Integer> DEFAULT_REQUESTS_PER_MINUTE = Map.of(
+            WebClientConfig.OPENAI, 500,
+            WebClientConfig.GEMINI, 60);
+
+    private static final Map<String, Integer> DEFAULT_TOKENS_PER_MINUTE = Map.of(
+            WebClientConfig.OPENAI, 200_000,
+            WebClientConfig.GEMINI, 250_000);
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Value("${llm.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${llm.rate-limit.max-wait:10s}")
+    private Duration maxWait;
+
+    @Value("${llm.rate-limit.max-queue:100}")
+    private int maxQueue;
+
+    @Value("${llm.rate-limit.retry.max-attempts:3}")
+    private int maxRetryAttempts;
+
+    @Value("${llm.rate-limit.retry.min-backoff:500ms}")
+    private Duration minBackoff;
+
+    @Value("${llm.rate-limit.retry.max-backoff:8s}")
+    private Duration maxBackoff;
+
+    @Value("${llm.rate-limit.retry.max-retry-after:30s}")
+    private Duration maxRetryAfter;
+
+    private final Map<String, ProviderLimit> limits = new HashMap<>();
+
+    /**
+     * 대기 시간이나 대기열 한도를 넘어 호출하지 않고 거절한 경우
+     */
+    public static class RateLimitedException extends RuntimeException {
+        public RateLimitedException(String message) {
+            super(message);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        for (String provider : DEFAULT_REQUESTS_PER_MINUTE.keySet()) {
+            int requestsPerMinute = environment.getProperty(
+                    "llm.rate-limit." + provider + ".requests-per-minute", Integer.class, DEFAULT_REQUESTS_PER_MINUTE.get(provider));
+            int tokensPerMinute = environment.getProperty(
+                    "llm.rate-limit." + provider + ".tokens-per-minute", Integer.class, DEFAULT_TOKENS_PER_MINUTE.get(provider));
+            ProviderLimit limit = new ProviderLimit(provider, requestsPerMinute, tokensPerMinute);
+            limits.put(provider, limit);
+
+            Gauge.builder(METRIC_PREFIX + ".queue", limit.waiting, AtomicInteger::get)
+                    .tag("provider", provider)
+                    .description("요청량 제한으로 대기 중인 LLM 요청 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 프롬프트의 예상 토큰 수
+     *
+     * 한글은 대략 글자당 1토큰, 영문은 4글자당 1토큰이므로 UTF-8 바이트 수의 1/3로 어림합니다.
+     * (한글 1글자 = 3바이트) 실제보다 약간 크게 잡아 한도를 넘지 않도록 합니다.
+     *
+     * @param prompt 프롬프트
+     * @param maxOutputTokens 최대 출력 토큰 수
+     * @return 예상 토큰 수 (입력 + 출력)
+     */
+    public static int estimateTokens(String prompt, int maxOutputTokens) {
+        int promptBytes = prompt != null ? prompt.getBytes(StandardCharsets.UTF_8).length : 0;
+        return (promptBytes + 2) / 3 + Math.max(0, maxOutputTokens);
+    }
+
+    /**
+     * 요청량 예약, 대기열 대기, 429/5xx 재시도를 적용하는 연산자
+     *
+     * 사용 예: webClient.post()...bodyToMono(String.class)
+     *             .transformDeferred(guard.protect(OPENAI))
+     *             .transformDeferred(rateLimiter.limit(OPENAI, estimateTokens(prompt, 1000)))
+     *
+     * @param provider 제공자 이름 (WebClientConfig.OPENAI, GEMINI)
+     * @param estimatedTokens 예상 토큰 수
+     * @return Mono에 적용할 연산자
+     */
+    public <T> Function<Mono<T>, Mono<T>> limit(String provider, int estimatedTokens) {
+        ProviderLimit limit = limits.get(provider);
+        if (!enabled || limit == null) {
+            return mono -> mono;
+        }
+        return mono -> Mono.defer(() -> acquire(limit, estimatedTokens))
+                .then(mono)
+                .retryWhen(retrySpec(limit));
+    }
+
+    private Mono<Void> acquire(ProviderLimit limit, int estimatedTokens) {
+        if (limit.waiting.get() >= maxQueue) {
+            limit.rejected.increment();
+            return Mono.error(new RateLimitedException(limit.provider + " 요청 대기열이 가득 찼습니다."));
+        }
+
+        long waitNanos = limit.reserve(estimatedTokens, maxWait.toNanos());
+        if (waitNanos < 0) {
+            limit.rejected.increment();
+            return Mono.error(new RateLimitedException(limit.provider + " 요청량 한도로 " + maxWait + " 안에 호출할 수 없습니다."));
+        }
+        if (waitNanos == 0) {
+            return Mono.empty();
+        }
+
+        limit.waiting.incrementAndGet();
+        return Mono.delay(Duration.ofNanos(waitNanos))
+                .doFinally(signal -> limit.waiting.decrementAndGet())
+                .then();
+    }
+
+    private Retry retrySpec(ProviderLimit limit) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            long attempt = signal.totalRetries() + 1;
+            if (attempt > maxRetryAttempts || !isRetryable(failure)) {
+                return Mono.error(failure);
+            }
+
+            Duration retryAfter = retryAfter(failure);
+            if (retryAfter != null && retryAfter.compareTo(maxRetryAfter) > 0) {
+                log.warn("{} Retry-After({})가 허용 범위를 넘어 재시도하지 않습니다.", limit.provider, retryAfter);
+                return Mono.error(failure);
+            }
+
+            Duration delay = retryAfter != null ? retryAfter : backoff(attempt);
+            if (retryAfter != null && is429(failure)) {
+                // 다른 요청도 한도가 풀릴 때까지 기다리도록 함
+                limit.pause(retryAfter.toNanos());
+            }
+            limit.retries.increment();
+            log.warn("{} 호출 재시도 {}/{} - {} 후 ({})", limit.provider, attempt, maxRetryAttempts, delay, failure.getMessage());
+            return Mono.delay(delay);
+        }));
+    }
+
+    /**
+     * 지터를 더한 지수 백오프 (min-backoff × 2^(시도-1), 최대 max-backoff, ±50%)
+     */
+    private Duration backoff(long attempt) {
+        long base = Math.min(maxBackoff.toMillis(), minBackoff.toMillis() << Math.min(attempt - 1, 20));
+        long jittered = (long) (base * (0.5 + ThreadLocalRandom.current().nextDouble()));
+        return Duration.ofMillis(Math.min(maxBackoff.toMillis(), Math.max(1, jittered)));
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        return e instanceof WebClientResponseException responseException
+                && (responseException.getStatusCode().is5xxServerError() || responseException.getStatusCode().value() == 429);
+    }
+
+    private static boolean is429(Throwable e) {
+        return e instanceof WebClientResponseException responseException && responseException.getStatusCode().value() == 429;
+    }
+
+    /**
+     * Retry-After 헤더 (초 또는 HTTP 날짜) 해석, OpenAI의 retry-after-ms도 지원
+     */
+    private static Duration retryAfter(Throwable e) {
+        if (!(e instanceof WebClientResponseException responseException)) {
+            return null;
+        }
+        HttpHeaders headers = responseException.getHeaders();
+        try {
+            String millis = headers.getFirst("retry-after-ms");
+            if (millis != null) {
+                return Duration.ofMillis((long) Double.parseDouble(millis.trim()));
+            }
+            String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            if (value.trim().chars().allMatch(Character::isDigit)) {
+                return Duration.ofSeconds(Long.parseLong(value.trim()));
+            }
+            Duration until = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return until.isNegative() ? Duration.ZERO : until;
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 제공자별 요청 수/토큰 수 버킷
+     *
+     * 사용량을 먼저 차감(음수 허용)하고 부족분이 채워질 때까지의 시간을 대기 시간으로 돌려주므로,
+     * 대기 중인 요청들은 예약한 순서대로 호출됩니다.
+     */
+    private final class ProviderLimit {
+
+        private final String provider;
+        private final double requestCapacity;
+        private final double tokenCapacity;
+        private final double requestsPerNano;
+        private final double tokensPerNano;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Counter rejected;
+        private final Counter retries;
+
+        private double availableRequests;
+        private double availableTokens;
+        private long lastRefill = System.nanoTime();
+        private long pausedUntil = lastRefill;
+
+        ProviderLimit(String provider, int requestsPerMinute, int tokensPerMinute) {
+            this.provider = provider;
+            // 한도가 0 이하이면 해당 항목은 제한하지 않음
+            this.requestCapacity = requestsPerMinute > 0 ? requestsPerMinute : Double.MAX_VALUE;
+            this.tokenCapacity = tokensPerMinute > 0 ? tokensPerMinute : Double.MAX_VALUE;
+            this.requestsPerNano = requestsPerMinute > 0 ? requestsPerMinute / 60_000_000_000.0 : 0;
+            this.tokensPerNano = tokensPerMinute > 0 ? tokensPerMinute / 60_000_000_000.0 : 0;
+            this.availableRequests = requestCapacity;
+            this.availableTokens = tokenCapacity;
+            this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                    .tag("provider", provider)
+                    .description("요청량 제한으로 거절한 LLM 요청 수")
+                    .register(meterRegistry);
+            this.retries = Counter.builder(METRIC_PREFIX + ".retry")
+                    .tag("provider", provider)
+                    .description("429/5xx 응답으로 재시도한 LLM 요청 수")
+                    .register(meterRegistry);
+        }
+
+        /**
+         * 요청 1건과 토큰 사용량 예약
+         *
+         * @return 호출 전 기다려야 할 시간(ns), 최대 대기 시간을 넘으면 -1 (예약하지 않음)
+         */
+        synchronized long reserve(int tokens, long maxWaitNanos) {
+            long now = System.nanoTime();
+            refill(now);
+
+            double tokenAmount = Math.min(tokens, tokenCapacity);
+            long wait = Math.max(0, pausedUntil - now);
+            wait = Math.max(wait, deficitNanos(availableRequests - 1, requestsPerNano));
+            wait = Math.max(wait, deficitNanos(availableTokens - tokenAmount, tokensPerNano));
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+
+            availableRequests -= 1;
+            availableTokens -= tokenAmount;
+            return wait;
+        }
+
+        synchronized void pause(long nanos) {
+            pausedUntil = Math.max(pausedUntil, System.nanoTime() + nanos);
+        }
+
+        private void refill(long now) {
+            long elapsed = now - lastRefill;
+            lastRefill = now;
+            if (requestsPerNano > 0) {
+                availableRequests = Math.min(requestCapacity, availableRequests + elapsed * requestsPerNano);
+            }
+            if (tokensPerNano > 0) {
+                availableTokens = Math.min(tokenCapacity, availableTokens + elapsed * tokensPerNano);
+            }
+        }
+
+        private static long deficitNanos(double remaining, double perNano) {
+            return remaining >= 0 || perNano <= 0 ? 0 : (long) Math.ceil(-remaining / perNano);
+        }
+    }
+}
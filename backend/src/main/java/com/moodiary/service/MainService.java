@@ -3,13 +3,13 @@ package com.moodiary.service;
 import com.moodiary.dto.DiaryDto;
 import com.moodiary.dto.DiaryDto.DiaryResponse;
 import com.moodiary.dto.UserDto;
-import com.moodiary.entity.DiaryEntry;
 import com.moodiary.entity.EmotionType;
 import com.moodiary.entity.User;
 import com.moodiary.entity.UserUserDetails;
 import com.moodiary.repository.DiaryRepository;
 import com.moodiary.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -57,10 +57,10 @@ public class MainService {
         LocalDateTime start = today.atStartOfDay();           // 2025-10-06 00:00:00
         LocalDateTime end = today.atTime(LocalTime.MAX);      // 2025-10-06 23:59:59.999999
 
-        // 오늘 작성된 일기들을 생성일자 기준 내림차순으로 가져오기
-        List<DiaryEntry> diaries = diaryRepository.findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(userId, start, end);
+        // 오늘 작성된 일기 중 가장 최신 일기 하나만 미리보기 항목으로 가져오기
+        List<DiaryRepository.DiarySummary> diaries = diaryRepository.findSummariesByUserIdAndCreatedAtBetween(
+                userId, start, end, PageRequest.of(0, 1));
 
-        // 가장 최신 일기 하나만 가져와서 DiaryResponse로 변환
         return diaries.isEmpty() ? null : toDiaryResponse(diaries.get(0));
     }
 
@@ -70,7 +70,7 @@ public class MainService {
      */
     public List<DiaryResponse> getRecentDiaries() {
         Long userId = getCurrentUserId();
-        List<DiaryEntry> diaries = diaryRepository.findTop5ByUserIdOrderByCreatedAtDesc(userId);
+        List<DiaryRepository.DiarySummary> diaries = diaryRepository.findSummariesByUserId(userId, PageRequest.of(0, 5));
 
         return diaries.stream()
                 .map(this::toDiaryResponse)
@@ -78,30 +78,28 @@ public class MainService {
     }
 
     /**
-     * DiaryEntry → DiaryResponse 변환 공통 메서드
+     * 일기 목록 항목 → DiaryResponse 변환 공통 메서드
+     *
+     * 본문은 DB에서 잘라 온 미리보기(DiaryRepository.PREVIEW_LENGTH 글자)만 사용합니다.
      */
-    private DiaryResponse toDiaryResponse(DiaryEntry diaryEntry) {
-        String content = diaryEntry.getContent();
-        if (content == null) {
-            content = "";
-        }
-        
-        String summaryTitle = content.length() > 30
-                ? content.substring(0, 30) + "..."
-                : content;
-
-        EmotionType emotion = diaryEntry.getIntegratedEmotion();
-        
-        Long userId = null;
-        if (diaryEntry.getUser() != null) {
-            userId = diaryEntry.getUser().getId();
+    private DiaryResponse toDiaryResponse(DiaryRepository.DiarySummary diary) {
+        String preview = diary.getPreview();
+        if (preview == null) {
+            preview = "";
         }
 
+        Integer contentLength = diary.getContentLength();
+        String summaryTitle = contentLength != null && contentLength > DiaryRepository.PREVIEW_LENGTH
+                ? preview + "..."
+                : preview;
+
+        EmotionType emotion = diary.getIntegratedEmotion();
+
         return DiaryResponse.builder()
-                .id(diaryEntry.getId())
-                .userId(userId)
+                .id(diary.getId())
+                .userId(diary.getUserId())
                 .content(summaryTitle)
-                .imageUrl(diaryEntry.getImageUrl())
+                .imageUrl(diary.getImageUrl())
                 .emotionAnalysis(
                         DiaryDto.EmotionAnalysisResponse.builder()
                                 .integratedEmotion(
@@ -111,8 +109,8 @@ public class MainService {
                                 )
                                 .build()
                 )
-                .createdAt(diaryEntry.getCreatedAt())
-                .updatedAt(diaryEntry.getUpdatedAt())
+                .createdAt(diary.getCreatedAt())
+                .updatedAt(diary.getUpdatedAt())
                 .build();
     }
 
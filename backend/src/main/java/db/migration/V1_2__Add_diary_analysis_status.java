@@ -0,0 +1,43 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 일기 감정 분석 진행 상태 컬럼 추가
+ *
+ * 비동기 분석 모드에서 PENDING → DONE/FAILED 로 전이되며, 기존 일기는 동기 분석 완료 상태로 간주합니다.
+ *
+ * ddl-auto로 만들어진 기존 데이터베이스(baseline 1.1)에는 컬럼이 이미 있을 수 있으므로 없을 때만 추가합니다.
+ * MySQL은 ADD COLUMN IF NOT EXISTS를 지원하지 않아 SQL 대신 Java 마이그레이션으로 작성했습니다.
+ */
+public class V1_2__Add_diary_analysis_status extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            if (!hasColumn(connection, "diary_entries", "analysis_status")) {
+                statement.execute("ALTER TABLE diary_entries ADD COLUMN analysis_status VARCHAR(20)");
+            }
+            statement.executeUpdate("UPDATE diary_entries SET analysis_status = 'DONE' WHERE analysis_status IS NULL");
+        }
+    }
+
+    private boolean hasColumn(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        if (metaData.storesUpperCaseIdentifiers()) {
+            table = table.toUpperCase();
+            column = column.toUpperCase();
+        }
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(), table, column)) {
+            return columns.next();
+        }
+    }
+}
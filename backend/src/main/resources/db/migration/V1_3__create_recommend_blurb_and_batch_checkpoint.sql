@@ -0,0 +1,25 @@
+-- 추천 컨텐츠 소개 문구 저장 테이블
+-- 워밍업 배치와 요청 시 생성된 Gemini 소개 문구를 (컨텐츠, 감정, 프롬프트 버전)별로 보관
+
+CREATE TABLE IF NOT EXISTS recommend_blurb (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    blurb_key VARCHAR(200) NOT NULL,
+    content_type VARCHAR(20) NOT NULL,
+    emotion VARCHAR(20) NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    creator VARCHAR(255),
+    prompt_version VARCHAR(20) NOT NULL,
+    content TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_recommend_blurb_key UNIQUE (blurb_key)
+);
+
+-- 배치 작업 체크포인트 테이블
+
+CREATE TABLE IF NOT EXISTS batch_checkpoint (
+    job_name VARCHAR(100) NOT NULL,
+    cursor_value VARCHAR(255),
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (job_name)
+);
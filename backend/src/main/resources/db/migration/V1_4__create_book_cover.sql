@@ -0,0 +1,10 @@
+-- 네이버 도서 검색 표지 이미지 캐시 테이블
+-- image_url이 NULL이면 검색 결과가 없었던 제목 (fetched_at 기준으로 일정 기간 재검색하지 않음)
+
+CREATE TABLE IF NOT EXISTS book_cover (
+    title_key CHAR(64) NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    image_url VARCHAR(1000),
+    fetched_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (title_key)
+);
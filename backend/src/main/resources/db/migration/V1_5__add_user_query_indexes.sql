@@ -0,0 +1,16 @@
+-- 사용자별 조회용 복합 인덱스
+-- 사용자 ID로 거른 뒤 작성 시각 범위/정렬로 조회하는 쿼리가 테이블 전체를 읽지 않도록 함
+-- (user_id로 시작하는 인덱스가 외래 키 인덱스 역할도 함께 수행)
+
+-- 최근 일기, 기간별 일기, 감정 추이/통계 (findByUserIdAndCreatedAtBetween..., findTop5ByUserIdOrderByCreatedAtDesc 등)
+CREATE INDEX idx_diary_entries_user_created ON diary_entries (user_id, created_at DESC);
+
+-- 감정별 일기 조회 (findByUserIdAndIntegratedEmotion)
+CREATE INDEX idx_diary_entries_user_emotion_created ON diary_entries (user_id, integrated_emotion, created_at);
+
+-- 유형별 오늘의 추천 컨텐츠 조회 (findByUserIdAndContentTypeAndCreateAtBetween)
+CREATE INDEX idx_recommend_content_user_type_created ON recommend_content (user_id, content_type, create_at);
+
+-- 사용자별 북마크 목록과 일기 북마크 여부 조회
+CREATE INDEX idx_bookmark_user_created ON bookmark (`user`, created_at);
+CREATE INDEX idx_bookmark_user_diary ON bookmark (`user`, diary);
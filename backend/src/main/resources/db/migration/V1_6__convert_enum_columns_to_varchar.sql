@@ -0,0 +1,23 @@
+-- Enum 컬럼을 VARCHAR(20)으로 통일
+-- Hibernate 6는 MySQL에서 @Enumerated(STRING) 필드를 네이티브 ENUM 타입으로 만들기 때문에,
+-- ddl-auto로 만든 기존 데이터베이스에는 ENUM 컬럼이 남아 있어 ddl-auto=validate를 통과하지 못함
+-- (엔티티는 @JdbcTypeCode(SqlTypes.VARCHAR)로 V1 스키마와 같은 VARCHAR를 사용)
+-- 이미 VARCHAR(20)인 새 데이터베이스에서는 변경 사항이 없음
+
+ALTER TABLE users MODIFY COLUMN social_type VARCHAR(20);
+ALTER TABLE users MODIFY COLUMN role VARCHAR(20);
+
+ALTER TABLE diary_entries MODIFY COLUMN text_emotion VARCHAR(20);
+ALTER TABLE diary_entries MODIFY COLUMN facial_emotion VARCHAR(20);
+ALTER TABLE diary_entries MODIFY COLUMN integrated_emotion VARCHAR(20);
+ALTER TABLE diary_entries MODIFY COLUMN analysis_status VARCHAR(20);
+
+ALTER TABLE community_posts MODIFY COLUMN emotion_type VARCHAR(20) NOT NULL;
+
+ALTER TABLE recommended_contents MODIFY COLUMN type VARCHAR(20) NOT NULL;
+ALTER TABLE recommended_contents MODIFY COLUMN target_emotion VARCHAR(20) NOT NULL;
+
+ALTER TABLE recommend_content MODIFY COLUMN content_type VARCHAR(20);
+
+ALTER TABLE recommend_blurb MODIFY COLUMN content_type VARCHAR(20) NOT NULL;
+ALTER TABLE recommend_blurb MODIFY COLUMN emotion VARCHAR(20) NOT NULL;
@@ -0,0 +1,101 @@
+-- 초기 스키마
+-- 빈 데이터베이스에서 이후 마이그레이션(V1_1~)을 적용할 수 있도록 엔티티 기준 기본 테이블을 생성
+-- (ddl-auto로 이미 테이블이 만들어진 데이터베이스는 spring.flyway.baseline-version(1.1) 이후부터 적용)
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255),
+    phone_number VARCHAR(255),
+    nickname VARCHAR(255) NOT NULL,
+    profile_image VARCHAR(255),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    provider_id VARCHAR(255),
+    social_type VARCHAR(20),
+    role VARCHAR(20),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS diary_entries (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    content TEXT NOT NULL,
+    image_url VARCHAR(255),
+    text_emotion VARCHAR(20),
+    text_emotion_score DOUBLE,
+    text_emotion_confidence DOUBLE,
+    facial_emotion VARCHAR(20),
+    facial_emotion_score DOUBLE,
+    facial_emotion_confidence DOUBLE,
+    integrated_emotion VARCHAR(20),
+    integrated_emotion_score DOUBLE,
+    integrated_emotion_confidence DOUBLE,
+    keywords TEXT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_diary_entries_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS bookmark (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(255),
+    preview VARCHAR(255) NOT NULL,
+    content TEXT NOT NULL,
+    `user` BIGINT NOT NULL,
+    diary BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_bookmark_user FOREIGN KEY (`user`) REFERENCES users (id),
+    CONSTRAINT fk_bookmark_diary FOREIGN KEY (diary) REFERENCES diary_entries (id)
+);
+
+CREATE TABLE IF NOT EXISTS community_posts (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    content TEXT NOT NULL,
+    emotion_type VARCHAR(20) NOT NULL,
+    is_anonymous BIT NOT NULL,
+    like_count INT,
+    comment_count INT,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_community_posts_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS community_comments (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    post_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    content TEXT NOT NULL,
+    is_anonymous BIT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_community_comments_post FOREIGN KEY (post_id) REFERENCES community_posts (id),
+    CONSTRAINT fk_community_comments_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS recommended_contents (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    type VARCHAR(20) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    content TEXT NOT NULL,
+    content_url VARCHAR(255),
+    target_emotion VARCHAR(20) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS recommend_content (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    image_uri VARCHAR(255),
+    title VARCHAR(255) NOT NULL,
+    content TEXT NOT NULL,
+    create_at DATETIME(6) NOT NULL,
+    user_id BIGINT NOT NULL,
+    content_type VARCHAR(20),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_recommend_content_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
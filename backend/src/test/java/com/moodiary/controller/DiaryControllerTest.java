@@ -0,0 +1,46 @@
+package com.moodiary.controller;
+
+import com.moodiary.service.DiaryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 감정 분석 완료 구독(SSE)은 응답이 ASYNC 디스패치로 끝나므로, JWT로 인증된 구독이
+ * 마지막 디스패치에서 거부되지 않고 전송한 이벤트로 정상 종료되는지 확인합니다.
+ */
+@WebMvcTest(DiaryController.class)
+class DiaryControllerTest extends JwtAuthenticatedControllerTest {
+
+    @MockBean
+    private DiaryService diaryService;
+
+    @Test
+    @DisplayName("인증된 감정 분석 구독은 이벤트 전송 후 ASYNC 디스패치에서 200으로 종료된다")
+    void streamDiaryAnalysis() throws Exception {
+        SseEmitter emitter = new SseEmitter();
+        given(diaryService.subscribeDiaryAnalysis(USER_ID, 7L)).willReturn(emitter);
+
+        MvcResult result = mockMvc.perform(get("/diaries/7/analysis/stream").header("Authorization", bearerToken()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        emitter.send(SseEmitter.event().name("analysis").data("DONE"));
+        emitter.complete();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("event:analysis")));
+    }
+}
@@ -0,0 +1,62 @@
+package com.moodiary.controller;
+
+import com.moodiary.config.SecurityConfig;
+import com.moodiary.entity.User;
+import com.moodiary.repository.UserRepository;
+import com.moodiary.service.GoogleService;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.mockito.BDDMockito.given;
+
+/**
+ * JWT 인증을 거치는 컨트롤러 테스트 공통 설정
+ *
+ * 실제 SecurityConfig를 적용하고, 보안 설정이 요구하는 빈을 목으로 등록합니다.
+ * 하위 클래스는 @WebMvcTest로 대상 컨트롤러를 지정하고 bearerToken()으로 인증된 요청을 보냅니다.
+ */
+@Import(SecurityConfig.class)
+public abstract class JwtAuthenticatedControllerTest {
+
+    protected static final Long USER_ID = 1L;
+    protected static final String EMAIL = "user@moodiary.com";
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @MockBean
+    protected UserRepository userRepository;
+
+    @MockBean
+    private GoogleService googleService;
+
+    @MockBean
+    private ClientRegistrationRepository clientRegistrationRepository;
+
+    @Value("${jwt.secret}")
+    private String secretKey;
+
+    @BeforeEach
+    void setUpAuthenticatedUser() {
+        User user = User.builder().id(USER_ID).email(EMAIL).nickname("무디").build();
+        given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(user));
+    }
+
+    /**
+     * 테스트 사용자의 Authorization 헤더 값
+     */
+    protected String bearerToken() {
+        SecretKeySpec key = new SecretKeySpec(Base64.getDecoder().decode(secretKey), "HmacSHA256");
+        return "Bearer " + Jwts.builder().subject(EMAIL).signWith(key).compact();
+    }
+}
@@ -0,0 +1,157 @@
+package com.moodiary.recommendContent.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moodiary.entity.EmotionType;
+import com.moodiary.recommendContent.entity.ContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecommendCatalogTest {
+
+    private static final String NEUTRAL = """
+            "NEUTRAL": {
+              "BOOK": [{"title": "중립 책", "creator": "작가"}],
+              "MOVIE": [{"title": "중립 영화", "creator": "감독"}],
+              "POEM": [{"title": "중립 시", "creator": "시인"}],
+              "MUSIC": [{"title": "중립 음악", "creator": "가수"}],
+              "WISESAYING": [{"title": "중립 명언", "creator": " "}]
+            }""";
+
+    @TempDir
+    Path dir;
+
+    private Path write(String json) throws Exception {
+        Path file = dir.resolve("catalog.json");
+        Files.writeString(file, json);
+        return file;
+    }
+
+    private static RecommendCatalog catalog(String location) {
+        RecommendCatalog catalog = new RecommendCatalog(new ObjectMapper(), new DefaultResourceLoader(), location);
+        catalog.init();
+        return catalog;
+    }
+
+    @Test
+    @DisplayName("기본 카탈로그 리소스는 검증을 통과한다")
+    void bundledCatalogIsValid() {
+        RecommendCatalog catalog = catalog("classpath:recommend/catalog.json");
+
+        for (EmotionType emotion : EmotionType.values()) {
+            for (ContentType contentType : ContentType.values()) {
+                assertThat(catalog.items(emotion, contentType)).isNotEmpty();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("감정별 목록이 없거나 비어 있으면 중립 목록을 사용하고, 값은 공백을 정리한다")
+    void fallsBackToNeutral() throws Exception {
+        Path file = write("""
+                {"version": 3, "catalog": {
+                  "HAPPY": {"BOOK": [{"title": "  행복한 책 ", "creator": " 작가 "}], "MOVIE": []},
+                  %s
+                }}""".formatted(NEUTRAL));
+
+        RecommendCatalog catalog = catalog(file.toUri().toString());
+
+        assertThat(catalog.version()).isEqualTo(3);
+        assertThat(catalog.items(EmotionType.HAPPY, ContentType.BOOK))
+                .containsExactly(new RecommendCatalog.Item(ContentType.BOOK, "행복한 책", "작가"));
+        assertThat(catalog.recommend(EmotionType.HAPPY, ContentType.MOVIE).title()).isEqualTo("중립 영화");
+        assertThat(catalog.recommend(EmotionType.SAD, ContentType.POEM).title()).isEqualTo("중립 시");
+        assertThat(catalog.recommend(null, ContentType.WISESAYING))
+                .isEqualTo(new RecommendCatalog.Item(ContentType.WISESAYING, "중립 명언", null));
+        assertThat(catalog.candidates(EmotionType.HAPPY, ContentType.BOOK).revision()).startsWith("3-");
+    }
+
+    @Test
+    @DisplayName("중립 목록에 비어 있는 컨텐츠 종류가 있으면 기동을 중단한다")
+    void rejectsIncompleteNeutral() throws Exception {
+        Path file = write("""
+                {"version": 1, "catalog": {"NEUTRAL": {"BOOK": [{"title": "책"}]}}}""");
+
+        assertThatThrownBy(() -> catalog(file.toUri().toString()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("중립(NEUTRAL) 목록에 MOVIE 항목이 없습니다.");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 감정이나 제목이 빈 항목이 있으면 거부한다")
+    void rejectsInvalidEntries() throws Exception {
+        Path unknownEmotion = write("""
+                {"version": 1, "catalog": {"JOYFUL": {}, %s}}""".formatted(NEUTRAL));
+        assertThatThrownBy(() -> catalog(unknownEmotion.toUri().toString()))
+                .hasRootCauseMessage("알 수 없는 감정: JOYFUL");
+
+        Path blankTitle = write("""
+                {"version": 1, "catalog": {"SAD": {"MUSIC": [{"title": " "}]}, %s}}""".formatted(NEUTRAL));
+        assertThatThrownBy(() -> catalog(blankTitle.toUri().toString()))
+                .hasRootCauseMessage("제목이 비어 있는 항목이 있습니다: SAD/MUSIC[0]");
+    }
+
+    @Test
+    @DisplayName("파일이 바뀌면 다시 읽어 교체하고, 검증에 실패하면 기존 카탈로그를 유지한다")
+    void reloadsChangedFile() throws Exception {
+        Path file = write("""
+                {"version": 1, "catalog": {%s}}""".formatted(NEUTRAL));
+        RecommendCatalog catalog = catalog(file.toUri().toString());
+
+        // 수정 시각이 같으면 내용이 바뀌어도 다시 읽지 않음
+        FileTime initial = Files.getLastModifiedTime(file);
+        write("""
+                {"version": 2, "catalog": {"SAD": {"BOOK": [{"title": "슬픈 책"}]}, %s}}""".formatted(NEUTRAL));
+        Files.setLastModifiedTime(file, initial);
+        catalog.reloadIfChanged();
+        assertThat(catalog.version()).isEqualTo(1);
+
+        Files.setLastModifiedTime(file, FileTime.from(initial.toInstant().plusSeconds(10)));
+        catalog.reloadIfChanged();
+        assertThat(catalog.version()).isEqualTo(2);
+        assertThat(catalog.recommend(EmotionType.SAD, ContentType.BOOK).title()).isEqualTo("슬픈 책");
+
+        write("""
+                {"version": 3, "catalog": {"NEUTRAL": {}}}""");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        catalog.reloadIfChanged();
+        assertThat(catalog.version()).isEqualTo(2);
+        assertThat(catalog.recommend(EmotionType.SAD, ContentType.BOOK).title()).isEqualTo("슬픈 책");
+    }
+
+    @Test
+    @DisplayName("version이 같아도 항목 구성이 바뀌면 리비전이 달라지고, 공백만 바뀌면 리비전이 유지된다")
+    void revisionFollowsContent() throws Exception {
+        Path file = write("""
+                {"version": 1, "catalog": {"SAD": {"BOOK": [{"title": "슬픈 책"}]}, %s}}""".formatted(NEUTRAL));
+        RecommendCatalog catalog = catalog(file.toUri().toString());
+        String initial = catalog.revision();
+        assertThat(initial).startsWith("1-");
+        assertThat(catalog.candidates(EmotionType.SAD, ContentType.BOOK).revision()).isEqualTo(initial);
+
+        // 공백 정리 후 같은 항목 구성
+        write("""
+                {"version": 1, "catalog": {"SAD": {"BOOK": [{"title": "  슬픈 책 "}]}, %s}}""".formatted(NEUTRAL));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(10)));
+        catalog.reloadIfChanged();
+        assertThat(catalog.revision()).isEqualTo(initial);
+
+        // version을 올리지 않고 항목 순서를 바꿈
+        write("""
+                {"version": 1, "catalog": {"SAD": {"BOOK": [{"title": "다른 책"}, {"title": "슬픈 책"}]}, %s}}""".formatted(NEUTRAL));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(20)));
+        catalog.reloadIfChanged();
+        assertThat(catalog.version()).isEqualTo(1);
+        assertThat(catalog.revision()).startsWith("1-").isNotEqualTo(initial);
+        assertThat(catalog.candidates(EmotionType.SAD, ContentType.BOOK).revision()).isEqualTo(catalog.revision());
+    }
+}
@@ -0,0 +1,77 @@
+package com.moodiary.recommendContent.component;
+
+import com.moodiary.recommendContent.entity.ContentType;
+import com.moodiary.repository.BookmarkRepository;
+import com.moodiary.repository.DiaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendRankerTest {
+
+    @Mock
+    private DiaryRepository diaryRepository;
+
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
+    @Mock
+    private RecommendCatalog recommendCatalog;
+
+    @InjectMocks
+    private RecommendRanker recommendRanker;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recommendRanker, "enabled", true);
+        ReflectionTestUtils.setField(recommendRanker, "halfLife", Duration.ofDays(14));
+        ReflectionTestUtils.setField(recommendRanker, "lookback", Duration.ofDays(90));
+        ReflectionTestUtils.setField(recommendRanker, "bookmarkWeight", 0.5);
+        ReflectionTestUtils.setField(recommendRanker, "profileMaxSize", 100L);
+        ReflectionTestUtils.setField(recommendRanker, "profileTtl", Duration.ofMinutes(10));
+        recommendRanker.init();
+
+        // 감정 이력이 없는 사용자: 중립 목록이 우선
+        given(diaryRepository.findEmotionSignals(any(), any())).willReturn(List.of());
+    }
+
+    private static RecommendCatalog.Item book(String title) {
+        return new RecommendCatalog.Item(ContentType.BOOK, title, null);
+    }
+
+    @Test
+    @DisplayName("파일 version이 같아도 카탈로그 리비전이 바뀌면 색인을 다시 만든다")
+    void rebuildsIndexWhenRevisionChanges() {
+        given(recommendCatalog.revision()).willReturn("1-aaaaaaaaaaaa");
+        given(recommendCatalog.items(any(), any())).willReturn(List.of(book("이전 책")));
+
+        assertThat(recommendRanker.topK(7L, ContentType.BOOK, 1))
+                .extracting(RecommendRanker.RankedItem::item)
+                .containsExactly(book("이전 책"));
+
+        // 같은 리비전이면 색인을 그대로 사용
+        given(recommendCatalog.items(any(), any())).willReturn(List.of(book("새 책")));
+        assertThat(recommendRanker.topK(7L, ContentType.BOOK, 1))
+                .extracting(RecommendRanker.RankedItem::item)
+                .containsExactly(book("이전 책"));
+
+        // version을 올리지 않고 항목을 편집한 카탈로그로 교체됨
+        given(recommendCatalog.revision()).willReturn("1-bbbbbbbbbbbb");
+        assertThat(recommendRanker.topK(7L, ContentType.BOOK, 1))
+                .extracting(RecommendRanker.RankedItem::item)
+                .containsExactly(book("새 책"));
+    }
+}
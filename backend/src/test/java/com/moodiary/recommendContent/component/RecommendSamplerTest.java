@@ -0,0 +1,133 @@
+package com.moodiary.recommendContent.component;
+
+import com.moodiary.entity.EmotionType;
+import com.moodiary.recommendContent.entity.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendSamplerTest {
+
+    private static final List<RecommendCatalog.Item> ITEMS = List.of(
+            new RecommendCatalog.Item(ContentType.BOOK, "첫 번째 책", null),
+            new RecommendCatalog.Item(ContentType.BOOK, "두 번째 책", null));
+
+    @Mock
+    private RecommendCatalog recommendCatalog;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private RecommendSampler recommendSampler;
+
+    /**
+     * Redis 비트맵 대신 사용하는 기록된 위치 집합
+     */
+    private final Set<Long> seen = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recommendSampler, "enabled", true);
+        ReflectionTestUtils.setField(recommendSampler, "seenTtl", Duration.ofDays(31));
+        given(recommendCatalog.candidates(EmotionType.SAD, ContentType.BOOK))
+                .willReturn(new RecommendCatalog.Candidates("1-abc", ITEMS));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.execute(any(RedisCallback.class))).willAnswer(invocation -> bitmap());
+    }
+
+    private byte[] bitmap() {
+        byte[] bitmap = new byte[1];
+        for (long offset : seen) {
+            bitmap[0] |= (byte) (0x80 >>> offset);
+        }
+        return bitmap;
+    }
+
+    @Test
+    @DisplayName("이미 추천한 항목은 다시 고르지 않는다")
+    void skipsSeenItems() {
+        given(valueOperations.setBit(anyString(), anyLong(), eq(true)))
+                .willAnswer(invocation -> !seen.add(invocation.getArgument(1)));
+
+        RecommendCatalog.Item first = recommendSampler.next(7L, EmotionType.SAD, ContentType.BOOK);
+        RecommendCatalog.Item second = recommendSampler.next(7L, EmotionType.SAD, ContentType.BOOK);
+
+        assertThat(List.of(first, second)).containsExactlyInAnyOrderElementsOf(ITEMS);
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("동시 요청이 같은 항목을 먼저 기록했으면 비트맵을 다시 읽어 다른 항목을 고른다")
+    void retriesWhenSetBitReportsConcurrentPick() {
+        AtomicInteger calls = new AtomicInteger();
+        given(valueOperations.setBit(anyString(), anyLong(), eq(true))).willAnswer(invocation -> {
+            long offset = invocation.getArgument(1);
+            if (calls.getAndIncrement() == 0) {
+                // 조회와 기록 사이에 다른 요청이 같은 위치를 먼저 기록한 상황
+                seen.add(offset);
+                return true;
+            }
+            return !seen.add(offset);
+        });
+
+        RecommendCatalog.Item picked = recommendSampler.next(7L, EmotionType.SAD, ContentType.BOOK);
+
+        assertThat(seen).containsExactlyInAnyOrder(0L, 1L);
+        assertThat(calls).hasValue(2);
+        verify(redisTemplate, times(2)).execute(any(RedisCallback.class));
+        verify(redisTemplate, times(1)).expire(anyString(), eq(Duration.ofDays(31)));
+        assertThat(picked).isIn(ITEMS);
+    }
+
+    @Test
+    @DisplayName("경합이 계속되면 최대 횟수까지만 다시 고르고 결과를 반환한다")
+    void stopsRetryingAfterMaxAttempts() {
+        given(valueOperations.setBit(anyString(), anyLong(), eq(true))).willReturn(true);
+
+        RecommendCatalog.Item picked = recommendSampler.next(7L, EmotionType.SAD, ContentType.BOOK);
+
+        assertThat(picked).isIn(ITEMS);
+        verify(valueOperations, times(3)).setBit(anyString(), anyLong(), eq(true));
+        verify(redisTemplate, times(1)).expire(anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("모두 추천했으면 기록을 비우고 처음부터 다시 고른다")
+    void resetsWhenAllSeen() {
+        seen.addAll(Set.of(0L, 1L));
+        given(valueOperations.setBit(anyString(), anyLong(), eq(true))).willReturn(false);
+
+        recommendSampler.next(7L, EmotionType.SAD, ContentType.BOOK);
+
+        verify(redisTemplate).delete("moodiary:recommend-seen:7:BOOK:SAD:1-abc");
+    }
+}
@@ -0,0 +1,82 @@
+package com.moodiary.recommendContent.controller;
+
+import com.moodiary.controller.JwtAuthenticatedControllerTest;
+import com.moodiary.recommendContent.dto.ResponseDto;
+import com.moodiary.recommendContent.entity.ContentType;
+import com.moodiary.recommendContent.service.RecommendContentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 추천 컨텐츠 생성 API는 Mono를 반환하므로 응답이 ASYNC 디스패치로 한 번 더 보안 필터를 거칩니다.
+ * JWT로 인증된 요청이 ASYNC 디스패치에서 거부되지 않는지 확인합니다.
+ */
+@WebMvcTest(RecommentContentController.class)
+class RecommentContentControllerTest extends JwtAuthenticatedControllerTest {
+
+    @MockBean
+    private RecommendContentService recommendContentService;
+
+    @Test
+    @DisplayName("인증된 책 추천 생성 요청은 ASYNC 디스패치 후 200을 응답한다")
+    void createRecommendBook() throws Exception {
+        ResponseDto responseDto = new ResponseDto();
+        responseDto.setTitle("데미안");
+        responseDto.setContentType(ContentType.BOOK);
+        given(recommendContentService.createNewRecommendBook()).willReturn(Mono.just(responseDto));
+
+        MvcResult result = mockMvc.perform(get("/recommend/book/create").header("Authorization", bearerToken()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("데미안"))
+                .andExpect(jsonPath("$.contentType").value("BOOK"));
+    }
+
+    @Test
+    @DisplayName("인증된 추천 묶음 생성 요청은 ASYNC 디스패치 후 200을 응답한다")
+    void createRecommendBundle() throws Exception {
+        ResponseDto book = new ResponseDto();
+        book.setContentType(ContentType.BOOK);
+        ResponseDto music = new ResponseDto();
+        music.setContentType(ContentType.MUSIC);
+        given(recommendContentService.createRecommendBundle(List.of(ContentType.BOOK, ContentType.MUSIC)))
+                .willReturn(Mono.just(List.of(book, music)));
+
+        MvcResult result = mockMvc.perform(get("/recommend/bundle")
+                        .param("contentTypes", "BOOK", "MUSIC")
+                        .header("Authorization", bearerToken()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].contentType").value("BOOK"))
+                .andExpect(jsonPath("$[1].contentType").value("MUSIC"));
+    }
+
+    @Test
+    @DisplayName("토큰 없는 추천 생성 요청은 추천을 생성하지 않는다")
+    void createRecommendBookWithoutToken() throws Exception {
+        given(recommendContentService.createNewRecommendBook()).willReturn(Mono.just(new ResponseDto()));
+
+        mockMvc.perform(get("/recommend/book/create"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().is3xxRedirection());
+    }
+}
@@ -0,0 +1,117 @@
+package com.moodiary.recommendContent.service;
+
+import com.moodiary.entity.BatchCheckpoint;
+import com.moodiary.entity.EmotionType;
+import com.moodiary.recommendContent.component.GeminiApiResponse;
+import com.moodiary.recommendContent.component.GeminiPrompt;
+import com.moodiary.recommendContent.component.RecommendBlurbCache;
+import com.moodiary.recommendContent.component.RecommendCatalog;
+import com.moodiary.recommendContent.entity.ContentType;
+import com.moodiary.recommendContent.repository.RecommendBlurbRepository;
+import com.moodiary.repository.BatchCheckpointRepository;
+import com.moodiary.service.LlmRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendBlurbWarmupJobTest {
+
+    private static final EmotionType EMOTION = EmotionType.values()[0];
+
+    @Mock
+    private GeminiApiResponse geminiApiResponse;
+
+    @Mock
+    private RecommendBlurbCache recommendBlurbCache;
+
+    @Mock
+    private RecommendBlurbRepository recommendBlurbRepository;
+
+    @Mock
+    private BatchCheckpointRepository batchCheckpointRepository;
+
+    @Mock
+    private RecommendCatalog recommendCatalog;
+
+    @InjectMocks
+    private RecommendBlurbWarmupJob recommendBlurbWarmupJob;
+
+    private final List<String> savedCursors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recommendBlurbWarmupJob, "concurrency", 1);
+        ReflectionTestUtils.setField(recommendBlurbWarmupJob, "requestsPerSecond", 0.0);
+        ReflectionTestUtils.setField(recommendBlurbWarmupJob, "rateLimitRetryAttempts", 2);
+        ReflectionTestUtils.setField(recommendBlurbWarmupJob, "rateLimitRetryBackoff", Duration.ofMillis(1));
+        ReflectionTestUtils.setField(recommendBlurbWarmupJob, "checkpointInterval", 20);
+
+        given(recommendCatalog.items(any(), any())).willReturn(List.of());
+        given(recommendCatalog.items(EMOTION, ContentType.BOOK)).willReturn(List.of(
+                new RecommendCatalog.Item(ContentType.BOOK, "첫 번째 책", "작가1"),
+                new RecommendCatalog.Item(ContentType.BOOK, "두 번째 책", "작가2")));
+        willAnswer(invocation -> {
+            savedCursors.add(invocation.<BatchCheckpoint>getArgument(0).getCursor());
+            return invocation.getArgument(0);
+        }).given(batchCheckpointRepository).save(any());
+    }
+
+    private static Mono<String> rateLimited() {
+        return Mono.error(new LlmRateLimiter.RateLimitedException("gemini 요청량 한도"));
+    }
+
+    @Test
+    @DisplayName("요청량 한도로 거절된 항목은 건너뛰지 않고 다시 시도해 문구를 저장한다")
+    void retriesRateLimitedItem() {
+        AtomicInteger attempts = new AtomicInteger();
+        given(geminiApiResponse.generate(any(GeminiPrompt.class), eq("첫 번째 책"), anyString(), anyString()))
+                .willReturn(Mono.defer(() -> attempts.incrementAndGet() == 1 ? rateLimited() : Mono.just("첫 번째 문구")));
+        given(geminiApiResponse.generate(any(GeminiPrompt.class), eq("두 번째 책"), anyString(), anyString()))
+                .willReturn(Mono.just("두 번째 문구"));
+
+        recommendBlurbWarmupJob.run();
+
+        assertThat(attempts).hasValue(2);
+        verify(recommendBlurbCache).save(ContentType.BOOK, "첫 번째 책", "작가1", EMOTION, "첫 번째 문구");
+        verify(recommendBlurbCache).save(ContentType.BOOK, "두 번째 책", "작가2", EMOTION, "두 번째 문구");
+        // 전체 순회를 마치면 체크포인트를 초기화
+        assertThat(savedCursors).containsExactly((String) null);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘으면 중단하고, 처리를 마친 위치까지만 체크포인트에 기록한다")
+    void stopsAtCheckpointWhenRateLimitPersists() {
+        given(geminiApiResponse.generate(any(GeminiPrompt.class), eq("첫 번째 책"), anyString(), anyString()))
+                .willReturn(Mono.just("첫 번째 문구"));
+        given(geminiApiResponse.generate(any(GeminiPrompt.class), eq("두 번째 책"), anyString(), anyString()))
+                .willReturn(Mono.defer(RecommendBlurbWarmupJobTest::rateLimited));
+
+        recommendBlurbWarmupJob.run();
+
+        verify(recommendBlurbCache).save(ContentType.BOOK, "첫 번째 책", "작가1", EMOTION, "첫 번째 문구");
+        verify(recommendBlurbCache, never()).save(eq(ContentType.BOOK), eq("두 번째 책"), any(), any(), any());
+        // 두 번째 항목(위치 1)은 다음 실행에서 다시 처리
+        assertThat(savedCursors).containsExactly(GeminiPrompt.VERSION + ":0");
+    }
+}
@@ -0,0 +1,103 @@
+package com.moodiary.recommendContent.service;
+
+import com.moodiary.entity.User;
+import com.moodiary.entity.UserUserDetails;
+import com.moodiary.recommendContent.component.BookCoverCache;
+import com.moodiary.recommendContent.component.RecommendBlurbCache;
+import com.moodiary.recommendContent.component.RecommendRanker;
+import com.moodiary.recommendContent.component.RecommendSampler;
+import com.moodiary.recommendContent.dto.ResponseDto;
+import com.moodiary.recommendContent.entity.ContentType;
+import com.moodiary.recommendContent.entity.RecommendContent;
+import com.moodiary.recommendContent.repository.RecommentContentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendContentServiceTest {
+
+    @Mock
+    private RecommentContentRepository recommentContentRepository;
+
+    @Mock
+    private BookCoverCache bookCoverCache;
+
+    @Mock
+    private RecommendBlurbCache recommendBlurbCache;
+
+    @Mock
+    private RecommendSampler recommendSampler;
+
+    @Mock
+    private RecommendRanker recommendRanker;
+
+    @InjectMocks
+    private RecommendContentService recommendContentService;
+
+    @BeforeEach
+    void setUp() {
+        UserUserDetails userDetails = new UserUserDetails(User.builder().id(1L).email("user@moodiary.com").build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("월별 추천 이력도 생성 API와 같이 컨텐츠 종류를 포함한다")
+    void getRecommendContentIncludesContentType() {
+        given(recommentContentRepository.findByUserIdAndContentTypeAndCreateAtBetween(
+                eq(1L), eq(ContentType.MOVIE), any(), any()))
+                .willReturn(List.of(recommendContent(10L, ContentType.MOVIE)));
+
+        List<ResponseDto> responseDtos = recommendContentService.getRecommendContent(2025, 10, ContentType.MOVIE);
+
+        assertThat(responseDtos).singleElement().satisfies(responseDto -> {
+            assertThat(responseDto.getContentId()).isEqualTo(10L);
+            assertThat(responseDto.getContentType()).isEqualTo(ContentType.MOVIE);
+            assertThat(responseDto.getTitle()).isEqualTo("제목");
+            assertThat(responseDto.getImageUrl()).isEqualTo("/images/cover.jpg");
+        });
+    }
+
+    @Test
+    @DisplayName("추천 상세 조회도 컨텐츠 종류를 포함한다")
+    void getRecommendContentIdIncludesContentType() {
+        given(recommentContentRepository.findById(10L)).willReturn(Optional.of(recommendContent(10L, ContentType.BOOK)));
+
+        ResponseDto responseDto = recommendContentService.getRecommendContentId(10L);
+
+        assertThat(responseDto.getContentType()).isEqualTo(ContentType.BOOK);
+    }
+
+    private RecommendContent recommendContent(Long id, ContentType contentType) {
+        RecommendContent recommendContent = new RecommendContent();
+        recommendContent.setId(id);
+        recommendContent.setTitle("제목");
+        recommendContent.setContent("소개");
+        recommendContent.setImageUri("/images/cover.jpg");
+        recommendContent.setContentType(contentType);
+        recommendContent.setCreateAt(LocalDateTime.of(2025, 10, 3, 12, 0));
+        return recommendContent;
+    }
+}
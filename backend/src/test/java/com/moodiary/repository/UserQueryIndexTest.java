@@ -0,0 +1,173 @@
+package com.moodiary.repository;
+
+import com.moodiary.entity.EmotionType;
+import com.moodiary.recommendContent.entity.ContentType;
+import com.moodiary.recommendContent.repository.RecommentContentRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * V1_5 복합 인덱스 사용 여부 확인
+ *
+ * Flyway 마이그레이션을 적용한 H2(MySQL 모드)에서 리포지토리 쿼리가 실제로 실행한 SQL의 실행 계획(EXPLAIN)을 확인합니다.
+ * ddl-auto=validate로 실행하므로 엔티티와 마이그레이션 스키마가 어긋나면 컨텍스트가 뜨지 않습니다.
+ *
+ * 운영과 같은 스키마(외래 키 포함)에서 확인합니다. H2는 외래 키마다 단일 컬럼 인덱스를 따로 유지해
+ * user_id 조건만 있는 쿼리에서 이를 고를 수 있지만, MySQL은 같은 컬럼으로 시작하는 V1_5 인덱스가 생기면
+ * 외래 키의 암묵적 인덱스를 대체하므로 운영에서는 V1_5 인덱스만 남습니다.
+ * 따라서 user_id 조건만 있는 쿼리는 두 인덱스 중 하나를 허용하고, 인덱스가 (user_id, 정렬 컬럼) 순서인지 따로 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-query-index;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.moodiary.repository.SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserQueryIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private RecommentContentRepository recommentContentRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 테스트 트랜잭션 밖에서 한 번만 준비 (H2는 DDL/ANALYZE 실행 시 커밋하므로 테스트마다 롤백되지 않음)
+     */
+    @BeforeAll
+    void setUp() {
+        // 실행 계획이 빈 테이블 기준이 되지 않도록 사용자 여러 명의 데이터를 넣고 통계를 갱신
+        EmotionType[] emotions = EmotionType.values();
+        ContentType[] contentTypes = ContentType.values();
+        for (long userId = 1; userId <= 10; userId++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, nickname, created_at) VALUES (?, ?, ?, ?)",
+                    userId, "user" + userId + "@moodiary.com", "user" + userId, NOW);
+            for (int i = 0; i < 30; i++) {
+                jdbcTemplate.update("INSERT INTO diary_entries (user_id, content, integrated_emotion, analysis_status, created_at) "
+                                + "VALUES (?, ?, ?, 'DONE', ?)",
+                        userId, "일기 " + i, emotions[i % emotions.length].name(), NOW.minusDays(i));
+                jdbcTemplate.update("INSERT INTO recommend_content (user_id, title, content, content_type, create_at) "
+                                + "VALUES (?, ?, ?, ?, ?)",
+                        userId, "추천 " + i, "내용", contentTypes[i % contentTypes.length].name(), NOW.minusDays(i));
+            }
+            // 각 사용자가 자신의 일기 일부를 북마크
+            jdbcTemplate.update("INSERT INTO bookmark (title, preview, content, `user`, diary, created_at) "
+                            + "SELECT '북마크', content, content, user_id, id, created_at FROM diary_entries "
+                            + "WHERE user_id = ? AND MOD(id, 3) = 0",
+                    userId);
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /**
+     * 쿼리가 마지막으로 실행한 SQL의 실행 계획
+     */
+    private String planOf(Runnable query) {
+        SqlCapture.clear();
+        query.run();
+        List<String> statements = SqlCapture.statements();
+        assertThat(statements).isNotEmpty();
+        return jdbcTemplate.queryForObject("EXPLAIN " + statements.get(statements.size() - 1), String.class);
+    }
+
+    /**
+     * 인덱스 컬럼 목록 (순서대로)
+     */
+    private List<String> indexColumns(String indexName) {
+        return jdbcTemplate.queryForList(
+                        "SELECT column_name FROM information_schema.index_columns "
+                                + "WHERE index_name = ? ORDER BY ordinal_position", String.class, indexName)
+                .stream()
+                .map(String::toLowerCase)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("V1_5 인덱스는 사용자 컬럼으로 시작하고 정렬/조건 컬럼이 뒤따른다")
+    void userIndexesLeadWithUserColumn() {
+        Map<String, List<String>> expected = Map.of(
+                "idx_diary_entries_user_created", List.of("user_id", "created_at"),
+                "idx_diary_entries_user_emotion_created", List.of("user_id", "integrated_emotion", "created_at"),
+                "idx_recommend_content_user_type_created", List.of("user_id", "content_type", "create_at"),
+                "idx_bookmark_user_created", List.of("user", "created_at"),
+                "idx_bookmark_user_diary", List.of("user", "diary"));
+
+        expected.forEach((indexName, columns) ->
+                assertThat(indexColumns(indexName)).as(indexName).isEqualTo(columns));
+    }
+
+    @Test
+    @DisplayName("일기 목록 항목 조회는 user_id 인덱스를 사용한다 (H2는 외래 키 인덱스, MySQL은 (user_id, created_at))")
+    void findSummariesByUserIdUsesUserIndex() {
+        String plan = planOf(() -> diaryRepository.findSummariesByUserId(1L, PageRequest.of(0, 20)));
+
+        assertThat(plan).containsAnyOf("idx_diary_entries_user_created", "fk_diary_entries_user");
+    }
+
+    @Test
+    @DisplayName("커서 기반 일기 조회는 user_id 인덱스를 사용한다 (H2는 외래 키 인덱스, MySQL은 (user_id, created_at))")
+    void findLatestByUserIdBeforeUsesUserIndex() {
+        String plan = planOf(() -> diaryRepository.findLatestByUserIdBefore(1L, NOW.minusDays(5), 100L, PageRequest.of(0, 20)));
+
+        assertThat(plan).containsAnyOf("idx_diary_entries_user_created", "fk_diary_entries_user");
+    }
+
+    @Test
+    @DisplayName("감정별 일기 조회는 (user_id, integrated_emotion, created_at) 인덱스를 사용한다")
+    void findSummariesByUserIdAndIntegratedEmotionUsesEmotionIndex() {
+        String plan = planOf(() -> diaryRepository.findSummariesByUserIdAndIntegratedEmotion(1L, EmotionType.HAPPY));
+
+        assertThat(plan).contains("idx_diary_entries_user_emotion_created");
+    }
+
+    @Test
+    @DisplayName("유형별 오늘의 추천 조회는 (user_id, content_type, create_at) 인덱스를 사용한다")
+    void findByUserIdAndContentTypeAndCreateAtBetweenUsesTypeIndex() {
+        String plan = planOf(() -> recommentContentRepository.findByUserIdAndContentTypeAndCreateAtBetween(
+                1L, ContentType.BOOK, NOW.minusDays(1), NOW));
+
+        assertThat(plan).contains("idx_recommend_content_user_type_created");
+    }
+
+    @Test
+    @DisplayName("북마크 목록 조회는 user 인덱스를 사용한다 (H2는 외래 키 인덱스, MySQL은 (user, created_at))")
+    void findItemsByUserIdUsesUserIndex() {
+        String plan = planOf(() -> bookmarkRepository.findItemsByUserId(1L, PageRequest.of(0, 20)));
+
+        assertThat(plan).containsAnyOf("idx_bookmark_user_created", "fk_bookmark_user");
+    }
+
+    @Test
+    @DisplayName("일기별 북마크 조회는 전체 스캔 없이 (user, diary) 또는 diary 인덱스로 찾는다")
+    void findByUserAndDiaryEntryIdUsesDiaryIndex() {
+        String plan = planOf(() -> bookmarkRepository.findByUserAndDiaryEntryId(userRepository.getReferenceById(1L), 3L));
+
+        // diary는 일기마다 거의 한 건이라 외래 키 인덱스(MySQL에서도 유지됨)만으로도 선택도가 같음
+        assertThat(plan).containsAnyOf("idx_bookmark_user_diary", "fk_bookmark_diary");
+    }
+}
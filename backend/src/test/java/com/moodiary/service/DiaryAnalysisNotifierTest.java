@@ -0,0 +1,51 @@
+package com.moodiary.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiaryAnalysisNotifierTest {
+
+    private final DiaryAnalysisNotifier diaryAnalysisNotifier = new DiaryAnalysisNotifier();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(diaryAnalysisNotifier, "sseTimeout", Duration.ofSeconds(60));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, ?> emitters() {
+        return (Map<Long, ?>) ReflectionTestUtils.getField(diaryAnalysisNotifier, "emitters");
+    }
+
+    @Test
+    @DisplayName("응답으로 반환하지 않은 emitter는 complete()만으로 제거되지 않아 직접 구독 해제해야 한다")
+    void unsubscribeRemovesEmitterNotHandedToMvc() {
+        SseEmitter first = diaryAnalysisNotifier.subscribe(7L);
+        SseEmitter second = diaryAnalysisNotifier.subscribe(7L);
+
+        first.complete();
+        assertThat(emitters()).containsKey(7L);
+
+        diaryAnalysisNotifier.unsubscribe(7L, first);
+        assertThat(emitters()).containsKey(7L);
+
+        diaryAnalysisNotifier.unsubscribe(7L, second);
+        assertThat(emitters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구독하지 않은 일기를 해제해도 아무 일도 일어나지 않는다")
+    void unsubscribeUnknownDiary() {
+        diaryAnalysisNotifier.unsubscribe(8L, new SseEmitter());
+
+        assertThat(emitters()).isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package com.moodiary.service;
+
+import com.moodiary.service.DiaryService.DiaryCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DiaryCursorTest {
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 작성 시각과 ID가 그대로 복원된다")
+    void roundTrip() {
+        DiaryCursor cursor = new DiaryCursor(LocalDateTime.of(2025, 10, 1, 12, 30, 15, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(DiaryCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("초 단위가 0인 시각도 복원된다")
+    void roundTripWithoutSeconds() {
+        DiaryCursor cursor = new DiaryCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 1L);
+
+        assertThat(DiaryCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not-base64!!", "2025-10-01T12:00", "2025-10-01T12:00_abc", "yesterday_42", "_42"})
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException으로 거부한다")
+    void rejectsInvalidCursor(String raw) {
+        String cursor = raw.contains("!") ? raw : encodeRaw(raw);
+
+        assertThatThrownBy(() -> DiaryCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다: " + cursor);
+    }
+}
@@ -0,0 +1,101 @@
+package com.moodiary.service;
+
+import com.moodiary.entity.BatchCheckpoint;
+import com.moodiary.repository.BatchCheckpointRepository;
+import com.moodiary.repository.DiaryRepository;
+import com.moodiary.service.EmotionAnalysisOrchestrator.AnalysisResult;
+import com.moodiary.service.OpenAiService.EmotionAnalysisResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryReanalysisJobTest {
+
+    @Mock
+    private DiaryRepository diaryRepository;
+
+    @Mock
+    private BatchCheckpointRepository batchCheckpointRepository;
+
+    @Mock
+    private EmotionAnalysisOrchestrator emotionAnalysisOrchestrator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private DiaryReanalysisJob diaryReanalysisJob;
+
+    private static EmotionAnalysisResult calm() {
+        return EmotionAnalysisResult.builder()
+                .emotion("calm")
+                .score(36.5)
+                .confidence(50.0)
+                .keywords("")
+                .build();
+    }
+
+    private static EmotionAnalysisResult fallback() {
+        EmotionAnalysisResult result = calm();
+        result.setFallback(true);
+        return result;
+    }
+
+    @Test
+    @DisplayName("기본값과 값이 같은 실제 분석 결과는 반영한다")
+    void genuineCalmResultIsReliable() {
+        assertThat(diaryReanalysisJob.isReliable(new AnalysisResult(calm(), null, calm()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("기본 감정 결과가 섞인 분석 결과는 반영하지 않는다")
+    void resultWithFallbackIsNotReliable() {
+        assertThat(diaryReanalysisJob.isReliable(new AnalysisResult(fallback(), null, calm()))).isFalse();
+        assertThat(diaryReanalysisJob.isReliable(new AnalysisResult(calm(), fallback(), calm()))).isFalse();
+        assertThat(diaryReanalysisJob.isReliable(AnalysisResult.empty())).isFalse();
+    }
+
+    @Test
+    @DisplayName("시작 시 재분석은 기동을 막지 않도록 백그라운드에서 실행한다")
+    void runsStartupReanalysisInBackground() throws Exception {
+        ReflectionTestUtils.setField(diaryReanalysisJob, "runOnStartup", true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        given(batchCheckpointRepository.findById(DiaryReanalysisJob.JOB_NAME)).willAnswer(invocation -> {
+            worker.set(Thread.currentThread());
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(BatchCheckpoint.builder()
+                    .jobName(DiaryReanalysisJob.JOB_NAME)
+                    .cursor(OpenAiService.PROMPT_VERSION + ":done")
+                    .build());
+        });
+
+        // 재분석이 끝나지 않았어도 바로 반환
+        diaryReanalysisJob.run(new DefaultApplicationArguments());
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(worker.get()).isNotSameAs(Thread.currentThread());
+        release.countDown();
+    }
+}
@@ -0,0 +1,183 @@
+package com.moodiary.service;
+
+import com.moodiary.config.JpaConfig;
+import com.moodiary.dto.DiaryDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 일기 조회/수정/목록 변환이 작성자(User)를 추가로 조회하지 않는지 확인
+ *
+ * Hibernate 통계의 준비된 SQL 문 개수로 서비스 메서드 한 번에 실행되는 쿼리 수를 검증합니다.
+ * updateDiary는 트랜잭션 밖에서 동작하므로 테스트 트랜잭션 없이 실행하고, 데이터는 한 번만 준비합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:diary-query-count;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DiaryService.class, JpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DiaryServiceQueryCountTest {
+
+    private static final long USER_ID = 1L;
+    private static final long DIARY_ID = 10L;
+
+    @Autowired
+    private DiaryService diaryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private EmotionAnalysisOrchestrator emotionAnalysisOrchestrator;
+
+    @MockBean
+    private ThreadPoolTaskExecutor diaryAnalysisExecutor;
+
+    @MockBean
+    private DiaryAnalysisNotifier diaryAnalysisNotifier;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void setUp() {
+        LocalDateTime now = LocalDateTime.of(2025, 10, 1, 12, 0);
+        jdbcTemplate.update("INSERT INTO users (id, email, nickname, created_at) VALUES (?, ?, ?, ?)",
+                USER_ID, "user@moodiary.com", "user", now);
+        for (long id = DIARY_ID; id < DIARY_ID + 5; id++) {
+            jdbcTemplate.update("INSERT INTO diary_entries (id, user_id, content, analysis_status, created_at) "
+                            + "VALUES (?, ?, ?, 'DONE', ?)",
+                    id, USER_ID, "일기 " + id, now.minusDays(id));
+        }
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("일기 상세 조회는 작성자 조건을 포함한 SELECT 한 번으로 끝난다")
+    void getDiaryRunsSingleSelect() {
+        DiaryDto.DiaryResponse response = diaryService.getDiary(USER_ID, DIARY_ID);
+
+        assertThat(response.getUserId()).isEqualTo(USER_ID);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("내용 변경 없는 일기 수정은 SELECT 한 번만 실행한다")
+    void updateDiaryWithoutChangesRunsSingleSelect() {
+        DiaryDto.DiaryResponse response = diaryService.updateDiary(USER_ID, DIARY_ID + 1,
+                DiaryDto.UpdateDiaryRequest.builder().content("일기 " + (DIARY_ID + 1)).build());
+
+        assertThat(response.getUserId()).isEqualTo(USER_ID);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재분석하는 일기 수정도 분석 후 다시 조회하지 않고 SELECT 한 번과 UPDATE 한 번만 실행한다")
+    void updateDiaryWithReanalysisRunsSingleSelect() {
+        given(emotionAnalysisOrchestrator.reanalyze(any(), anyString(), any(), anyBoolean(), anyBoolean()))
+                .willReturn(EmotionAnalysisOrchestrator.AnalysisResult.empty());
+
+        DiaryDto.DiaryResponse response = diaryService.updateDiary(USER_ID, DIARY_ID + 2,
+                DiaryDto.UpdateDiaryRequest.builder().content("수정한 일기").build());
+
+        assertThat(response.getContent()).isEqualTo("수정한 일기");
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM diary_entries WHERE id = ?", String.class, DIARY_ID + 2))
+                .isEqualTo("수정한 일기");
+    }
+
+    @Test
+    @DisplayName("요청 범위 영속성 컨텍스트(open-in-view) 안에서도 재분석 수정은 SELECT 한 번과 UPDATE 한 번만 실행한다")
+    void updateDiaryInOpenEntityManagerRunsSingleSelect() {
+        given(emotionAnalysisOrchestrator.reanalyze(any(), anyString(), any(), anyBoolean(), anyBoolean()))
+                .willReturn(EmotionAnalysisOrchestrator.AnalysisResult.empty());
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            diaryService.updateDiary(USER_ID, DIARY_ID + 3,
+                    DiaryDto.UpdateDiaryRequest.builder().content("요청 중 수정한 일기").build());
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM diary_entries WHERE id = ?", String.class, DIARY_ID + 3))
+                .isEqualTo("요청 중 수정한 일기");
+    }
+
+    @Test
+    @DisplayName("일기 목록 응답 변환은 작성자를 조회하지 않아 목록 SELECT 한 번만 실행한다")
+    void listMappingDoesNotLoadUsers() {
+        Slice<DiaryDto.DiaryResponse> diaries = diaryService.getUserDiarySlice(USER_ID, PageRequest.of(0, 10));
+
+        // 삭제 테스트가 먼저 실행될 수 있으므로 개수 대신 여러 건인지만 확인
+        assertThat(diaries.getContent()).hasSizeGreaterThan(1)
+                .allSatisfy(response -> assertThat(response.getUserId()).isEqualTo(USER_ID));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일기 삭제는 조회 없이 북마크 DELETE와 일기 DELETE 두 문장만 실행한다")
+    void deleteDiaryRunsTwoDeletes() {
+        diaryService.deleteDiary(USER_ID, DIARY_ID + 4);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM diary_entries WHERE id = ?", Long.class, DIARY_ID + 4))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 일기는 SELECT 한 번으로 찾을 수 없음 처리한다")
+    void getDiaryOfAnotherUserRunsSingleSelect() {
+        assertThatThrownBy(() -> diaryService.getDiary(USER_ID + 1, DIARY_ID))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("일기를 찾을 수 없습니다: " + DIARY_ID);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.moodiary.service;
+
+import com.moodiary.repository.DiaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryServiceTest {
+
+    @Mock
+    private DiaryRepository diaryRepository;
+
+    @Mock
+    private DiaryAnalysisNotifier diaryAnalysisNotifier;
+
+    @InjectMocks
+    private DiaryService diaryService;
+
+    @Test
+    @DisplayName("다른 사용자의 일기를 구독하면 거절하고 등록한 구독을 해제한다")
+    void subscribeToAnotherUsersDiaryUnsubscribes() {
+        SseEmitter emitter = new SseEmitter();
+        given(diaryAnalysisNotifier.subscribe(7L)).willReturn(emitter);
+        given(diaryRepository.findByIdAndUserId(7L, 1L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> diaryService.subscribeDiaryAnalysis(1L, 7L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("일기를 찾을 수 없습니다: 7");
+        verify(diaryAnalysisNotifier).unsubscribe(7L, emitter);
+    }
+}
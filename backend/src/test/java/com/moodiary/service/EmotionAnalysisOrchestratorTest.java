@@ -0,0 +1,85 @@
+package com.moodiary.service;
+
+import com.moodiary.service.OpenAiService.EmotionAnalysisResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class EmotionAnalysisOrchestratorTest {
+
+    @Mock
+    private OpenAiService openAiService;
+
+    @InjectMocks
+    private EmotionAnalysisOrchestrator emotionAnalysisOrchestrator;
+
+    private static EmotionAnalysisResult result(String emotion, double score, double confidence) {
+        return EmotionAnalysisResult.builder()
+                .emotion(emotion)
+                .score(score)
+                .confidence(confidence)
+                .keywords(emotion)
+                .build();
+    }
+
+    @Test
+    @DisplayName("점수와 신뢰도는 텍스트 0.7, 표정 0.3으로 가중 평균한다")
+    void weightsTextAndImage() {
+        EmotionAnalysisResult integrated = emotionAnalysisOrchestrator.integrateLocally(
+                result("happy", 80.0, 90.0), result("sad", 20.0, 60.0), "산책,햇살");
+
+        // 80*0.7 + 20*0.3 = 62.0, 90*0.7 + 60*0.3 = 81.0
+        assertThat(integrated.getScore()).isEqualTo(62.0);
+        assertThat(integrated.getConfidence()).isEqualTo(81.0);
+        assertThat(integrated.getEmotion()).isEqualTo("happy");
+        assertThat(integrated.getKeywords()).isEqualTo("산책,햇살");
+    }
+
+    @Test
+    @DisplayName("가중치 × 신뢰도가 더 큰 쪽의 감정을 선택한다")
+    void choosesEmotionByWeightedConfidence() {
+        // 텍스트 0.7*30 = 21 < 표정 0.3*80 = 24
+        EmotionAnalysisResult integrated = emotionAnalysisOrchestrator.integrateLocally(
+                result("happy", 70.0, 30.0), result("angry", 40.0, 80.0), null);
+
+        assertThat(integrated.getEmotion()).isEqualTo("angry");
+        assertThat(integrated.getScore()).isEqualTo(61.0);
+        assertThat(integrated.getConfidence()).isEqualTo(45.0);
+    }
+
+    @Test
+    @DisplayName("가중 점수는 소수 첫째 자리로 반올림한다")
+    void roundsToOneDecimal() {
+        // 33.3*0.7 + 66.6*0.3 = 43.29
+        EmotionAnalysisResult integrated = emotionAnalysisOrchestrator.integrateLocally(
+                result("calm", 33.3, 50.0), result("calm", 66.6, 50.0), null);
+
+        assertThat(integrated.getScore()).isEqualTo(43.3);
+    }
+
+    @Test
+    @DisplayName("한쪽 결과만 있으면 그 결과를 복사해 사용한다")
+    void usesSingleResultAsIs() {
+        EmotionAnalysisResult image = result("sad", 20.0, 60.0);
+
+        EmotionAnalysisResult integrated = emotionAnalysisOrchestrator.integrateLocally(null, image, "비");
+
+        assertThat(integrated).isNotSameAs(image);
+        assertThat(integrated.getEmotion()).isEqualTo("sad");
+        assertThat(integrated.getScore()).isEqualTo(20.0);
+        assertThat(integrated.getKeywords()).isEqualTo("비");
+        assertThat(image.getKeywords()).isEqualTo("sad");
+    }
+
+    @Test
+    @DisplayName("두 결과가 모두 없으면 null을 반환한다")
+    void returnsNullWithoutResults() {
+        assertThat(emotionAnalysisOrchestrator.integrateLocally(null, null, "키워드")).isNull();
+    }
+}
@@ -0,0 +1,125 @@
+package com.moodiary.service;
+
+import com.moodiary.config.WebClientConfig;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExternalApiGuardTest {
+
+    private ExternalApiGuard externalApiGuard;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("resilience.naver.max-concurrent-calls", "1");
+        externalApiGuard = new ExternalApiGuard(new SimpleMeterRegistry(), environment);
+        ReflectionTestUtils.setField(externalApiGuard, "failureRateThreshold", 50f);
+        ReflectionTestUtils.setField(externalApiGuard, "slowCallRateThreshold", 100f);
+        ReflectionTestUtils.setField(externalApiGuard, "slidingWindowSize", 4);
+        ReflectionTestUtils.setField(externalApiGuard, "minimumCalls", 4);
+        ReflectionTestUtils.setField(externalApiGuard, "waitInOpenState", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(externalApiGuard, "halfOpenCalls", 1);
+        externalApiGuard.init();
+    }
+
+    private static WebClientResponseException response(int status) {
+        return WebClientResponseException.create(status, "status " + status, HttpHeaders.EMPTY, new byte[0], null);
+    }
+
+    private void call(Throwable failure) {
+        assertThatThrownBy(() -> Mono.error(failure)
+                .transform(externalApiGuard.protect(WebClientConfig.OPENAI))
+                .block())
+                .isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("5xx, 429, 네트워크 오류, 타임아웃은 제공자 장애로 본다")
+    void classifiesProviderFailures() {
+        assertThat(ExternalApiGuard.isProviderFailure(response(500))).isTrue();
+        assertThat(ExternalApiGuard.isProviderFailure(response(503))).isTrue();
+        assertThat(ExternalApiGuard.isProviderFailure(response(429))).isTrue();
+        assertThat(ExternalApiGuard.isProviderFailure(new WebClientRequestException(
+                new ConnectException("connection refused"), HttpMethod.POST, URI.create("https://api.openai.com"), HttpHeaders.EMPTY)))
+                .isTrue();
+        assertThat(ExternalApiGuard.isProviderFailure(new TimeoutException())).isTrue();
+        assertThat(ExternalApiGuard.isProviderFailure(new IOException("reset"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("429를 제외한 4xx와 그 외 예외는 제공자 장애로 보지 않는다")
+    void ignoresRequestErrors() {
+        assertThat(ExternalApiGuard.isProviderFailure(response(400))).isFalse();
+        assertThat(ExternalApiGuard.isProviderFailure(response(401))).isFalse();
+        assertThat(ExternalApiGuard.isProviderFailure(response(404))).isFalse();
+        assertThat(ExternalApiGuard.isProviderFailure(new IllegalStateException("파싱 실패"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("즉시 실패 예외만 거절로 분류한다")
+    void classifiesRejections() {
+        assertThat(ExternalApiGuard.isRejected(new LlmRateLimiter.RateLimitedException("대기열 초과"))).isTrue();
+        assertThat(ExternalApiGuard.isRejected(BulkheadFullException.createBulkheadFullException(
+                Bulkhead.ofDefaults("test")))).isTrue();
+        assertThat(ExternalApiGuard.isRejected(response(503))).isFalse();
+        assertThat(ExternalApiGuard.isRejected(new TimeoutException())).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청 오류(4xx)가 쌓여도 서킷 브레이커는 열리지 않는다")
+    void requestErrorsDoNotOpenCircuit() {
+        for (int i = 0; i < 6; i++) {
+            call(response(400));
+        }
+
+        assertThat(Mono.just("ok").transform(externalApiGuard.protect(WebClientConfig.OPENAI)).block()).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("제공자 장애가 기준을 넘으면 서킷 브레이커가 열려 호출하지 않고 거절한다")
+    void providerFailuresOpenCircuit() {
+        for (int i = 0; i < 4; i++) {
+            call(response(503));
+        }
+
+        assertThatThrownBy(() -> Mono.just("ok").transform(externalApiGuard.protect(WebClientConfig.OPENAI)).block())
+                .isInstanceOf(CallNotPermittedException.class)
+                .matches(ExternalApiGuard::isRejected);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘는 요청은 기다리지 않고 거절한다")
+    void bulkheadRejectsConcurrentCalls() {
+        Sinks.One<String> pending = Sinks.one();
+        pending.asMono().transform(externalApiGuard.protect(WebClientConfig.NAVER)).subscribe();
+
+        assertThatThrownBy(() -> Mono.just("ok").transform(externalApiGuard.protect(WebClientConfig.NAVER)).block())
+                .isInstanceOf(BulkheadFullException.class)
+                .matches(ExternalApiGuard::isRejected);
+
+        pending.tryEmitValue("done");
+        assertThat(Mono.just("ok").transform(externalApiGuard.protect(WebClientConfig.NAVER)).block()).isEqualTo("ok");
+    }
+}
@@ -0,0 +1,142 @@
+package com.moodiary.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImagePreprocessorTest {
+
+    @TempDir
+    Path dir;
+
+    private ImagePreprocessor imagePreprocessor;
+
+    @BeforeEach
+    void setUp() {
+        imagePreprocessor = new ImagePreprocessor();
+        ReflectionTestUtils.setField(imagePreprocessor, "enabled", true);
+        ReflectionTestUtils.setField(imagePreprocessor, "maxEdge", 1024);
+        ReflectionTestUtils.setField(imagePreprocessor, "jpegQuality", 0.85f);
+    }
+
+    /**
+     * 왼쪽 위 사분면만 빨간색인 가로 80 x 세로 40 JPEG
+     */
+    private static byte[] landscapeJpeg() throws Exception {
+        BufferedImage image = new BufferedImage(80, 40, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 80, 40);
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 40, 20);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Orientation 태그 하나만 가진 APP1(Exif) 세그먼트 삽입
+     *
+     * keepJfif가 false이면 카메라 원본처럼 JFIF APP0을 APP1로 바꾸고, true이면 APP0 뒤에 APP1을 둡니다.
+     */
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation, boolean littleEndian, boolean keepJfif) {
+        ByteArrayOutputStream tiff = new ByteArrayOutputStream();
+        tiff.writeBytes("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        if (littleEndian) {
+            tiff.writeBytes(new byte[] {'I', 'I', 0x2A, 0, 8, 0, 0, 0, 1, 0,
+                    0x12, 0x01, 3, 0, 1, 0, 0, 0, (byte) orientation, 0, 0, 0, 0, 0, 0, 0});
+        } else {
+            tiff.writeBytes(new byte[] {'M', 'M', 0, 0x2A, 0, 0, 0, 8, 0, 1,
+                    0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0, 0, 0, 0, 0});
+        }
+        byte[] payload = tiff.toByteArray();
+
+        // ImageIO가 기록한 JPEG는 SOI 다음이 JFIF APP0 세그먼트
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, keepJfif ? app0End : 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write((payload.length + 2) >> 8);
+        out.write((payload.length + 2) & 0xFF);
+        out.writeBytes(payload);
+        out.write(jpeg, app0End, jpeg.length - app0End);
+        return out.toByteArray();
+    }
+
+    private BufferedImage prepare(byte[] jpeg) throws Exception {
+        Path original = dir.resolve("diary.jpg");
+        Files.write(original, jpeg);
+
+        Path prepared = imagePreprocessor.prepareForVision(original);
+
+        assertThat(prepared).isNotEqualTo(original);
+        assertThat(new String(Files.readAllBytes(prepared), StandardCharsets.ISO_8859_1)).doesNotContain("Exif");
+        return ImageIO.read(prepared.toFile());
+    }
+
+    private static boolean isRed(int rgb) {
+        Color color = new Color(rgb);
+        return color.getRed() > 200 && color.getGreen() < 80 && color.getBlue() < 80;
+    }
+
+    @Test
+    @DisplayName("방향 정보가 없으면 그대로 재인코딩한다")
+    void keepsOrientationWithoutExif() throws Exception {
+        BufferedImage result = prepare(landscapeJpeg());
+
+        assertThat(result.getWidth()).isEqualTo(80);
+        assertThat(result.getHeight()).isEqualTo(40);
+        assertThat(isRed(result.getRGB(5, 5))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Orientation 6이면 시계 방향으로 90도 회전한 뒤 메타데이터를 제거한다")
+    void rotatesClockwiseForOrientation6() throws Exception {
+        BufferedImage result = prepare(withExifOrientation(landscapeJpeg(), 6, false, false));
+
+        assertThat(result.getWidth()).isEqualTo(40);
+        assertThat(result.getHeight()).isEqualTo(80);
+        // 왼쪽 위 빨간 영역은 회전 후 오른쪽 위로 이동
+        assertThat(isRed(result.getRGB(34, 5))).isTrue();
+        assertThat(isRed(result.getRGB(5, 5))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Orientation 8이면 반시계 방향으로 90도 회전한다 (JFIF + 리틀 엔디언 EXIF)")
+    void rotatesCounterClockwiseForOrientation8() throws Exception {
+        BufferedImage result = prepare(withExifOrientation(landscapeJpeg(), 8, true, true));
+
+        assertThat(result.getWidth()).isEqualTo(40);
+        assertThat(result.getHeight()).isEqualTo(80);
+        // 왼쪽 위 빨간 영역은 회전 후 왼쪽 아래로 이동
+        assertThat(isRed(result.getRGB(5, 74))).isTrue();
+        assertThat(isRed(result.getRGB(5, 5))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Orientation 3이면 180도 회전하고 크기는 유지한다")
+    void rotates180ForOrientation3() throws Exception {
+        BufferedImage result = prepare(withExifOrientation(landscapeJpeg(), 3, false, false));
+
+        assertThat(result.getWidth()).isEqualTo(80);
+        assertThat(result.getHeight()).isEqualTo(40);
+        assertThat(isRed(result.getRGB(74, 34))).isTrue();
+        assertThat(isRed(result.getRGB(5, 5))).isFalse();
+    }
+}
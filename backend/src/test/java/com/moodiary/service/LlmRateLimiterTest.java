@@ -0,0 +1,159 @@
+package com.moodiary.service;
+
+import com.moodiary.config.WebClientConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LlmRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LlmRateLimiter llmRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("llm.rate-limit.openai.requests-per-minute", "2")
+                .withProperty("llm.rate-limit.openai.tokens-per-minute", "0")
+                .withProperty("llm.rate-limit.gemini.requests-per-minute", "0")
+                .withProperty("llm.rate-limit.gemini.tokens-per-minute", "1000");
+        llmRateLimiter = new LlmRateLimiter(meterRegistry, environment);
+        ReflectionTestUtils.setField(llmRateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(llmRateLimiter, "maxWait", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(llmRateLimiter, "maxQueue", 100);
+        ReflectionTestUtils.setField(llmRateLimiter, "maxRetryAttempts", 3);
+        ReflectionTestUtils.setField(llmRateLimiter, "minBackoff", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(llmRateLimiter, "maxBackoff", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(llmRateLimiter, "maxRetryAfter", Duration.ofSeconds(1));
+        llmRateLimiter.init();
+    }
+
+    private String call(String provider, int tokens, Mono<String> mono) {
+        return mono.transform(llmRateLimiter.limit(provider, tokens)).block(Duration.ofSeconds(5));
+    }
+
+    private static WebClientResponseException response(int status, String header, String value) {
+        HttpHeaders headers = new HttpHeaders();
+        if (header != null) {
+            headers.add(header, value);
+        }
+        return WebClientResponseException.create(status, "status " + status, headers, new byte[0], null);
+    }
+
+    private double counter(String name, String provider) {
+        return meterRegistry.counter("moodiary.llm.rate-limiter." + name, "provider", provider).count();
+    }
+
+    @Test
+    @DisplayName("예상 토큰 수는 UTF-8 바이트의 1/3과 최대 출력 토큰의 합이다")
+    void estimatesTokens() {
+        assertThat(LlmRateLimiter.estimateTokens("abcdef", 100)).isEqualTo(102);
+        assertThat(LlmRateLimiter.estimateTokens("오늘은", 0)).isEqualTo(3);
+        assertThat(LlmRateLimiter.estimateTokens(null, -1)).isZero();
+    }
+
+    @Test
+    @DisplayName("분당 요청 수를 다 쓰면 max-wait 안에 채워지지 않는 요청은 즉시 거절한다")
+    void rejectsWhenRequestBucketIsEmpty() {
+        assertThat(call(WebClientConfig.OPENAI, 10, Mono.just("1"))).isEqualTo("1");
+        assertThat(call(WebClientConfig.OPENAI, 10, Mono.just("2"))).isEqualTo("2");
+
+        // 분당 2건은 30초에 1건씩 채워지므로 100ms 안에 호출할 수 없음
+        assertThatThrownBy(() -> call(WebClientConfig.OPENAI, 10, Mono.just("3")))
+                .isInstanceOf(LlmRateLimiter.RateLimitedException.class)
+                .matches(ExternalApiGuard::isRejected);
+        assertThat(counter("rejected", WebClientConfig.OPENAI)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("분당 토큰 수를 넘는 예약은 거절하고, 한도가 0인 항목은 제한하지 않는다")
+    void rejectsWhenTokenBucketIsEmpty() {
+        // gemini는 요청 수 제한 없음(0), 토큰 1000개
+        for (int i = 0; i < 5; i++) {
+            assertThat(call(WebClientConfig.GEMINI, 200, Mono.just("ok"))).isEqualTo("ok");
+        }
+
+        assertThatThrownBy(() -> call(WebClientConfig.GEMINI, 200, Mono.just("ok")))
+                .isInstanceOf(LlmRateLimiter.RateLimitedException.class);
+    }
+
+    @Test
+    @DisplayName("Retry-After 만큼 기다린 뒤 다시 시도한다")
+    void retriesAfterRetryAfterHeader() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> flaky = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.error(response(503, HttpHeaders.RETRY_AFTER, "0"))
+                : Mono.just("ok"));
+
+        assertThat(call(WebClientConfig.GEMINI, 10, flaky)).isEqualTo("ok");
+        assertThat(attempts).hasValue(2);
+        assertThat(counter("retry", WebClientConfig.GEMINI)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("429의 retry-after-ms 동안 같은 제공자의 다른 요청도 대기시킨다")
+    void pausesProviderOn429() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> limited = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.error(response(429, "retry-after-ms", "500"))
+                : Mono.just("ok"));
+
+        long started = System.nanoTime();
+        limited.transform(llmRateLimiter.limit(WebClientConfig.GEMINI, 10)).subscribe();
+
+        // 일시 중지(500ms)가 max-wait(100ms)보다 길어 다른 요청은 즉시 거절
+        assertThatThrownBy(() -> call(WebClientConfig.GEMINI, 10, Mono.just("other")))
+                .isInstanceOf(LlmRateLimiter.RateLimitedException.class);
+
+        ReflectionTestUtils.setField(llmRateLimiter, "maxWait", Duration.ofSeconds(2));
+        assertThat(call(WebClientConfig.GEMINI, 10, Mono.just("other"))).isEqualTo("other");
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(450));
+    }
+
+    @Test
+    @DisplayName("Retry-After가 허용 범위를 넘거나 요청 오류(4xx)면 다시 시도하지 않는다")
+    void doesNotRetryNonRetryableFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        WebClientResponseException tooLong = response(429, HttpHeaders.RETRY_AFTER, "60");
+        assertThatThrownBy(() -> call(WebClientConfig.GEMINI, 10, Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(tooLong);
+        }))).isSameAs(tooLong);
+        assertThat(attempts).hasValue(1);
+
+        WebClientResponseException badRequest = response(400, null, null);
+        assertThatThrownBy(() -> call(WebClientConfig.GEMINI, 10, Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(badRequest);
+        }))).isSameAs(badRequest);
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("5xx가 계속되면 최대 재시도 횟수 후 실패한다")
+    void givesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+        WebClientResponseException unavailable = response(503, null, null);
+
+        assertThatThrownBy(() -> call(WebClientConfig.GEMINI, 10, Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(unavailable);
+        }))).isSameAs(unavailable);
+        assertThat(attempts).hasValue(4);
+        assertThat(counter("retry", WebClientConfig.GEMINI)).isEqualTo(3.0);
+    }
+}
@@ -0,0 +1,114 @@
+package com.moodiary.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moodiary.service.OpenAiService.EmotionAnalysisResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class OpenAiServiceTest {
+
+    @Mock
+    private WebClient webClient;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private EmotionAnalysisCache emotionAnalysisCache;
+
+    @Mock
+    private ImagePreprocessor imagePreprocessor;
+
+    @Mock
+    private ExternalApiGuard externalApiGuard;
+
+    @Mock
+    private LlmRateLimiter llmRateLimiter;
+
+    @InjectMocks
+    private OpenAiService openAiService;
+
+    @Test
+    @DisplayName("기본 감정 결과는 캐시하지 않는다")
+    void defaultResultIsNotCacheable() {
+        assertThat(openAiService.getDefaultEmotionResult().isFallback()).isTrue();
+        assertThat(openAiService.isCacheable(openAiService.getDefaultEmotionResult())).isFalse();
+        assertThat(openAiService.isCacheable(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기본값과 값이 같은 실제 분석 결과도 캐시한다")
+    void genuineResultEqualToDefaultIsCacheable() {
+        EmotionAnalysisResult result = EmotionAnalysisResult.builder()
+                .emotion("calm")
+                .score(36.5)
+                .confidence(50.0)
+                .keywords("")
+                .build();
+
+        assertThat(openAiService.isCacheable(result)).isTrue();
+    }
+
+    @Test
+    @DisplayName("fallback 표시는 직렬화되지 않는다")
+    void fallbackFlagIsNotSerialized() throws Exception {
+        String json = new ObjectMapper().writeValueAsString(openAiService.getDefaultEmotionResult());
+
+        assertThat(json).doesNotContain("fallback");
+        assertThat(new ObjectMapper().readValue(json, EmotionAnalysisResult.class).isFallback()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Vision 요청 본문은 이미지를 청크 단위로 Base64 인코딩해 이어 붙인다")
+    void streamsImageAsBase64Chunks(@TempDir Path dir) throws Exception {
+        // 청크 2개 + 3의 배수가 아닌 마지막 청크
+        byte[] image = new byte[OpenAiService.BASE64_CHUNK_SIZE * 2 + 5];
+        new Random(42).nextBytes(image);
+        Path imagePath = dir.resolve("face.jpg");
+        Files.write(imagePath, image);
+
+        List<DataBuffer> buffers = openAiService.streamVisionRequestBody("프롬프트", imagePath, true)
+                .collectList()
+                .block();
+
+        // 앞부분 + 이미지 청크 3개 + 뒷부분
+        assertThat(buffers).hasSize(5);
+        assertThat(buffers.subList(1, 4)).allSatisfy(buffer ->
+                assertThat(buffer.readableByteCount()).isLessThanOrEqualTo(OpenAiService.BASE64_CHUNK_SIZE / 3 * 4));
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (DataBuffer buffer : buffers) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            body.write(bytes);
+        }
+        JsonNode request = new ObjectMapper().readTree(body.toString(StandardCharsets.UTF_8));
+        JsonNode content = request.at("/messages/0/content");
+        String url = content.get(1).at("/image_url/url").asText();
+
+        assertThat(content.get(0).get("text").asText()).isEqualTo("프롬프트");
+        assertThat(request.at("/response_format/type").asText()).isEqualTo("json_object");
+        assertThat(url).startsWith("data:image/jpeg;base64,");
+        assertThat(Base64.getDecoder().decode(url.substring("data:image/jpeg;base64,".length()))).isEqualTo(image);
+    }
+}